@@ -0,0 +1,80 @@
+package Bench;
+
+import Main.BlockingCircularDeque;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producer and consumer throughput of BlockingCircularDeque against LinkedBlockingDeque.
+ * Two producers putLast while two consumers takeFirst from the same bounded deque. Producers and consumers can
+ *      block on each other, so the trial ends with JMH interrupting whichever side is left waiting, which it
+ *      reports as a warning and not as an error.
+ *
+ * @author Julia Reynolds
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class BlockingDequeBenchmark
+{
+    @Param({"BlockingCircularDeque", "LinkedBlockingDeque"})
+    public String implementation;        // the class being measured
+
+    @Param({"16", "1024"})
+    public int capacity;                 // the most elements the deque holds
+
+    private BlockingDeque<Integer> deque; // the deque shared by the group
+    private Integer                item;  // the value the producers put
+
+    /**
+     * Builds the deque for a trial.
+     */
+    @Setup
+    public void setUp()
+    {
+        this.item = 1;
+
+        if (this.implementation.equals("BlockingCircularDeque"))
+        {
+            this.deque = new BlockingCircularDeque<>(this.capacity);
+        }
+        else
+        {
+            this.deque = new LinkedBlockingDeque<>(this.capacity);
+        }
+    }
+
+    @Benchmark
+    @Group("pipe")
+    @GroupThreads(2)
+    public void put() throws InterruptedException
+    {
+        this.deque.putLast(this.item);
+    }
+
+    @Benchmark
+    @Group("pipe")
+    @GroupThreads(2)
+    public Integer take() throws InterruptedException
+    {
+        return this.deque.takeFirst();
+    }
+}
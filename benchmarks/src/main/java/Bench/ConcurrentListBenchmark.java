@@ -0,0 +1,107 @@
+package Bench;
+
+import Main.ConcurrentCircularDoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks ConcurrentCircularDoublyLinkedList shared between threads, against ConcurrentLinkedDeque at the ends
+ *      and a LinkedList behind Collections.synchronizedList everywhere.
+ * Every thread adds and then removes, so the list never drops below its starting size and the middle index is
+ *      always in bounds. The thread count defaults to 4; the 1 to 32 thread sweep is run by passing -t, once for
+ *      each count:
+ *      for t in 1 2 4 8 16 32; do java -jar benchmarks/target/benchmarks.jar ConcurrentListBenchmark -t $t; done
+ *
+ * @author Julia Reynolds
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentListBenchmark
+{
+    @Param({"1000", "100000"})
+    public int size;                                          // the number of elements each list starts with
+
+    private ConcurrentCircularDoublyLinkedList<Integer> circular;    // the list with per-node locks
+    private ConcurrentLinkedDeque<Integer>              lockFree;    // the JDK's lock-free deque
+    private List<Integer>                               synchronize; // a LinkedList behind one monitor
+    private Integer                                     extra;       // the value every thread adds
+    private int                                         middle;      // the index half way along each list
+
+    /**
+     * Builds the lists for a trial.
+     */
+    @Setup
+    public void setUp()
+    {
+        Integer[] data;
+
+        data             = ListSubject.data(this.size);
+        this.circular    = new ConcurrentCircularDoublyLinkedList<>(data);
+        this.lockFree    = new ConcurrentLinkedDeque<>(Arrays.asList(data));
+        this.synchronize = Collections.synchronizedList(new LinkedList<>(Arrays.asList(data)));
+        this.extra       = -1;
+        this.middle      = this.size / 2;
+    }
+
+    @Benchmark
+    public Integer circularEnds()
+    {
+        this.circular.addLast(this.extra);
+
+        return this.circular.pollFirst();
+    }
+
+    @Benchmark
+    public Integer lockFreeEnds()
+    {
+        this.lockFree.addLast(this.extra);
+
+        return this.lockFree.pollFirst();
+    }
+
+    @Benchmark
+    public Integer synchronizedEnds()
+    {
+        this.synchronize.add(this.extra);
+
+        return this.synchronize.remove(0);
+    }
+
+    @Benchmark
+    public Integer circularMiddle()
+    {
+        this.circular.addAtIndex(this.extra, this.middle);
+
+        return this.circular.removeIndex(this.middle);
+    }
+
+    @Benchmark
+    public Integer synchronizedMiddle()
+    {
+        this.synchronize.add(this.middle, this.extra);
+
+        return this.synchronize.remove(this.middle);
+    }
+}
@@ -0,0 +1,116 @@
+package Bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the operations every compared class has: adding at either end, removing by value, building a
+ *      list out of an array, and toString.
+ * The list is built once per trial and every mutating benchmark undoes its own change, so the list is the same
+ *      size, holding the same values in the same order, before every invocation:
+ *      - addFirst and addLast are each paired with the O(1) remove from the same end
+ *      - removeDataHit removes the value at the middle and adds it back at the tail. The next call targets the
+ *        value that moved up into the middle, and after size - size / 2 calls the list is back where it started
+ *      - removeDataMiss searches the whole list for a value it doesn't hold and changes nothing
+ * CircularDoublyLinkedList.toString stops after TO_STRING_LIMIT elements while the java.util classes always write
+ *      every element, so for sizes above the limit toString compares what each class does when it is called,
+ *      not the same amount of work.
+ *
+ * @author Julia Reynolds
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class EndOperationBenchmark
+{
+    @Param({ListSubject.CIRCULAR, ListSubject.LINKED, ListSubject.ARRAY_LIST, ListSubject.ARRAY_DEQUE})
+    public String implementation; // the class being measured
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;              // the number of elements in the list
+
+    private ListSubject subject;  // the list being measured
+    private Integer[]   data;     // the values the list was built from, 0 through size - 1
+    private Integer     extra;    // a value the list doesn't hold
+    private int         next;     // how many removeDataHit calls into the current cycle we are
+
+    /**
+     * Builds the list for a trial.
+     */
+    @Setup
+    public void setUp()
+    {
+        this.data    = ListSubject.data(this.size);
+        this.subject = ListSubject.create(this.implementation, this.data);
+        this.extra   = -1;
+        this.next    = 0;
+    }
+
+    @Benchmark
+    public Integer addFirst()
+    {
+        this.subject.addFirst(this.extra);
+
+        return this.subject.removeFirst();
+    }
+
+    @Benchmark
+    public Integer addLast()
+    {
+        this.subject.addLast(this.extra);
+
+        return this.subject.removeLast();
+    }
+
+    @Benchmark
+    public boolean removeDataHit()
+    {
+        Integer target;
+        int     half;
+
+        half   = this.size / 2;
+        target = this.data[half + this.next];
+
+        if (++this.next == this.size - half)
+        {
+            this.next = 0;
+        }
+
+        this.subject.removeData(target);
+        this.subject.addLast(target);
+
+        return true;
+    }
+
+    @Benchmark
+    public boolean removeDataMiss()
+    {
+        return this.subject.removeData(this.extra);
+    }
+
+    @Benchmark
+    public Object construct()
+    {
+        return ListSubject.construct(this.implementation, this.data);
+    }
+
+    @Benchmark
+    public String toStringAll()
+    {
+        return this.subject.asString();
+    }
+}
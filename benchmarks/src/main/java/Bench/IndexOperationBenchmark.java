@@ -0,0 +1,140 @@
+package Bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the positional operations, addAtIndex, removeIndex and get, at the head, middle and tail.
+ * ArrayDeque has no positions, so only LinkedList and ArrayList are compared here.
+ * The list is built once per trial and every mutating benchmark undoes its own change with an O(1) operation at
+ *      the tail, so the list is the same size before every invocation:
+ *      - addAtIndex is paired with removeLast
+ *      - removeIndex is paired with addLast of the removed value
+ * The tail benchmarks use index size - 1 for removeIndex and size for addAtIndex. The middle ones are where a
+ *      walk from either end is longest, and are the ones to watch for a walk that goes the long way around.
+ * getMiddle alternates between index 0 and the middle, so the cached last lookup is never closer than an end and
+ *      every other call walks half the list. getSequential steps through every index in turn, the loop the cached
+ *      lookup is there for.
+ *
+ * @author Julia Reynolds
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class IndexOperationBenchmark
+{
+    @Param({ListSubject.CIRCULAR, ListSubject.LINKED, ListSubject.ARRAY_LIST})
+    public String implementation; // the class being measured
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;              // the number of elements in the list
+
+    private ListSubject subject;  // the list being measured
+    private Integer     extra;    // the value added by the addAtIndex benchmarks
+    private int         middle;   // the index half way along the list
+    private int         flip;     // 0 or 1, whether getMiddle reads the middle or the head next
+    private int         cursor;   // the index getSequential reads next
+
+    /**
+     * Builds the list for a trial.
+     */
+    @Setup
+    public void setUp()
+    {
+        this.subject = ListSubject.create(this.implementation, ListSubject.data(this.size));
+        this.extra   = -1;
+        this.middle  = this.size / 2;
+        this.flip    = 0;
+        this.cursor  = 0;
+    }
+
+    @Benchmark
+    public Integer addAtIndexHead()
+    {
+        this.subject.addAtIndex(this.extra, 0);
+
+        return this.subject.removeLast();
+    }
+
+    @Benchmark
+    public Integer addAtIndexMiddle()
+    {
+        this.subject.addAtIndex(this.extra, this.middle);
+
+        return this.subject.removeLast();
+    }
+
+    @Benchmark
+    public Integer addAtIndexTail()
+    {
+        this.subject.addAtIndex(this.extra, this.size);
+
+        return this.subject.removeLast();
+    }
+
+    @Benchmark
+    public Integer removeIndexHead()
+    {
+        Integer removed;
+
+        removed = this.subject.removeIndex(0);
+        this.subject.addLast(removed);
+
+        return removed;
+    }
+
+    @Benchmark
+    public Integer removeIndexMiddle()
+    {
+        Integer removed;
+
+        removed = this.subject.removeIndex(this.middle);
+        this.subject.addLast(removed);
+
+        return removed;
+    }
+
+    @Benchmark
+    public Integer removeIndexTail()
+    {
+        Integer removed;
+
+        removed = this.subject.removeIndex(this.size - 1);
+        this.subject.addLast(removed);
+
+        return removed;
+    }
+
+    @Benchmark
+    public Integer getMiddle()
+    {
+        this.flip ^= 1;
+
+        return this.subject.get(this.middle * this.flip);
+    }
+
+    @Benchmark
+    public Integer getSequential()
+    {
+        if (++this.cursor == this.size)
+        {
+            this.cursor = 0;
+        }
+
+        return this.subject.get(this.cursor);
+    }
+}
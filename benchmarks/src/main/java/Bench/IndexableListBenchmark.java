@@ -0,0 +1,102 @@
+package Bench;
+
+import Main.CircularDoublyLinkedList;
+import Main.IndexableCircularDoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks IndexableCircularDoublyLinkedList's O(log n) positional operations against the plain list's walk.
+ * The plain list remembers its last lookup, so every benchmark alternates between the points a third and two
+ *      thirds of the way along. Each one is then a third of the list away from the last lookup and from both ends,
+ *      and every call is a real walk. addAtIndex is paired with removeIndex at the same index so the size never
+ *      changes.
+ *
+ * @author Julia Reynolds
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class IndexableListBenchmark
+{
+    @Param({"10000", "1000000", "10000000"})
+    public int size;                                         // the number of elements in each list
+
+    private CircularDoublyLinkedList<Integer>          plain;     // the list that walks to an index
+    private IndexableCircularDoublyLinkedList<Integer> indexable; // the list with express lanes
+    private Integer                                    extra;     // the value added by the addAtIndex benchmarks
+    private int                                        third;     // the index a third of the way along
+    private int                                        flip;      // 0 or 1, whether the next call uses one third or two
+
+    /**
+     * Builds both lists for a trial.
+     */
+    @Setup
+    public void setUp()
+    {
+        Integer[] data;
+
+        data           = ListSubject.data(this.size);
+        this.plain     = new CircularDoublyLinkedList<>(data);
+        this.indexable = new IndexableCircularDoublyLinkedList<>(data);
+        this.extra     = -1;
+        this.third     = this.size / 3;
+        this.flip      = 0;
+    }
+
+    @Benchmark
+    public Integer plainGet()
+    {
+        this.flip ^= 1;
+
+        return this.plain.get(this.third * (1 + this.flip));
+    }
+
+    @Benchmark
+    public Integer indexableGet()
+    {
+        this.flip ^= 1;
+
+        return this.indexable.get(this.third * (1 + this.flip));
+    }
+
+    @Benchmark
+    public Integer plainAddRemove()
+    {
+        int index;
+
+        this.flip ^= 1;
+        index      = this.third * (1 + this.flip);
+
+        this.plain.addAtIndex(this.extra, index);
+
+        return this.plain.removeIndex(index);
+    }
+
+    @Benchmark
+    public Integer indexableAddRemove()
+    {
+        int index;
+
+        this.flip ^= 1;
+        index      = this.third * (1 + this.flip);
+
+        this.indexable.addAtIndex(this.extra, index);
+
+        return this.indexable.removeIndex(index);
+    }
+}
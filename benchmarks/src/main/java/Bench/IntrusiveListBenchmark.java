@@ -0,0 +1,122 @@
+package Bench;
+
+import Main.CircularDoublyLinkedList;
+import Main.IntrusiveCircularList;
+import Main.Linkable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks IntrusiveCircularList against CircularDoublyLinkedList holding the same element objects.
+ * queueChurn moves the first element to the back, the way a round-robin queue does: the plain list allocates a
+ *      new Node for every add, and the intrusive one allocates nothing. sumAll reads a field of every element,
+ *      which is one hop per element for the intrusive list and two for the plain one.
+ *
+ * @author Julia Reynolds
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class IntrusiveListBenchmark
+{
+    /**
+     * public static nested element class that carries its own links
+     */
+    public static final class Job extends Linkable<Job>
+    {
+        private final long cost; // a value for sumAll to read
+
+        private Job(long cost)
+        {
+            this.cost = cost;
+        }
+    }
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;                                  // the number of elements in each list
+
+    private CircularDoublyLinkedList<Job> plain;     // the list that wraps every element in a Node
+    private IntrusiveCircularList<Job>    intrusive; // the list of the elements themselves
+
+    /**
+     * Builds both lists for a trial, out of separate elements since an element can only be in one intrusive list.
+     */
+    @Setup
+    public void setUp()
+    {
+        this.plain     = new CircularDoublyLinkedList<>();
+        this.intrusive = new IntrusiveCircularList<>();
+
+        for (int idx = 0; idx < this.size; idx++)
+        {
+            this.plain.addLast(new Job(idx));
+            this.intrusive.addLast(new Job(idx));
+        }
+    }
+
+    @Benchmark
+    public Job plainQueueChurn()
+    {
+        Job job;
+
+        job = this.plain.pollFirst();
+        this.plain.addLast(job);
+
+        return job;
+    }
+
+    @Benchmark
+    public Job intrusiveQueueChurn()
+    {
+        Job job;
+
+        job = this.intrusive.pollFirst();
+        this.intrusive.addLast(job);
+
+        return job;
+    }
+
+    @Benchmark
+    public long plainSumAll()
+    {
+        long sum;
+
+        sum = 0;
+
+        for (Job job : this.plain)
+        {
+            sum += job.cost;
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long intrusiveSumAll()
+    {
+        long sum;
+
+        sum = 0;
+
+        for (Job job : this.intrusive)
+        {
+            sum += job.cost;
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,317 @@
+package Bench;
+
+import Main.CircularDoublyLinkedList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Common face for the lists the benchmarks compare, so one benchmark method can run against each of them.
+ * Every benchmark fork only ever uses one implementation, so the calls through this class stay monomorphic and
+ *      the JIT inlines them the same way it would a direct call.
+ * ArrayDeque has no positional operations, so its addAtIndex and removeIndex throw
+ *      UnsupportedOperationException and the positional benchmarks leave it out.
+ *
+ * @author Julia Reynolds
+ */
+abstract class ListSubject
+{
+    static final String CIRCULAR    = "CircularDoublyLinkedList"; // Main.CircularDoublyLinkedList
+    static final String LINKED      = "LinkedList";               // java.util.LinkedList
+    static final String ARRAY_LIST  = "ArrayList";                // java.util.ArrayList
+    static final String ARRAY_DEQUE = "ArrayDeque";               // java.util.ArrayDeque
+
+    /**
+     * Makes a subject of the named implementation holding the data, first to last.
+     *
+     * @param implementation the name of the implementation, one of the constants above
+     * @param data the data to fill the list with
+     * @return a new subject holding the data
+     * @throws IllegalArgumentException throws exception if the name isn't one of the implementations
+     */
+    static ListSubject create(String implementation, Integer[] data) throws IllegalArgumentException
+    {
+        switch (implementation)
+        {
+            case CIRCULAR:
+                return new Circular(new CircularDoublyLinkedList<>(data));
+            case LINKED:
+                return new Standard(new LinkedList<>(Arrays.asList(data)));
+            case ARRAY_LIST:
+                return new Standard(new ArrayList<>(Arrays.asList(data)));
+            case ARRAY_DEQUE:
+                return new Deque(new ArrayDeque<>(Arrays.asList(data)));
+            default:
+                throw new IllegalArgumentException("cannot create list. unknown implementation " + implementation);
+        }
+    }
+
+    /**
+     * Makes a list of the named implementation holding the data, the way a caller of that class would:
+     *      the varargs constructor for CircularDoublyLinkedList and the Collection constructor for the others.
+     *
+     * @param implementation the name of the implementation, one of the constants above
+     * @param data the data to fill the list with
+     * @return the new list
+     * @throws IllegalArgumentException throws exception if the name isn't one of the implementations
+     */
+    static Object construct(String implementation, Integer[] data) throws IllegalArgumentException
+    {
+        switch (implementation)
+        {
+            case CIRCULAR:
+                return new CircularDoublyLinkedList<>(data);
+            case LINKED:
+                return new LinkedList<>(Arrays.asList(data));
+            case ARRAY_LIST:
+                return new ArrayList<>(Arrays.asList(data));
+            case ARRAY_DEQUE:
+                return new ArrayDeque<>(Arrays.asList(data));
+            default:
+                throw new IllegalArgumentException("cannot create list. unknown implementation " + implementation);
+        }
+    }
+
+    /**
+     * Makes the data 0 through size - 1, boxed once up front so boxing isn't part of any measurement.
+     *
+     * @param size the number of elements
+     * @return the boxed data
+     */
+    static Integer[] data(int size)
+    {
+        Integer[] data;
+        int       idx;
+
+        data = new Integer[size];
+
+        for (idx = 0; idx < size; idx++)
+        {
+            data[idx] = idx;
+        }
+
+        return data;
+    }
+
+    abstract void addFirst(Integer data);
+
+    abstract void addLast(Integer data);
+
+    abstract Integer removeFirst();
+
+    abstract Integer removeLast();
+
+    abstract void addAtIndex(Integer data, int index);
+
+    abstract Integer removeIndex(int index);
+
+    abstract Integer get(int index);
+
+    abstract boolean removeData(Integer data);
+
+    abstract String asString();
+
+    /**
+     * private static nested subject class for CircularDoublyLinkedList
+     */
+    private static final class Circular extends ListSubject
+    {
+        private final CircularDoublyLinkedList<Integer> list;
+
+        Circular(CircularDoublyLinkedList<Integer> list)
+        {
+            this.list = list;
+        }
+
+        @Override
+        void addFirst(Integer data)
+        {
+            this.list.addFirst(data);
+        }
+
+        @Override
+        void addLast(Integer data)
+        {
+            this.list.addLast(data);
+        }
+
+        @Override
+        Integer removeFirst()
+        {
+            return this.list.removeFirst();
+        }
+
+        @Override
+        Integer removeLast()
+        {
+            return this.list.removeLast();
+        }
+
+        @Override
+        void addAtIndex(Integer data, int index)
+        {
+            this.list.addAtIndex(data, index);
+        }
+
+        @Override
+        Integer removeIndex(int index)
+        {
+            return this.list.removeIndex(index);
+        }
+
+        @Override
+        Integer get(int index)
+        {
+            return this.list.get(index);
+        }
+
+        @Override
+        boolean removeData(Integer data)
+        {
+            return this.list.removeData(data);
+        }
+
+        @Override
+        String asString()
+        {
+            return this.list.toString();
+        }
+    }
+
+    /**
+     * private static nested subject class for LinkedList and ArrayList
+     */
+    private static final class Standard extends ListSubject
+    {
+        private final List<Integer> list;
+
+        Standard(List<Integer> list)
+        {
+            this.list = list;
+        }
+
+        @Override
+        void addFirst(Integer data)
+        {
+            this.list.add(0, data);
+        }
+
+        @Override
+        void addLast(Integer data)
+        {
+            this.list.add(data);
+        }
+
+        @Override
+        Integer removeFirst()
+        {
+            return this.list.remove(0);
+        }
+
+        @Override
+        Integer removeLast()
+        {
+            return this.list.remove(this.list.size() - 1);
+        }
+
+        @Override
+        void addAtIndex(Integer data, int index)
+        {
+            this.list.add(index, data);
+        }
+
+        @Override
+        Integer removeIndex(int index)
+        {
+            return this.list.remove(index);
+        }
+
+        @Override
+        Integer get(int index)
+        {
+            return this.list.get(index);
+        }
+
+        @Override
+        boolean removeData(Integer data)
+        {
+            return this.list.remove(data);
+        }
+
+        @Override
+        String asString()
+        {
+            return this.list.toString();
+        }
+    }
+
+    /**
+     * private static nested subject class for ArrayDeque
+     */
+    private static final class Deque extends ListSubject
+    {
+        private final ArrayDeque<Integer> deque;
+
+        Deque(ArrayDeque<Integer> deque)
+        {
+            this.deque = deque;
+        }
+
+        @Override
+        void addFirst(Integer data)
+        {
+            this.deque.addFirst(data);
+        }
+
+        @Override
+        void addLast(Integer data)
+        {
+            this.deque.addLast(data);
+        }
+
+        @Override
+        Integer removeFirst()
+        {
+            return this.deque.removeFirst();
+        }
+
+        @Override
+        Integer removeLast()
+        {
+            return this.deque.removeLast();
+        }
+
+        @Override
+        void addAtIndex(Integer data, int index)
+        {
+            throw new UnsupportedOperationException("cannot add at index. ArrayDeque has no positions");
+        }
+
+        @Override
+        Integer removeIndex(int index)
+        {
+            throw new UnsupportedOperationException("cannot remove at index. ArrayDeque has no positions");
+        }
+
+        @Override
+        Integer get(int index)
+        {
+            throw new UnsupportedOperationException("cannot get at index. ArrayDeque has no positions");
+        }
+
+        @Override
+        boolean removeData(Integer data)
+        {
+            return this.deque.removeFirstOccurrence(data);
+        }
+
+        @Override
+        String asString()
+        {
+            return this.deque.toString();
+        }
+    }
+}
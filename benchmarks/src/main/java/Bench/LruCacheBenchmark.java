@@ -0,0 +1,110 @@
+package Bench;
+
+import Main.LruCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks LruCache against a LinkedHashMap in access order that evicts its eldest entry, the usual way to get
+ *      an LRU cache out of the JDK.
+ * Each call looks up a key drawn from a range twice the capacity, so about half the lookups miss, and a miss puts
+ *      the key in and evicts the least recently used entry. The keys are drawn up front so the random number
+ *      generator isn't measured.
+ *
+ * @author Julia Reynolds
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LruCacheBenchmark
+{
+    private static final int KEYS = 1 << 16; // the number of keys drawn up front, a power of two
+
+    @Param({"100", "10000", "1000000"})
+    public int capacity;                          // the most entries either cache holds
+
+    private LruCache<Integer, Integer>      cache;  // the cache built on the circular list
+    private LinkedHashMap<Integer, Integer> map;    // the cache built on LinkedHashMap
+    private Integer[]                       keys;   // the keys looked up, in order
+    private int                             next;   // the index of the next key
+
+    /**
+     * Builds both caches for a trial and draws the keys.
+     */
+    @Setup
+    public void setUp()
+    {
+        SplittableRandom random;
+        int              idx, bound, limit;
+
+        random = new SplittableRandom(42);
+        bound  = this.capacity * 2;
+        limit  = this.capacity;
+
+        this.cache = new LruCache<>(this.capacity);
+        this.map   = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest)
+            {
+                return size() > limit;
+            }
+        };
+        this.keys  = new Integer[KEYS];
+        this.next  = 0;
+
+        for (idx = 0; idx < KEYS; idx++)
+        {
+            this.keys[idx] = random.nextInt(bound);
+        }
+    }
+
+    @Benchmark
+    public Integer lruCache()
+    {
+        Integer key, value;
+
+        key   = this.keys[this.next++ & (KEYS - 1)];
+        value = this.cache.get(key);
+
+        if (value == null)
+        {
+            this.cache.put(key, key);
+        }
+
+        return value;
+    }
+
+    @Benchmark
+    public Integer linkedHashMap()
+    {
+        Integer key, value;
+
+        key   = this.keys[this.next++ & (KEYS - 1)];
+        value = this.map.get(key);
+
+        if (value == null)
+        {
+            this.map.put(key, key);
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,108 @@
+package Bench;
+
+import Main.MutationBatch;
+import Main.StampedCircularDoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a burst of writes to a StampedCircularDoublyLinkedList made one call at a time against the same
+ *      burst recorded into a MutationBatch and applied once.
+ * Each burst adds an element at every one of edits random indexes and removes one at each, so the list keeps its
+ *      size. One call at a time takes the write lock and walks from the nearer end for every add and remove; the
+ *      batch takes the lock once and walks the list forwards once. Building the batch is part of what is timed.
+ *
+ * @author Julia Reynolds
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MutationBatchBenchmark
+{
+    @Param({"1000", "100000"})
+    public int size;                                         // the number of elements in the list
+
+    @Param({"16", "256"})
+    public int edits;                                        // the number of adds, and of removes, in each burst
+
+    private StampedCircularDoublyLinkedList<Integer> list;      // the list written to
+    private int[]                                    positions; // the distinct indexes each burst writes at
+    private Integer                                  extra;     // the value every add adds
+
+    /**
+     * Builds the list and picks the indexes for a trial.
+     */
+    @Setup
+    public void setUp()
+    {
+        Random random;
+        int[]  shuffled;
+        int    pick, swap;
+
+        this.list      = new StampedCircularDoublyLinkedList<>(ListSubject.data(this.size));
+        this.positions = new int[this.edits];
+        this.extra     = -1;
+        random         = new Random(25);
+        shuffled       = new int[this.size];
+
+        for (int idx = 0; idx < this.size; idx++)
+        {
+            shuffled[idx] = idx;
+        }
+
+        for (int idx = 0; idx < this.edits; idx++)            // a partial shuffle, so the indexes don't repeat
+        {
+            pick           = idx + random.nextInt(this.size - idx);
+            swap           = shuffled[idx];
+            shuffled[idx]  = shuffled[pick];
+            shuffled[pick] = swap;
+
+            this.positions[idx] = shuffled[idx];
+        }
+    }
+
+    @Benchmark
+    public int oneAtATime()
+    {
+        for (int position : this.positions)
+        {
+            this.list.addAtIndex(this.extra, position);
+            this.list.removeIndex(position + 1);
+        }
+
+        return this.list.size();
+    }
+
+    @Benchmark
+    public int batched()
+    {
+        MutationBatch<Integer> batch;
+
+        batch = new MutationBatch<>();
+
+        for (int position : this.positions)
+        {
+            batch.addAtIndex(this.extra, position);
+            batch.removeIndex(position);
+        }
+
+        this.list.apply(batch);
+
+        return this.list.size();
+    }
+}
@@ -0,0 +1,80 @@
+package Bench;
+
+import Main.CircularDoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks summing a list with a sequential and a parallel stream, to check that the list's spliterator splits
+ *      as well as LinkedList's and to see how far behind ArrayList's exact halving it is.
+ * The parallel numbers only mean something on a machine with more than one core.
+ *
+ * @author Julia Reynolds
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class ParallelStreamBenchmark
+{
+    @Param({ListSubject.CIRCULAR, ListSubject.LINKED, ListSubject.ARRAY_LIST})
+    public String implementation;  // the class being measured
+
+    @Param({"10000", "1000000"})
+    public int size;               // the number of elements in the list
+
+    private Collection<Integer> list; // the list being summed
+
+    /**
+     * Builds the list for a trial.
+     */
+    @Setup
+    public void setUp()
+    {
+        Integer[] data;
+
+        data = ListSubject.data(this.size);
+
+        switch (this.implementation)
+        {
+            case ListSubject.CIRCULAR:
+                this.list = new CircularDoublyLinkedList<>(data);
+                break;
+            case ListSubject.LINKED:
+                this.list = new LinkedList<>(Arrays.asList(data));
+                break;
+            default:
+                this.list = new ArrayList<>(Arrays.asList(data));
+                break;
+        }
+    }
+
+    @Benchmark
+    public long sequentialSum()
+    {
+        return this.list.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelSum()
+    {
+        return this.list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,104 @@
+package Bench;
+
+import Main.CircularDoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the value index against a plain scan for contains and removeData, and measures what the index costs.
+ * Run with -prof gc: gc.alloc.rate.norm on buildIndexed minus buildPlain is the memory the index takes for a list
+ *      of that size, in bytes. The build benchmarks make their own list and don't depend on the indexed
+ *      parameter.
+ * removeData removes the value at the middle and adds it back at the tail, the same cycle EndOperationBenchmark
+ *      uses, so the list holds the same values before every call.
+ *
+ * @author Julia Reynolds
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class ValueIndexBenchmark
+{
+    @Param({"false", "true"})
+    public boolean indexed;                     // whether the value index is on
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;                            // the number of elements in the list
+
+    private CircularDoublyLinkedList<Integer> list; // the list being measured
+    private Integer[]                         data; // the values the list was built from, 0 through size - 1
+    private int                               next; // how many removeData calls into the current cycle we are
+
+    /**
+     * Builds the list for a trial.
+     */
+    @Setup
+    public void setUp()
+    {
+        this.data = ListSubject.data(this.size);
+        this.list = new CircularDoublyLinkedList<>(this.data);
+        this.next = 0;
+
+        if (this.indexed)
+        {
+            this.list.enableValueIndex();
+        }
+    }
+
+    @Benchmark
+    public boolean containsMiddle()
+    {
+        return this.list.contains(this.data[this.size / 2]);
+    }
+
+    @Benchmark
+    public boolean removeData()
+    {
+        Integer target;
+        int     half;
+
+        half   = this.size / 2;
+        target = this.data[half + this.next];
+
+        if (++this.next == this.size - half)
+        {
+            this.next = 0;
+        }
+
+        this.list.removeData(target);
+        this.list.addLast(target);
+
+        return true;
+    }
+
+    @Benchmark
+    public CircularDoublyLinkedList<Integer> buildPlain()
+    {
+        return new CircularDoublyLinkedList<>(this.data);
+    }
+
+    @Benchmark
+    public CircularDoublyLinkedList<Integer> buildIndexed()
+    {
+        CircularDoublyLinkedList<Integer> built;
+
+        built = new CircularDoublyLinkedList<>(this.data);
+        built.enableValueIndex();
+
+        return built;
+    }
+}
@@ -0,0 +1,304 @@
+package Main;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary file format for saving and loading lists.
+ * A file starts with a 24 byte header, followed by every element written by an ElementCodec, first to last:
+ *      - 4 bytes: the magic number 0x43444C4C, which is "CDLL" in ASCII
+ *      - 4 bytes: the format version
+ *      - 4 bytes: the codec's fixed width, or -1 if elements can take different numbers of bytes
+ *      - 4 bytes: reserved, always 0, which keeps the elements 8 byte aligned
+ *      - 8 bytes: the number of elements
+ * Writing and reading stream the elements through one direct ByteBuffer and a FileChannel, so the codec works
+ *      right on the buffer the channel uses and there is no array in between.
+ * A file written with a fixed width codec can also be opened with map, which memory-maps it and reads elements
+ *      straight out of the mapping as they are asked for. Nothing is read up front, so opening is fast no matter
+ *      how big the file is.
+ *
+ * @author Julia Reynolds
+ */
+public final class BinaryListFormat
+{
+    public static final int  MAGIC       = 0x43444C4C; // the magic number every file starts with, "CDLL" in ASCII
+    public static final int  VERSION     = 1;          // the current format version
+    public static final int  HEADER_SIZE = 24;         // the number of bytes before the first element
+    private static final int CHUNK_SIZE  = 1 << 16;    // the size of the buffer elements are streamed through
+
+    /**
+     * Private constructor, since this class only has static methods.
+     */
+    private BinaryListFormat()
+    {
+    }
+
+    /**
+     * Writes a list to a file, replacing anything that was in the file before.
+     *
+     * @param list the list to write
+     * @param codec the codec to write the elements with
+     * @param path the file to write to
+     * @param <Type> the type of object stored in the list
+     * @throws IOException throws exception if the file can't be written
+     */
+    public static <Type> void write(CircularDoublyLinkedList<Type> list, ElementCodec<? super Type> codec, Path path)
+            throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            write(list, codec, channel);
+        }
+    }
+
+    /**
+     * Writes a list to a channel, starting at the channel's position.
+     *
+     * @param list the list to write
+     * @param codec the codec to write the elements with
+     * @param channel the channel to write to
+     * @param <Type> the type of object stored in the list
+     * @throws IOException throws exception if the channel can't be written
+     */
+    public static <Type> void write(CircularDoublyLinkedList<Type> list, ElementCodec<? super Type> codec,
+                                    FileChannel channel) throws IOException
+    {
+        ByteBuffer buffer;
+        int        size;
+
+        buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(codec.fixedWidth());
+        buffer.putInt(0);
+        buffer.putLong(list.size());
+
+        for (Type data : list)
+        {
+            size = codec.sizeOf(data);
+
+            if (size > buffer.remaining())          // no room left, so send what we have to the channel first
+            {
+                flush(buffer, channel);
+
+                if (size > buffer.capacity())       // an element bigger than the whole buffer gets its own buffer
+                {
+                    buffer = ByteBuffer.allocateDirect(size);
+                }
+            }
+
+            codec.write(buffer, data);
+        }
+
+        flush(buffer, channel);
+    }
+
+    /**
+     * Reads a list from a file.
+     *
+     * @param path the file to read from
+     * @param codec the codec the elements were written with
+     * @param <Type> the type of object stored in the list
+     * @return a new list holding the elements in the file
+     * @throws IOException throws exception if the file can't be read or isn't a list file for this codec
+     */
+    public static <Type> CircularDoublyLinkedList<Type> read(Path path, ElementCodec<Type> codec) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            return read(channel, codec);
+        }
+    }
+
+    /**
+     * Reads a list from a channel, starting at the channel's position.
+     * If an element is cut off at the end of the buffer, the codec throws BufferUnderflowException. The buffer is
+     *      then moved along and refilled from the channel, or made bigger if the element doesn't fit in it at all,
+     *      and the element is read again from its start.
+     *
+     * @param channel the channel to read from
+     * @param codec the codec the elements were written with
+     * @param <Type> the type of object stored in the list
+     * @return a new list holding the elements in the channel
+     * @throws IOException throws exception if the channel can't be read or isn't a list file for this codec
+     */
+    public static <Type> CircularDoublyLinkedList<Type> read(FileChannel channel, ElementCodec<Type> codec)
+            throws IOException
+    {
+        CircularDoublyLinkedList<Type> list;
+        ByteBuffer                     buffer, bigger;
+        long                           count, idx;
+        int                            start;
+
+        buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+
+        fill(buffer, channel, HEADER_SIZE);
+        count = readHeader(buffer, codec);
+        list  = new CircularDoublyLinkedList<>();
+
+        for (idx = 0; idx < count; )
+        {
+            start = buffer.position();
+
+            try
+            {
+                list.addLast(codec.read(buffer));
+                idx++;
+            }
+            catch (BufferUnderflowException exception)
+            {
+                buffer.position(start);
+
+                if (start == 0 && buffer.limit() == buffer.capacity())  // the element is bigger than the buffer
+                {
+                    bigger = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                    bigger.put(buffer);
+                    bigger.flip();
+                    buffer = bigger;
+                }
+
+                buffer.compact();
+
+                if (channel.read(buffer) < 0)
+                {
+                    throw new IOException("cannot read list. file ends partway through an element");
+                }
+
+                buffer.flip();
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Memory-maps a file as a read-only list view.
+     * The file has to have been written with a fixed width codec. Elements are read out of the mapping each time
+     *      they are asked for, so opening the view costs the same for any size of file. A single mapping can be
+     *      at most 2 GB.
+     * The mapping stays valid after the view is made even though the file is closed, and is let go when the view
+     *      is garbage collected.
+     *
+     * @param path the file to map
+     * @param codec the fixed width codec the elements were written with
+     * @param <Type> the type of object stored in the list
+     * @return a read-only list view of the file
+     * @throws IOException throws exception if the file can't be mapped or isn't a list file for this codec
+     * @throws IllegalArgumentException throws exception if the codec is not fixed width
+     */
+    public static <Type> MappedListView<Type> map(Path path, ElementCodec<Type> codec)
+            throws IOException, IllegalArgumentException
+    {
+        MappedByteBuffer buffer;
+        long             count;
+
+        if (codec.fixedWidth() <= 0)
+        {
+            throw new IllegalArgumentException("cannot map list. codec is not fixed width");
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            if (channel.size() > Integer.MAX_VALUE)
+            {
+                throw new IOException("cannot map list. file is larger than 2 GB");
+            }
+
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        count = readHeader(buffer, codec);
+
+        if (HEADER_SIZE + count * codec.fixedWidth() > buffer.capacity())
+        {
+            throw new IOException("cannot map list. file is shorter than its header says");
+        }
+
+        return new MappedListView<>(buffer, codec, (int) count);
+    }
+
+    /**
+     * Reads and checks the header at the buffer's position.
+     *
+     * @param buffer the buffer holding the header
+     * @param codec the codec the elements should have been written with
+     * @return the number of elements after the header
+     * @throws IOException throws exception if the header isn't a list file header for this codec
+     */
+    private static long readHeader(ByteBuffer buffer, ElementCodec<?> codec) throws IOException
+    {
+        long count;
+
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC)
+        {
+            throw new IOException("cannot read list. file is not a list file");
+        }
+
+        if (buffer.getInt() != VERSION)
+        {
+            throw new IOException("cannot read list. file was written by a different format version");
+        }
+
+        if (buffer.getInt() != codec.fixedWidth())
+        {
+            throw new IOException("cannot read list. file was written with a different codec");
+        }
+
+        buffer.getInt();                            // reserved
+        count = buffer.getLong();
+
+        if (count < 0 || count > Integer.MAX_VALUE)
+        {
+            throw new IOException("cannot read list. element count is out of range");
+        }
+
+        return count;
+    }
+
+    /**
+     * Reads from a channel until the buffer holds at least the specified number of bytes, then flips it.
+     *
+     * @param buffer the buffer to fill
+     * @param channel the channel to read from
+     * @param needed the least number of bytes to read
+     * @throws IOException throws exception if the channel ends first
+     */
+    private static void fill(ByteBuffer buffer, FileChannel channel, int needed) throws IOException
+    {
+        while (buffer.position() < needed)
+        {
+            if (channel.read(buffer) < 0)
+            {
+                throw new IOException("cannot read list. file is not a list file");
+            }
+        }
+
+        buffer.flip();
+    }
+
+    /**
+     * Writes everything in the buffer to the channel and empties the buffer.
+     *
+     * @param buffer the buffer to write out
+     * @param channel the channel to write to
+     * @throws IOException throws exception if the channel can't be written
+     */
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException
+    {
+        buffer.flip();
+
+        while (buffer.hasRemaining())
+        {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+}
@@ -0,0 +1,1138 @@
+package Main;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Blocking, optionally bounded deque built on a CircularDoublyLinkedList.
+ * Every operation runs under one lock, with two conditions for threads that have to wait: takers wait on notEmpty
+ *      until something is added, and putters wait on notFull until something is removed. Both ends of the list are
+ *      one hop from its dummy head, so the time spent holding the lock for an end operation is O(1).
+ * drainTo moves as many elements as it can under a single lock acquisition, so a consumer working in batches pays
+ *      for the lock once per batch instead of once per element.
+ * Like every BlockingDeque, this does not accept null elements.
+ * Iterators are weakly consistent: they walk the deque's nodes one at a time, holding the lock only for each hop,
+ *      so they never throw ConcurrentModificationException, never hold anybody up for more than a hop, and see
+ *      some of the changes made while they are running.
+ *
+ * @param <Type> the type of object stored in the deque
+ * @author Julia Reynolds
+ */
+public class BlockingCircularDeque<Type> extends AbstractQueue<Type> implements BlockingDeque<Type>
+{
+    private final CircularDoublyLinkedList<Type> list;     // the elements, only touched under the lock
+    private final int                            capacity; // the most elements the deque will hold
+    private final ReentrantLock                  lock;     // guards list
+    private final Condition                      notEmpty; // signalled when an element is added
+    private final Condition                      notFull;  // signalled when an element is removed
+
+    /**
+     * Constructor for a deque with no capacity limit.
+     */
+    public BlockingCircularDeque()
+    {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor for a deque that holds up to capacity elements.
+     *
+     * @param capacity the most elements the deque will hold
+     * @throws IllegalArgumentException throws exception if capacity is less than 1
+     */
+    public BlockingCircularDeque(int capacity) throws IllegalArgumentException
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("cannot create deque. capacity must be at least 1");
+        }
+
+        this.list     = new CircularDoublyLinkedList<>();
+        this.capacity = capacity;
+        this.lock     = new ReentrantLock();
+        this.notEmpty = this.lock.newCondition();
+        this.notFull  = this.lock.newCondition();
+    }
+
+    /**
+     * Adds data to the front of the deque if there is room.
+     *
+     * @param data the data to add
+     * @throws IllegalStateException throws exception if the deque is full
+     */
+    @Override
+    public void addFirst(Type data) throws IllegalStateException
+    {
+        if (!offerFirst(data))
+        {
+            throw new IllegalStateException("cannot add data to deque. deque is full");
+        }
+    }
+
+    /**
+     * Adds data to the back of the deque if there is room.
+     *
+     * @param data the data to add
+     * @throws IllegalStateException throws exception if the deque is full
+     */
+    @Override
+    public void addLast(Type data) throws IllegalStateException
+    {
+        if (!offerLast(data))
+        {
+            throw new IllegalStateException("cannot add data to deque. deque is full");
+        }
+    }
+
+    /**
+     * Adds data to the front of the deque if there is room, without waiting.
+     *
+     * @param data the data to add
+     * @return true if the data was added, false if the deque is full
+     */
+    @Override
+    public boolean offerFirst(Type data)
+    {
+        Objects.requireNonNull(data);
+        this.lock.lock();
+
+        try
+        {
+            return linkFirst(data);
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Adds data to the back of the deque if there is room, without waiting.
+     *
+     * @param data the data to add
+     * @return true if the data was added, false if the deque is full
+     */
+    @Override
+    public boolean offerLast(Type data)
+    {
+        Objects.requireNonNull(data);
+        this.lock.lock();
+
+        try
+        {
+            return linkLast(data);
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Adds data to the front of the deque, waiting for room if it is full.
+     *
+     * @param data the data to add
+     * @throws InterruptedException throws exception if interrupted while waiting
+     */
+    @Override
+    public void putFirst(Type data) throws InterruptedException
+    {
+        Objects.requireNonNull(data);
+        this.lock.lockInterruptibly();
+
+        try
+        {
+            while (!linkFirst(data))
+            {
+                this.notFull.await();
+            }
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Adds data to the back of the deque, waiting for room if it is full.
+     *
+     * @param data the data to add
+     * @throws InterruptedException throws exception if interrupted while waiting
+     */
+    @Override
+    public void putLast(Type data) throws InterruptedException
+    {
+        Objects.requireNonNull(data);
+        this.lock.lockInterruptibly();
+
+        try
+        {
+            while (!linkLast(data))
+            {
+                this.notFull.await();
+            }
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Adds data to the front of the deque, waiting up to the timeout for room if it is full.
+     *
+     * @param data the data to add
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of the timeout
+     * @return true if the data was added, false if the timeout ran out first
+     * @throws InterruptedException throws exception if interrupted while waiting
+     */
+    @Override
+    public boolean offerFirst(Type data, long timeout, TimeUnit unit) throws InterruptedException
+    {
+        long nanos;
+
+        Objects.requireNonNull(data);
+        nanos = unit.toNanos(timeout);
+        this.lock.lockInterruptibly();
+
+        try
+        {
+            while (!linkFirst(data))
+            {
+                if (nanos <= 0)
+                {
+                    return false;
+                }
+
+                nanos = this.notFull.awaitNanos(nanos);
+            }
+
+            return true;
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Adds data to the back of the deque, waiting up to the timeout for room if it is full.
+     *
+     * @param data the data to add
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of the timeout
+     * @return true if the data was added, false if the timeout ran out first
+     * @throws InterruptedException throws exception if interrupted while waiting
+     */
+    @Override
+    public boolean offerLast(Type data, long timeout, TimeUnit unit) throws InterruptedException
+    {
+        long nanos;
+
+        Objects.requireNonNull(data);
+        nanos = unit.toNanos(timeout);
+        this.lock.lockInterruptibly();
+
+        try
+        {
+            while (!linkLast(data))
+            {
+                if (nanos <= 0)
+                {
+                    return false;
+                }
+
+                nanos = this.notFull.awaitNanos(nanos);
+            }
+
+            return true;
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the front of the deque.
+     *
+     * @return the data removed from the deque
+     * @throws NoSuchElementException throws exception if the deque is empty
+     */
+    @Override
+    public Type removeFirst() throws NoSuchElementException
+    {
+        Type data;
+
+        data = pollFirst();
+
+        if (data == null)
+        {
+            throw new NoSuchElementException("cannot remove data from deque. deque is empty");
+        }
+
+        return data;
+    }
+
+    /**
+     * Removes the element at the back of the deque.
+     *
+     * @return the data removed from the deque
+     * @throws NoSuchElementException throws exception if the deque is empty
+     */
+    @Override
+    public Type removeLast() throws NoSuchElementException
+    {
+        Type data;
+
+        data = pollLast();
+
+        if (data == null)
+        {
+            throw new NoSuchElementException("cannot remove data from deque. deque is empty");
+        }
+
+        return data;
+    }
+
+    /**
+     * Removes the element at the front of the deque, without waiting.
+     *
+     * @return the data removed from the deque, or null if the deque is empty
+     */
+    @Override
+    public Type pollFirst()
+    {
+        this.lock.lock();
+
+        try
+        {
+            return unlinkFirst();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the back of the deque, without waiting.
+     *
+     * @return the data removed from the deque, or null if the deque is empty
+     */
+    @Override
+    public Type pollLast()
+    {
+        this.lock.lock();
+
+        try
+        {
+            return unlinkLast();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the front of the deque, waiting for one if it is empty.
+     *
+     * @return the data removed from the deque
+     * @throws InterruptedException throws exception if interrupted while waiting
+     */
+    @Override
+    public Type takeFirst() throws InterruptedException
+    {
+        Type data;
+
+        this.lock.lockInterruptibly();
+
+        try
+        {
+            while ((data = unlinkFirst()) == null)
+            {
+                this.notEmpty.await();
+            }
+
+            return data;
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the back of the deque, waiting for one if it is empty.
+     *
+     * @return the data removed from the deque
+     * @throws InterruptedException throws exception if interrupted while waiting
+     */
+    @Override
+    public Type takeLast() throws InterruptedException
+    {
+        Type data;
+
+        this.lock.lockInterruptibly();
+
+        try
+        {
+            while ((data = unlinkLast()) == null)
+            {
+                this.notEmpty.await();
+            }
+
+            return data;
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the front of the deque, waiting up to the timeout for one if it is empty.
+     *
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of the timeout
+     * @return the data removed from the deque, or null if the timeout ran out first
+     * @throws InterruptedException throws exception if interrupted while waiting
+     */
+    @Override
+    public Type pollFirst(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        Type data;
+        long nanos;
+
+        nanos = unit.toNanos(timeout);
+        this.lock.lockInterruptibly();
+
+        try
+        {
+            while ((data = unlinkFirst()) == null)
+            {
+                if (nanos <= 0)
+                {
+                    return null;
+                }
+
+                nanos = this.notEmpty.awaitNanos(nanos);
+            }
+
+            return data;
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the back of the deque, waiting up to the timeout for one if it is empty.
+     *
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of the timeout
+     * @return the data removed from the deque, or null if the timeout ran out first
+     * @throws InterruptedException throws exception if interrupted while waiting
+     */
+    @Override
+    public Type pollLast(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        Type data;
+        long nanos;
+
+        nanos = unit.toNanos(timeout);
+        this.lock.lockInterruptibly();
+
+        try
+        {
+            while ((data = unlinkLast()) == null)
+            {
+                if (nanos <= 0)
+                {
+                    return null;
+                }
+
+                nanos = this.notEmpty.awaitNanos(nanos);
+            }
+
+            return data;
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the element at the front of the deque without removing it.
+     *
+     * @return the data at the front of the deque
+     * @throws NoSuchElementException throws exception if the deque is empty
+     */
+    @Override
+    public Type getFirst() throws NoSuchElementException
+    {
+        Type data;
+
+        data = peekFirst();
+
+        if (data == null)
+        {
+            throw new NoSuchElementException("cannot get data from deque. deque is empty");
+        }
+
+        return data;
+    }
+
+    /**
+     * Gets the element at the back of the deque without removing it.
+     *
+     * @return the data at the back of the deque
+     * @throws NoSuchElementException throws exception if the deque is empty
+     */
+    @Override
+    public Type getLast() throws NoSuchElementException
+    {
+        Type data;
+
+        data = peekLast();
+
+        if (data == null)
+        {
+            throw new NoSuchElementException("cannot get data from deque. deque is empty");
+        }
+
+        return data;
+    }
+
+    /**
+     * Gets the element at the front of the deque without removing it.
+     *
+     * @return the data at the front of the deque, or null if the deque is empty
+     */
+    @Override
+    public Type peekFirst()
+    {
+        this.lock.lock();
+
+        try
+        {
+            return this.list.peekFirst();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the element at the back of the deque without removing it.
+     *
+     * @return the data at the back of the deque, or null if the deque is empty
+     */
+    @Override
+    public Type peekLast()
+    {
+        this.lock.lock();
+
+        try
+        {
+            return this.list.peekLast();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the first instance of the specified data from the deque.
+     *
+     * @param data the data to remove
+     * @return true if the data was found and removed
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object data)
+    {
+        if (data == null)
+        {
+            return false;                   // null is never stored, so there is nothing to find
+        }
+
+        this.lock.lock();
+
+        try
+        {
+            return signalIfRemoved(this.list.removeFirstOccurrence(data));
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the last instance of the specified data from the deque.
+     *
+     * @param data the data to remove
+     * @return true if the data was found and removed
+     */
+    @Override
+    public boolean removeLastOccurrence(Object data)
+    {
+        if (data == null)
+        {
+            return false;                   // null is never stored, so there is nothing to find
+        }
+
+        this.lock.lock();
+
+        try
+        {
+            return signalIfRemoved(this.list.removeLastOccurrence(data));
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Adds data to the back of the deque if there is room, without waiting.
+     *
+     * @param data the data to add
+     * @return true if the data was added, false if the deque is full
+     */
+    @Override
+    public boolean offer(Type data)
+    {
+        return offerLast(data);
+    }
+
+    /**
+     * Adds data to the back of the deque, waiting for room if it is full.
+     *
+     * @param data the data to add
+     * @throws InterruptedException throws exception if interrupted while waiting
+     */
+    @Override
+    public void put(Type data) throws InterruptedException
+    {
+        putLast(data);
+    }
+
+    /**
+     * Adds data to the back of the deque, waiting up to the timeout for room if it is full.
+     *
+     * @param data the data to add
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of the timeout
+     * @return true if the data was added, false if the timeout ran out first
+     * @throws InterruptedException throws exception if interrupted while waiting
+     */
+    @Override
+    public boolean offer(Type data, long timeout, TimeUnit unit) throws InterruptedException
+    {
+        return offerLast(data, timeout, unit);
+    }
+
+    /**
+     * Removes the element at the front of the deque, without waiting.
+     *
+     * @return the data removed from the deque, or null if the deque is empty
+     */
+    @Override
+    public Type poll()
+    {
+        return pollFirst();
+    }
+
+    /**
+     * Removes the element at the front of the deque, waiting for one if it is empty.
+     *
+     * @return the data removed from the deque
+     * @throws InterruptedException throws exception if interrupted while waiting
+     */
+    @Override
+    public Type take() throws InterruptedException
+    {
+        return takeFirst();
+    }
+
+    /**
+     * Removes the element at the front of the deque, waiting up to the timeout for one if it is empty.
+     *
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of the timeout
+     * @return the data removed from the deque, or null if the timeout ran out first
+     * @throws InterruptedException throws exception if interrupted while waiting
+     */
+    @Override
+    public Type poll(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        return pollFirst(timeout, unit);
+    }
+
+    /**
+     * Gets the element at the front of the deque without removing it.
+     *
+     * @return the data at the front of the deque, or null if the deque is empty
+     */
+    @Override
+    public Type peek()
+    {
+        return peekFirst();
+    }
+
+    /**
+     * Adds data to the front of the deque, which is the top of the stack.
+     *
+     * @param data the data to add
+     * @throws IllegalStateException throws exception if the deque is full
+     */
+    @Override
+    public void push(Type data) throws IllegalStateException
+    {
+        addFirst(data);
+    }
+
+    /**
+     * Removes the element at the front of the deque, which is the top of the stack.
+     *
+     * @return the data removed from the deque
+     * @throws NoSuchElementException throws exception if the deque is empty
+     */
+    @Override
+    public Type pop() throws NoSuchElementException
+    {
+        return removeFirst();
+    }
+
+    /**
+     * Removes the first instance of the specified data from the deque.
+     *
+     * @param data the data to remove
+     * @return true if the data was found and removed
+     */
+    @Override
+    public boolean remove(Object data)
+    {
+        return removeFirstOccurrence(data);
+    }
+
+    /**
+     * Checks if the deque holds the specified data.
+     *
+     * @param data the data to look for
+     * @return true if the data is in the deque
+     */
+    @Override
+    public boolean contains(Object data)
+    {
+        if (data == null)
+        {
+            return false;
+        }
+
+        this.lock.lock();
+
+        try
+        {
+            return this.list.contains(data);
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of elements in the deque.
+     *
+     * @return the size of the deque
+     */
+    @Override
+    public int size()
+    {
+        this.lock.lock();
+
+        try
+        {
+            return this.list.size();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of elements that can be added before the deque is full.
+     *
+     * @return the room left in the deque
+     */
+    @Override
+    public int remainingCapacity()
+    {
+        this.lock.lock();
+
+        try
+        {
+            return this.capacity - this.list.size();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every element from the deque, waking up every thread waiting for room.
+     */
+    @Override
+    public void clear()
+    {
+        this.lock.lock();
+
+        try
+        {
+            this.list.clear();
+            this.notFull.signalAll();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Moves every element in the deque into the specified collection, front first.
+     *
+     * @param sink the collection to move the elements into
+     * @return the number of elements moved
+     */
+    @Override
+    public int drainTo(Collection<? super Type> sink)
+    {
+        return drainTo(sink, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Moves up to maxElements elements from the front of the deque into the specified collection.
+     * The whole batch is moved under one lock acquisition, and threads waiting for room are woken once at the end.
+     *
+     * @param sink the collection to move the elements into
+     * @param maxElements the most elements to move
+     * @return the number of elements moved
+     * @throws IllegalArgumentException throws exception if the collection is this deque
+     */
+    @Override
+    public int drainTo(Collection<? super Type> sink, int maxElements) throws IllegalArgumentException
+    {
+        int count, idx;
+
+        Objects.requireNonNull(sink);
+
+        if (sink == this)
+        {
+            throw new IllegalArgumentException("cannot drain deque into itself");
+        }
+
+        if (maxElements <= 0)
+        {
+            return 0;
+        }
+
+        this.lock.lock();
+
+        try
+        {
+            count = Math.min(maxElements, this.list.size());
+
+            for (idx = 0; idx < count; idx++)
+            {
+                sink.add(this.list.pollFirst());
+            }
+
+            if (count > 0)
+            {
+                this.notFull.signalAll();   // a whole batch of room opened up, so wake everybody waiting for it
+            }
+
+            return count;
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Gets a weakly consistent iterator over the deque, from front to back.
+     *
+     * @return an iterator over the deque
+     */
+    @Override
+    public Iterator<Type> iterator()
+    {
+        return new Itr(false);
+    }
+
+    /**
+     * Gets a weakly consistent iterator over the deque, from back to front.
+     *
+     * @return an iterator over the deque in reverse order
+     */
+    @Override
+    public Iterator<Type> descendingIterator()
+    {
+        return new Itr(true);
+    }
+
+    /**
+     * Copies the deque into an array, front first.
+     *
+     * @return an array holding every element in the deque
+     */
+    @Override
+    public Object[] toArray()
+    {
+        this.lock.lock();
+
+        try
+        {
+            return this.list.toArray();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Builds a String that represents the deque.
+     *
+     * @return String representing the deque
+     */
+    @Override
+    public String toString()
+    {
+        this.lock.lock();
+
+        try
+        {
+            return this.list.toString();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Adds data to the front of the list if there is room and wakes up a thread waiting for an element.
+     * Must be called with the lock held.
+     *
+     * @param data the data to add
+     * @return true if the data was added, false if the deque is full
+     */
+    private boolean linkFirst(Type data)
+    {
+        if (this.list.size() >= this.capacity)
+        {
+            return false;
+        }
+
+        this.list.addFirst(data);
+        this.notEmpty.signal();
+
+        return true;
+    }
+
+    /**
+     * Adds data to the back of the list if there is room and wakes up a thread waiting for an element.
+     * Must be called with the lock held.
+     *
+     * @param data the data to add
+     * @return true if the data was added, false if the deque is full
+     */
+    private boolean linkLast(Type data)
+    {
+        if (this.list.size() >= this.capacity)
+        {
+            return false;
+        }
+
+        this.list.addLast(data);
+        this.notEmpty.signal();
+
+        return true;
+    }
+
+    /**
+     * Removes the front of the list if there is one and wakes up a thread waiting for room.
+     * Must be called with the lock held.
+     *
+     * @return the data removed, or null if the deque is empty
+     */
+    private Type unlinkFirst()
+    {
+        Type data;
+
+        data = this.list.pollFirst();       // null is never stored, so null only ever means the list was empty
+
+        if (data != null)
+        {
+            this.notFull.signal();
+        }
+
+        return data;
+    }
+
+    /**
+     * Removes the back of the list if there is one and wakes up a thread waiting for room.
+     * Must be called with the lock held.
+     *
+     * @return the data removed, or null if the deque is empty
+     */
+    private Type unlinkLast()
+    {
+        Type data;
+
+        data = this.list.pollLast();
+
+        if (data != null)
+        {
+            this.notFull.signal();
+        }
+
+        return data;
+    }
+
+    /**
+     * Wakes up a thread waiting for room if an element was just removed.
+     * Must be called with the lock held.
+     *
+     * @param removed whether an element was removed
+     * @return removed, passed straight through
+     */
+    private boolean signalIfRemoved(boolean removed)
+    {
+        if (removed)
+        {
+            this.notFull.signal();
+        }
+
+        return removed;
+    }
+
+    /**
+     * private inner iterator class that walks the deque's own nodes, like LinkedBlockingDeque's iterators.
+     * The lock is only held for the one hop it takes to find the next element, and that element's data is read
+     *      while the lock is held, so hasNext and next never block and next returns the data the element had then.
+     *      If the element the iterator is on is removed, it carries on from the place that element was at.
+     * Removing through the iterator unlinks the exact element last returned, if it is still in the deque.
+     */
+    private class Itr implements Iterator<Type>
+    {
+        private final boolean                         descending;   // true to go from back to front
+        private CircularDoublyLinkedList.Handle<Type> next;         // the element next() returns, or null
+        private Type                                  nextData;     // its data, read under the lock
+        private CircularDoublyLinkedList.Handle<Type> lastReturned; // the element last returned, or null
+
+        /**
+         * Constructor for the iterator that starts it at the front or the back of the deque.
+         *
+         * @param descending true to go from back to front
+         */
+        private Itr(boolean descending)
+        {
+            this.descending   = descending;
+            this.lastReturned = null;
+
+            BlockingCircularDeque.this.lock.lock();
+
+            try
+            {
+                this.next     = descending ? BlockingCircularDeque.this.list.lastHandle()
+                                           : BlockingCircularDeque.this.list.firstHandle();
+                this.nextData = (this.next == null) ? null : this.next.get();
+            }
+            finally
+            {
+                BlockingCircularDeque.this.lock.unlock();
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.next != null;
+        }
+
+        @Override
+        public Type next()
+        {
+            Type data;
+
+            if (this.next == null)
+            {
+                throw new NoSuchElementException("cannot get next element. iterator is at the end of the deque");
+            }
+
+            data              = this.nextData;
+            this.lastReturned = this.next;
+
+            BlockingCircularDeque.this.lock.lock();
+
+            try
+            {
+                this.next     = this.descending ? BlockingCircularDeque.this.list.handleBefore(this.next)
+                                                : BlockingCircularDeque.this.list.handleAfter(this.next);
+                this.nextData = (this.next == null) ? null : this.next.get();
+            }
+            finally
+            {
+                BlockingCircularDeque.this.lock.unlock();
+            }
+
+            return data;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.lastReturned == null)
+            {
+                throw new IllegalStateException("cannot remove element. next has not been called");
+            }
+
+            BlockingCircularDeque.this.lock.lock();
+
+            try
+            {
+                if (BlockingCircularDeque.this.list.holds(this.lastReturned))
+                {
+                    BlockingCircularDeque.this.list.removeHandle(this.lastReturned);
+                    BlockingCircularDeque.this.notFull.signal();
+                }
+            }
+            finally
+            {
+                BlockingCircularDeque.this.lock.unlock();
+            }
+
+            this.lastReturned = null;
+        }
+    }
+}
@@ -1,27 +1,120 @@
 package Main;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Circular Doubly Linked List.
  * Created for learning purposes.
+ * The dummy head sits right between the last element and the first, so both ends of the list are one hop away,
+ *      which lets the list work as a Deque with every end operation in O(1).
  *
  * @param <Type> the type of object stored in the list
  * @author Julia Reynolds
  */
-public class CircularDoublyLinkedList<Type>
+public class CircularDoublyLinkedList<Type> extends AbstractCollection<Type> implements Deque<Type>
 {
-    private Node head; // the start of the list
-    private int  size; // the length/size of the list
+    public static final int TO_STRING_LIMIT = 1000; // the most elements toString writes out before cutting it short
+
+    private Node    head;        // the start of the list
+    private int     size;        // the length/size of the list
+    private Node    cursor;      // the last node found by index, so nearby lookups can start from it
+    private int     cursorIndex; // the index of the cursor node, or -1 if the cursor is not valid
+    private int     modCount;    // counts structural changes so iterators can tell when the list changed under them
+    private Owner   owner;       // the token every node made by or moved into this list points to
+    private boolean reversed;    // true if the list runs along the prev links instead of the next links
+
+    private Map<Type, ArrayDeque<Node>> valueIndex; // every node holding each value, or null if not indexed
+
+    private int                    capacity; // the most elements the list holds before it starts evicting
+    private Consumer<? super Type> onEvict;  // told about each evicted element, or null
+
+    private ListStats stats; // records every lookup, search, link, and unlink, or null if stats are off
+
+    /**
+     * An opaque reference to one element's place in the list.
+     * Handles let the element be removed or moved in O(1) without searching for it first.
+     * A handle goes stale once its element is removed, and using a stale handle throws an exception.
+     *
+     * @param <Type> the type of object stored in the list
+     */
+    public interface Handle<Type>
+    {
+        /**
+         * Gets the data stored at this handle's place in the list.
+         *
+         * @return the data stored at the handle
+         */
+        Type get();
+    }
+
+    /**
+     * private static nested class for the token that says which list a node belongs to.
+     * Every node points to an owner token instead of being tied to one list for good. When concat or spliceAfter
+     *      steals every node from another list, the other list's token is forwarded to this list's token and the
+     *      other list gets a fresh one, so all of the stolen nodes change lists at once without being touched.
+     *      Finding a node's list follows the forwards to the end, shortening the path on the way like a union-find.
+     */
+    private static final class Owner
+    {
+        private Owner forward; // the token this one was merged into, or null if it is still a list's own token
+
+        /**
+         * Follows the forwards from this token to the token of the list that owns it now.
+         * Every token passed on the way is pointed two steps further along, so repeated lookups stay short.
+         *
+         * @return the token of the list that owns this token now
+         */
+        private Owner resolve()
+        {
+            Owner curr;
+
+            curr = this;
+
+            while (curr.forward != null)
+            {
+                if (curr.forward.forward != null)
+                {
+                    curr.forward = curr.forward.forward;
+                }
+
+                curr = curr.forward;
+            }
+
+            return curr;
+        }
+    }
 
     /**
      * private inner node class for the doubly linked list
      */
-    private class Node
+    private class Node implements Handle<Type>
     {
-        private Node prev; // link to previous node in list
-        private Type data; // data stored in node
-        private Node next; // link to next node in list
+        private Node  prev;  // link to previous node in list
+        private Type  data;  // data stored in node
+        private Node  next;  // link to next node in list
+        private Owner owner; // the token of the list this node belongs to, possibly through forwards
 
         /**
          * Constructor for Node in Doubly Linked List that takes previous Node,
@@ -33,15 +126,36 @@ public class CircularDoublyLinkedList<Type>
          */
         private Node(Node prev, Type data, Node next)
         {
-            this.prev = prev;
-            this.data = data;
-            this.next = next;
+            this.prev  = prev;
+            this.data  = data;
+            this.next  = next;
+            this.owner = CircularDoublyLinkedList.this.owner;
         }
 
         private Node(Type data)
         {
             this(null, data, null);
         }
+
+        @Override
+        public Type get()
+        {
+            return this.data;
+        }
+
+        /**
+         * Checks if this node is still linked into the specified list.
+         * Unlinking a node clears its prev link, which is how a removed node can be told apart from a live one.
+         *
+         * @param list the list to check against
+         * @return true if this node is a live element of the list
+         */
+        private boolean isLiveIn(CircularDoublyLinkedList<?> list)
+        {
+            this.owner = this.owner.resolve();          // skip the forwards next time
+
+            return this.owner == list.owner && this.prev != null && this.next != null && this != list.head;
+        }
     }
 
     /**
@@ -49,11 +163,18 @@ public class CircularDoublyLinkedList<Type>
      */
     public CircularDoublyLinkedList()
     {
-        this.head = new Node(null);     // dummy head node stores no data
-        this.size = 0;                       // list is empty so size is 0
+        this.owner = new Owner();            // set before any node is made, since nodes pick it up
+        this.head  = new Node(null);         // dummy head node stores no data
+        this.size  = 0;                      // list is empty so size is 0
 
         this.head.next = this.head;          // circularly link to self
         this.head.prev = this.head;          // circularly link to self
+
+        this.cursor      = null;             // nothing has been looked up yet
+        this.cursorIndex = -1;
+
+        this.capacity = Integer.MAX_VALUE;   // unbounded unless made with bounded()
+        this.onEvict  = null;
     }
 
     /**
@@ -65,20 +186,61 @@ public class CircularDoublyLinkedList<Type>
     {
         this();                                             // call other constructor to set up empty list
 
-        int idx;                                            // list of variables used in this method
-
         /*
-            Loops backward through the passed array.
-            This makes it so we can use the addFirst method to addAtIndex the data to the list while maintaining the order
-                of the elements to be added to the list.
-            In a singly linked list that doesn't keep track of the tail of the list, or a non-circular doubly linked
-                list, utilizing the addFirst method would be significantly faster for long lists since you can just addAtIndex
-                to the front of the list rather than traversing through the entire list each time you addAtIndex a new element.
+            Rather than adding the elements one at a time, the nodes are chained together first and the whole chain
+                is linked in right before the dummy head in one go, which skips the bounds check and the walk to the
+                index that every single add would do.
          */
-        for (idx = (data.length - 1); idx >= 0; idx--)
+        linkAllBefore(this.head, Arrays.asList(data));
+    }
+
+    /**
+     * Creates a list that holds at most capacity elements and overwrites the oldest one once it is full.
+     *
+     * @param capacity the most elements the list will hold
+     * @param <Type> the type of object stored in the list
+     * @return a new, empty bounded list
+     * @throws IllegalArgumentException throws exception if capacity is less than 1
+     */
+    public static <Type> CircularDoublyLinkedList<Type> bounded(int capacity) throws IllegalArgumentException
+    {
+        return bounded(capacity, null);
+    }
+
+    /**
+     * Creates a list that holds at most capacity elements and overwrites the oldest one once it is full.
+     * Once the list is full, addLast reuses the first node instead of making a new one. Since the list is circular,
+     *      the first node sits right after the dummy head, so the dummy head just moves up one: the old first node
+     *      becomes the new dummy head, and the old dummy head takes the new data as the last element. Nothing is
+     *      allocated and nothing is walked, so a full list can take appends forever in O(1).
+     * addFirst does the same thing the other way around, overwriting the last element. An add anywhere else evicts
+     *      the first element and then links in a new node as usual.
+     * addAll evicts from the same ends but keeps everything it adds together and in order, see addAll.
+     * Because nodes are reused, a handle to an evicted element is stale until its node is reused, and after that it
+     *      points to whatever element was written into the node. Don't keep handles to a bounded list's elements
+     *      past the point where they may be evicted.
+     *
+     * @param capacity the most elements the list will hold
+     * @param onEvict called with each element that gets overwritten or evicted, or null for no callback
+     * @param <Type> the type of object stored in the list
+     * @return a new, empty bounded list
+     * @throws IllegalArgumentException throws exception if capacity is less than 1
+     */
+    public static <Type> CircularDoublyLinkedList<Type> bounded(int capacity, Consumer<? super Type> onEvict)
+            throws IllegalArgumentException
+    {
+        CircularDoublyLinkedList<Type> list;
+
+        if (capacity < 1)
         {
-            addFirst(data[idx]);
+            throw new IllegalArgumentException("cannot create list. capacity must be at least 1");
         }
+
+        list          = new CircularDoublyLinkedList<>();
+        list.capacity = capacity;
+        list.onEvict  = onEvict;
+
+        return list;
     }
 
     /**
@@ -86,6 +248,7 @@ public class CircularDoublyLinkedList<Type>
      *
      * @param data the data to store in the list
      */
+    @Override
     public void addFirst(Type data)
     {
         addAtIndex(data, 0);
@@ -96,6 +259,7 @@ public class CircularDoublyLinkedList<Type>
      *
      * @param data the data to addAtIndex to the list
      */
+    @Override
     public void addLast(Type data)
     {
 
@@ -111,7 +275,6 @@ public class CircularDoublyLinkedList<Type>
      */
     public void addAtIndex(Type data, int index) throws IndexOutOfBoundsException
     {
-        int  curridx;
         Node curr, newNode;
 
         // we are considering this.size in bounds in case we want to addAtIndex on to the end of the list.
@@ -120,164 +283,2587 @@ public class CircularDoublyLinkedList<Type>
             throw new IndexOutOfBoundsException("cannot addAtIndex data to list. index is out of bounds");
         }
 
-        // go forwards through the list if index is in the left half or middle of the list, or if the list is empty.
-        if (index <= (this.size - 1) || this.size == 0)
+        curr = nodeAt(index);                            // the node that will end up right after the new node
+
+        if (this.size >= this.capacity)                  // a full bounded list evicts, so index is off by one
+        {
+            linkBefore(curr, data);
+        }
+        else
+        {
+            newNode = linkBefore(curr, data);
+
+            this.cursor      = newNode;                  // the new node now sits at index, so remember it
+            this.cursorIndex = index;
+        }
+    }
+
+    /**
+     * Searches through the list for specified data, removing the first instance of it found.
+     *
+     * @param data the data to be removed from the list
+     * @return boolean indicating if the removal was successful
+     */
+    public boolean removeData(Type data)
+    {
+        Node curr;
+
+        curr = findFirst(data);
+
+        if (curr != null)
+        {
+            unlink(curr);                               // curr has been cut out of the list
+        }
+
+        return curr != null;                            // false if the data is not in the list
+    }
+
+    /**
+     * Removes every instance of the specified data from the list.
+     * With the value index turned on this only touches the nodes that hold the data.
+     *
+     * @param data the data to be removed from the list
+     * @return the number of elements removed
+     */
+    public int removeAllData(Type data)
+    {
+        ArrayDeque<Node> bucket;
+        Node             curr, next;
+        int              count;
+
+        count = 0;
+
+        if (this.valueIndex != null)
         {
-            curr = this.head;
+            bucket = this.valueIndex.remove(data);     // take the whole bucket out first so unlink has nothing to do
 
-            for (curridx = 0; curridx < index; curridx++)   // we want to stop one before the index we want to addAtIndex at
+            if (bucket != null)
             {
-                curr = curr.next;
+                for (Node node : bucket)
+                {
+                    unlink(node);
+                    count++;
+                }
             }
 
-            newNode = new Node(curr, data, curr.next);      // create a new node with the prev and curr nodes linked
-
-            curr.next.prev = newNode;                       // relink the prev variable in the next node
-            curr.next      = newNode;                       // relink the next variable in the current node
+            return count;
         }
-        else                           // go backwards through the list because to have less distance to travel.
+
+        for (curr = first(); curr != this.head; curr = next)
         {
-            curr = this.head;
+            next = after(curr);
 
-            for (curridx = this.size; curridx > index; curridx--) // go backwards until desired index is reached.
+            if (Objects.equals(curr.data, data))
             {
-                curr = curr.prev;
+                unlink(curr);
+                count++;
             }
+        }
+
+        return count;
+    }
 
-            newNode = new Node(curr.prev, data, curr);       // create a new node with the prev and curr nodes linked
+    /**
+     * Adds every element of a collection to the end of the list, in the collection's order.
+     * The new nodes are chained together first and then linked in with one splice.
+     * A bounded list that doesn't have room for all of them evicts from the front, first the elements that were
+     *      already there and then, if there are more new elements than the capacity, the first of the new ones.
+     *
+     * @param data the collection of data to add
+     * @return true if the list changed
+     */
+    @Override
+    public boolean addAll(Collection<? extends Type> data)
+    {
+        return linkAllBefore(this.head, data) > 0;
+    }
 
-            curr.prev.next = newNode;                        // relink the next variable in the previous node
-            curr.prev      = newNode;                        // relink the prev variable in the current node
+    /**
+     * Adds every element of a collection at the specified index, in the collection's order.
+     * The new nodes are chained together first and then linked in with one splice.
+     * A bounded list that doesn't have room for all of them evicts the elements that were already there before
+     *      linking anything in: from the back when adding at index 0 of a list that isn't empty, like addFirst, and
+     *      from the front everywhere else, like addLast. If that evicts the element at the index, the new elements go
+     *      in at the front. Only if there are more new elements than the capacity are some of them evicted too, from
+     *      the same end. Either way the new elements stay together and in order.
+     *
+     * @param index the location in the list to add the data
+     * @param data the collection of data to add
+     * @return true if the list changed
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public boolean addAll(int index, Collection<? extends Type> data) throws IndexOutOfBoundsException
+    {
+        if (index < 0 || index > this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot add data to list. index is out of list bounds");
         }
 
-        this.size++;                                     // increment size by 1 to ensure size is accurate
+        return linkAllBefore(nodeAt(index), data) > 0;
     }
 
     /**
-     * Searches through the list for specified data, removing the first instance of it found.
+     * Moves every element of another list onto the end of this list in O(1), leaving the other list empty.
+     * The nodes themselves are moved, so handles to them stay valid and now belong to this list.
+     * If this list has its value index turned on, every moved node has to be indexed, which costs O(k).
      *
-     * @param data the data to be removed from the list
-     * @return boolean indicating if the removal was successful
+     * @param other the list whose elements are moved
+     * @throws IllegalArgumentException throws exception if other is this list
      */
-    public boolean removeData(Type data)
+    public void concat(CircularDoublyLinkedList<Type> other) throws IllegalArgumentException
+    {
+        stealBefore(this.head, other);
+    }
+
+    /**
+     * Moves every element of another list in right after the element that the handle points to in O(1),
+     *      leaving the other list empty.
+     * The nodes themselves are moved, so handles to them stay valid and now belong to this list.
+     * If this list has its value index turned on, every moved node has to be indexed, which costs O(k).
+     *
+     * @param handle a handle to an element in this list
+     * @param other the list whose elements are moved
+     * @throws IllegalArgumentException throws exception if the handle is stale or from another list, or if other is
+     *      this list
+     */
+    public void spliceAfter(Handle<Type> handle, CircularDoublyLinkedList<Type> other) throws IllegalArgumentException
+    {
+        stealBefore(after(checkHandle(handle)), other);
+    }
+
+    /**
+     * Cuts the elements from index from up to but not including index to out of this list and gives them back as
+     *      a new list.
+     * The nodes themselves are moved, so handles to them stay valid and now belong to the new list. Each moved node
+     *      is touched once to move it over, so this costs O(k) on top of the walk to from.
+     *
+     * @param from the index of the first element to cut
+     * @param to the index right after the last element to cut
+     * @return a new list holding the elements that were cut
+     * @throws IndexOutOfBoundsException throws exception if from or to is outside of list bounds, or from is after to
+     */
+    public CircularDoublyLinkedList<Type> subListCut(int from, int to) throws IndexOutOfBoundsException
     {
-        Node prev, curr;
+        CircularDoublyLinkedList<Type> result;
+        Node                           first, last, pred, succ, curr;
+        int                            count, idx;
 
-        if (size == 0)
+        if (from < 0 || to > this.size || from > to)
         {
-            return false;                               // no data stored in empty list
+            throw new IndexOutOfBoundsException("cannot cut data from list. index is out of list bounds");
         }
 
-        prev = this.head;
-        curr = this.head.next;                          // start on the first real node in the linked list
+        result = new CircularDoublyLinkedList<>();
+        count  = to - from;
 
-        // move through the list until we either loop back around to the head or find the data we are looking for
-        while (curr != this.head)
+        if (count == 0)
         {
-            if (Objects.equals(curr.data, data))        // match found, now we remove it
-            {
-                prev.next      = curr.next;             // set the next variable in the prev node to the node after curr
-                curr.next.prev = prev;                  // set the prev variable in the node after curr to prev
+            return result;
+        }
+
+        first = nodeAt(from);
+        last  = first;
 
-                return true;                            // curr has been cut out of the list, so we return true.
+        for (curr = first, idx = 0; idx < count; curr = after(curr), idx++) // hand the range over to the new list
+        {
+            if (this.valueIndex != null)
+            {
+                unindex(curr);
             }
 
-            prev = curr;                                // move prev forward one node
-            curr = curr.next;                           // move curr forward one node
+            curr.owner = result.owner;
+            last       = curr;
         }
 
-        // at this point we have traversed through the entire list and not found the data we were looking to remove.
-        return false;
+        pred      = before(first);                          // close the gap the range leaves behind
+        succ      = after(last);
+        setAfter(pred, succ);
+        setBefore(succ, pred);
+
+        result.reversed  = this.reversed;                // the range still runs the same way it did in this list
+        setBefore(first, result.head);                  // and make the range the whole of the new list
+        setAfter(last, result.head);
+        setAfter(result.head, first);
+        setBefore(result.head, last);
+        result.size      = count;
+
+        this.size       -= count;
+        this.modCount++;
+        this.cursorIndex = -1;
+        this.cursor      = null;
+
+        return result;
     }
 
     /**
-     * Removes data from the list at the specified index.
+     * Cuts every element from the specified index to the end out of this list and gives them back as a new list.
      *
-     * @param index the index of the data to be removed
-     * @return the data removed from the list
+     * @param index the index of the first element to cut
+     * @return a new list holding the elements that were cut
      * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
      */
-    public Type removeIndex(int index) throws IndexOutOfBoundsException
+    public CircularDoublyLinkedList<Type> split(int index) throws IndexOutOfBoundsException
     {
-        int  curridx;
-        Node prev, curr;
+        return subListCut(index, this.size);
+    }
 
-        if (index < 0 || index >= this.size)                  // this.size is out of bounds since we start at index 0
-        {
-            throw new IndexOutOfBoundsException("cannot remove data from list. index is out of list bounds");
-        }
+    /**
+     * Removes every element that matches the filter in one pass over the list.
+     *
+     * @param filter returns true for the elements to remove
+     * @return true if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Type> filter)
+    {
+        Node curr, next;
+        int  oldSize;
 
-        // go forwards through the list if index is in the left half or middle of the list.
-        if (index <= (this.size - 1))
+        Objects.requireNonNull(filter);
+        oldSize = this.size;
+
+        for (curr = first(); curr != this.head; curr = next)
         {
-            prev = this.head;
-            curr = this.head.next;                         // start on the first real list node
+            next = after(curr);
 
-            for (curridx = 0; curridx < index; curridx++)  // we want to stop on the index we want to remove
+            if (filter.test(curr.data))
             {
-                prev = curr;
-                curr = curr.next;
+                unlink(curr);
             }
+        }
+
+        return this.size != oldSize;
+    }
+
+    /**
+     * Rotates the list so the element at index i moves to index (i + distance) mod size, the same as
+     *      Collections.rotate. A distance of -1 moves the first element to the end, which is one round-robin step.
+     * Nothing is copied or relinked except the dummy head, which is cut out and linked back in right before the
+     *      element that becomes the first one. Finding that element walks min(k, n - k) nodes from the closer end.
+     *
+     * @param distance how many places to move each element toward the end of the list, wrapping around
+     */
+    public void rotate(int distance)
+    {
+        Node newFirst;
+        int  shift;
+
+        if (this.size == 0)
+        {
+            return;
+        }
+
+        shift = Math.floorMod(distance, this.size);
 
-            prev.next      = curr.next;     // relink the next variable in the previous node to point to the next node.
-            curr.next.prev = prev;          // relink the prev variable in the node after the one to delete to prev.
+        if (shift == 0)
+        {
+            return;
         }
-        else                           // go backwards through the list because to have less distance to travel.
+
+        newFirst = nodeAt(this.size - shift);            // the element that will end up at index 0
+        moveBefore(this.head, newFirst);
+
+        this.cursor      = newFirst;
+        this.cursorIndex = 0;
+    }
+
+    /**
+     * Reverses the order of the list in O(1).
+     * No links are rewritten. The list just flips which of each node's links it treats as the next one, and every
+     *      walk through the list goes through after() and before(), which look at that flag.
+     */
+    public void reverse()
+    {
+        this.reversed = !this.reversed;
+        this.modCount++;
+
+        if (this.cursorIndex >= 0)
         {
-            prev = this.head;
-            curr = this.head.prev;                         // start on the last real list node
+            this.cursorIndex = this.size - 1 - this.cursorIndex; // the cursor node stays, its index flips
+        }
+    }
+
+    /**
+     * Sorts the list in place with a stable natural merge sort, in O(n log n).
+     * The existing nodes are relinked, so nothing is allocated and handles stay valid. Each pass finds the runs
+     *      that are already in order and merges them in pairs, so a list that is already sorted costs one O(n)
+     *      pass, and a list made of two sorted runs is merged in one pass as well.
+     * If the comparator throws, every element is still in the list, but the order may be only partly sorted.
+     *
+     * @param comparator the order to sort by, or null to use the natural ordering of the elements
+     * @throws ClassCastException throws exception if comparator is null and the elements are not Comparable
+     */
+    public void sort(Comparator<? super Type> comparator) throws ClassCastException
+    {
+        normalize();                                    // the merging below only follows next links
+
+        this.modCount++;
+        this.cursorIndex = -1;
+
+        if (this.size > 1)
+        {
+            mergeRuns((comparator != null) ? comparator : naturalOrder());
+        }
+    }
+
+    /**
+     * Moves every element of another sorted list into this sorted list, keeping it sorted, in O(n + m).
+     * The other list is left empty. The nodes themselves are moved, so handles to them stay valid and now belong
+     *      to this list. Where elements compare equal, the ones from this list come first.
+     * If either list isn't sorted by the comparator, the result is still sorted but takes O((n + m) log(n + m)).
+     * A bounded list merges first and then evicts from the front, which are its smallest elements, until it fits.
+     *
+     * @param other the sorted list whose elements are moved
+     * @param comparator the order both lists are sorted by, or null for the natural ordering of the elements
+     * @throws IllegalArgumentException throws exception if other is this list
+     * @throws ClassCastException throws exception if comparator is null and the elements are not Comparable
+     */
+    public void mergeSorted(CircularDoublyLinkedList<Type> other, Comparator<? super Type> comparator)
+            throws IllegalArgumentException, ClassCastException
+    {
+        int capacity;
+
+        if (other == this)
+        {
+            throw new IllegalArgumentException("cannot merge a list into itself");
+        }
 
-            for (curridx = this.size; curridx > index; curridx--) // go backwards until desired index is reached.
+        capacity      = this.capacity;
+        this.capacity = Integer.MAX_VALUE;               // hold off evicting until the two lists are merged
+
+        try
+        {
+            stealBefore(this.head, other);              // the other list's elements now follow this list's
+        }
+        finally
+        {
+            this.capacity = capacity;
+        }
+
+        sort(comparator);                               // finds the two sorted runs and merges them in one pass
+        trimToCapacity(false);                          // the front holds the smallest elements, so they go first
+    }
+
+    /**
+     * Applies every add and remove recorded in a batch, as if they all happened at once.
+     * Every index in the batch refers to the list as it is now. They are all checked before anything changes, so
+     *      a batch with a bad index leaves the list as it was.
+     * The edits at an index are sorted and then made in one forward walk, which starts from whichever end or the
+     *      cursor is nearest the first of them, so a batch of k edits costs as many hops as that start is away plus
+     *      the distance from the first edit to the last, instead of up to n / 2 hops for each of them. Data added
+     *      at the same index is chained together and linked in with one splice, and so are all of the appends.
+     * A bounded list applies the whole batch first and then evicts from the front until it fits.
+     * The batch is left as it is, so it can be applied again or cleared and reused.
+     *
+     * @param batch the batch to apply
+     * @throws IndexOutOfBoundsException throws exception if an index in the batch is outside of list bounds
+     * @throws IllegalArgumentException throws exception if the batch removes the same index more than once
+     */
+    public void apply(MutationBatch<Type> batch) throws IndexOutOfBoundsException, IllegalArgumentException
+    {
+        List<MutationBatch.Edit<Type>> edits;
+        MutationBatch.Edit<Type>       edit, prev;
+        Node                           curr, next;
+        int                            curridx, idx, end, capacity;
+
+        edits = batch.sortedEdits();
+        prev  = null;
+
+        for (idx = 0; idx < edits.size(); idx++)            // check everything before changing anything
+        {
+            edit = edits.get(idx);
+
+            if (edit.index > (edit.remove ? this.size - 1 : this.size))
             {
-                prev = curr;
-                curr = curr.prev;
+                throw new IndexOutOfBoundsException("cannot apply batch. index is out of list bounds");
             }
 
-            prev.prev      = curr.prev;    // relink the prev variable in the previous node to the node after curr
-            curr.prev.next = prev;         // relink the next variable in the node after curr to prev.
+            if (edit.remove && prev != null && prev.remove && prev.index == edit.index)
+            {
+                throw new IllegalArgumentException("cannot apply batch. the same index is removed more than once");
+            }
+
+            prev = edit;
         }
 
-        this.size--;                                       // decrement size by 1 to ensure list size is kept accurate
+        capacity      = this.capacity;
+        this.capacity = Integer.MAX_VALUE;                  // hold off evicting so the indexes don't move
 
-        return curr.data;
+        try
+        {
+            if (!edits.isEmpty())
+            {
+                curridx = edits.get(0).index;
+                curr    = nodeAt(curridx);                  // the node that was at curridx before the batch
+                idx     = 0;
+
+                while (idx < edits.size())
+                {
+                    edit = edits.get(idx);
+
+                    while (curridx < edit.index)            // only ever walk forwards
+                    {
+                        curr = after(curr);
+                        curridx++;
+                    }
+
+                    if (edit.remove)
+                    {
+                        next = after(curr);
+                        unlink(curr);
+                        curr = next;
+                        curridx++;
+                        idx++;
+                    }
+                    else
+                    {
+                        end = idx + 1;
+
+                        while (end < edits.size() && edits.get(end).index == edit.index && !edits.get(end).remove)
+                        {
+                            end++;                          // every add at this index goes in with one splice
+                        }
+
+                        linkAllBefore(curr, batch.dataOf(idx, end));
+                        idx = end;
+                    }
+                }
+            }
+
+            linkAllBefore(this.head, batch.appends());
+        }
+        finally
+        {
+            this.capacity = capacity;
+        }
+
+        trimToCapacity(false);                          // a bounded list evicts from the front until it fits
     }
 
     /**
-     * Builds a String that represents the list.
+     * Adds data to a sorted list at the place that keeps it sorted, after any elements that compare equal to it.
+     * The search walks in from both ends at once, so it costs as many hops as the nearer end is away from the
+     *      place the data goes, and adding at either end costs O(1).
      *
-     * @return String representing the list
+     * @param data the data to add
+     * @param comparator the order the list is sorted by
+     * @return the handle of the new element
      */
-    @Override
-    public String toString()
+    Handle<Type> insertSorted(Type data, Comparator<? super Type> comparator)
     {
-        StringBuilder builder;                              // objects used in this method
-        Node          curr;
+        Node front, back, succ;
+
+        front = first();
+        back  = last();
 
-        if (size == 0)                                      // separate condition for size 0 so
+        while (true)
         {
-            return "[]";
+            // everything after back is bigger than data, and everything before front is not.
+            if (back == this.head || comparator.compare(back.data, data) <= 0)
+            {
+                succ = after(back);                     // data goes right after back
+                break;
+            }
+
+            if (front == this.head || comparator.compare(front.data, data) > 0)
+            {
+                succ = front;                           // data goes right before front
+                break;
+            }
+
+            back  = before(back);
+            front = after(front);
         }
 
-        builder = new StringBuilder("[");                   // start the StringBuilder with [
+        return linkBefore(succ, data);
+    }
 
-        /*
-            This is a for loop that loops through the whole list.
-            We start on head.next since head points to a dummy node.
-            Since this list is circularly linked, and we want to stop one before the end,
-                we traverse through the list until the next variable in the node we are currently
-                looking at = this.head.
-            Finally, we move curr to point to the next link in the list after each time we go through
-                the body of the for loop.
-         */
-        for (curr = this.head.next; curr.next != this.head; curr = curr.next)
+    /**
+     * Checks if the list holds the specified data.
+     *
+     * @param data the data to look for
+     * @return true if the data is in the list
+     */
+    @Override
+    public boolean contains(Object data)
+    {
+        if (this.valueIndex != null)
         {
-            builder.append(curr.data.toString());                               // addAtIndex the data to the string
-            builder.append(", ");                                               // addAtIndex a comma and space to the string
+            return this.valueIndex.containsKey(data);
         }
 
-        builder.append(curr.data.toString());                                   // addAtIndex the data in the last list node
-        builder.append("]");                                                    // addAtIndex ] to end the string
+        return findFirst(data) != null;
+    }
+
+    /**
+     * Finds the index of the first instance of the specified data in the list.
+     *
+     * @param data the data to look for
+     * @return the index of the data, or -1 if it is not in the list
+     */
+    public int indexOf(Type data)
+    {
+        Node curr;
+        int  curridx;
+
+        if (this.valueIndex != null && !this.valueIndex.containsKey(data))
+        {
+            return -1;                                  // no need to walk the list for data that isn't there
+        }
 
-        return builder.toString();                                              // return the completed string
+        for (curr = first(), curridx = 0; curr != this.head; curr = after(curr), curridx++)
+        {
+            if (Objects.equals(curr.data, data))
+            {
+                return curridx;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Turns on the value index, which keeps a map from each value to the nodes holding it.
+     * While it is on, removeData, removeAllData, and contains find their nodes in O(1) expected time instead of
+     *      searching the whole list. removeData still removes the first instance, so for a value stored more than
+     *      once it walks the list until it reaches the first of them.
+     * The index costs a HashMap entry and an ArrayDeque for every distinct value, plus a slot for every element,
+     *      and each add and remove has to update it.
+     */
+    public void enableValueIndex()
+    {
+        Node curr;
+
+        if (this.valueIndex != null)
+        {
+            return;                                     // already on
+        }
+
+        this.valueIndex = new HashMap<>();
+
+        for (curr = first(); curr != this.head; curr = after(curr))
+        {
+            index(curr);
+        }
+    }
+
+    /**
+     * Turns off the value index and lets go of the memory it was using.
+     */
+    public void disableValueIndex()
+    {
+        this.valueIndex = null;
+    }
+
+    /**
+     * Turns on stats, which record how many nodes each lookup and search walks and how long it and each link and
+     *      unlink take. They are recorded in the helpers every operation shares, so List, Deque, Collection, and
+     *      iterator calls are all counted, see ListStats.Operation. Lookups and searches that walk more than
+     *      longWalkHops nodes are also sent to JDK Flight Recorder as Main.LongWalk events.
+     * While stats are off the only cost is a null check per step. While they are on each step also reads the clock
+     *      twice and bumps a few counters.
+     * Turning stats on again starts them over with the new threshold.
+     *
+     * @param longWalkHops the most nodes an operation can walk without being sent to Flight Recorder
+     * @return the stats the list records into
+     * @throws IllegalArgumentException throws exception if longWalkHops is negative
+     */
+    public ListStats enableStats(int longWalkHops) throws IllegalArgumentException
+    {
+        this.stats = new ListStats(longWalkHops);
+
+        return this.stats;
+    }
+
+    /**
+     * Turns off stats and lets go of what they recorded.
+     */
+    public void disableStats()
+    {
+        this.stats = null;
+    }
+
+    /**
+     * Gets the stats the list is recording into.
+     *
+     * @return the stats, or null if stats are off
+     */
+    public ListStats stats()
+    {
+        return this.stats;
+    }
+
+    /**
+     * Removes data from the list at the specified index.
+     *
+     * @param index the index of the data to be removed
+     * @return the data removed from the list
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public Type removeIndex(int index) throws IndexOutOfBoundsException
+    {
+        Node curr, next;
+
+        if (index < 0 || index >= this.size)                  // this.size is out of bounds since we start at index 0
+        {
+            throw new IndexOutOfBoundsException("cannot remove data from list. index is out of list bounds");
+        }
+
+        curr = nodeAt(index);                                 // the node we want to remove
+        next = after(curr);
+
+        unlink(curr);
+
+        if (next != this.head)                                // the node after curr has slid down into index
+        {
+            this.cursor      = next;
+            this.cursorIndex = index;
+        }
+
+        return curr.data;
+    }
+
+    /**
+     * Gets the data stored at the specified index.
+     *
+     * @param index the index of the data to get
+     * @return the data stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public Type get(int index) throws IndexOutOfBoundsException
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot get data from list. index is out of list bounds");
+        }
+
+        return nodeAt(index).data;
+    }
+
+    /**
+     * Replaces the data stored at the specified index.
+     *
+     * @param index the index of the data to replace
+     * @param data the new data to store at the index
+     * @return the data that was previously stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public Type set(int index, Type data) throws IndexOutOfBoundsException
+    {
+        Node curr;
+        Type old;
+
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot set data in list. index is out of list bounds");
+        }
+
+        curr = nodeAt(index);
+        old  = curr.data;
+
+        replaceData(curr, data);                              // replacing data is not a structural change
+
+        return old;
+    }
+
+    /**
+     * Gets the most elements the list will hold before it starts evicting.
+     *
+     * @return the capacity of the list, or Integer.MAX_VALUE if it is not bounded
+     */
+    public int capacity()
+    {
+        return this.capacity;
+    }
+
+    /**
+     * Gets the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Adds data to the beginning of the list and gives back a handle to it.
+     *
+     * @param data the data to store in the list
+     * @return a handle to the newly added element
+     */
+    public Handle<Type> addFirstHandle(Type data)
+    {
+        return linkBefore(first(), data);
+    }
+
+    /**
+     * Adds data to the end of the list and gives back a handle to it.
+     *
+     * @param data the data to store in the list
+     * @return a handle to the newly added element
+     */
+    public Handle<Type> addLastHandle(Type data)
+    {
+        return linkBefore(this.head, data);
+    }
+
+    /**
+     * Adds data right after the element that the handle points to.
+     *
+     * @param handle a handle to an element in this list
+     * @param data the data to store in the list
+     * @return a handle to the newly added element
+     * @throws IllegalArgumentException throws exception if the handle is stale or from another list
+     */
+    public Handle<Type> insertAfter(Handle<Type> handle, Type data) throws IllegalArgumentException
+    {
+        return linkBefore(after(checkHandle(handle)), data);
+    }
+
+    /**
+     * Removes the element that the handle points to. The handle is stale afterward.
+     *
+     * @param handle a handle to an element in this list
+     * @return the data removed from the list
+     * @throws IllegalArgumentException throws exception if the handle is stale or from another list
+     */
+    public Type removeHandle(Handle<Type> handle) throws IllegalArgumentException
+    {
+        Node node;
+
+        node = checkHandle(handle);
+        unlink(node);
+
+        return node.data;
+    }
+
+    /**
+     * Moves the element that the handle points to so it is the first element in the list.
+     * The node itself is relinked, so the handle stays valid.
+     *
+     * @param handle a handle to an element in this list
+     * @throws IllegalArgumentException throws exception if the handle is stale or from another list
+     */
+    public void moveToFront(Handle<Type> handle) throws IllegalArgumentException
+    {
+        moveBefore(checkHandle(handle), first());
+    }
+
+    /**
+     * Moves the element that the handle points to so it is the last element in the list.
+     * The node itself is relinked, so the handle stays valid.
+     *
+     * @param handle a handle to an element in this list
+     * @throws IllegalArgumentException throws exception if the handle is stale or from another list
+     */
+    public void moveToBack(Handle<Type> handle) throws IllegalArgumentException
+    {
+        moveBefore(checkHandle(handle), this.head);
+    }
+
+    /**
+     * Gets a handle to the first element in the list.
+     *
+     * @return a handle to the first element, or null if the list is empty
+     */
+    public Handle<Type> firstHandle()
+    {
+        return (this.size == 0) ? null : first();
+    }
+
+    /**
+     * Gets a handle to the last element in the list.
+     *
+     * @return a handle to the last element, or null if the list is empty
+     */
+    public Handle<Type> lastHandle()
+    {
+        return (this.size == 0) ? null : last();
+    }
+
+    /**
+     * Checks if a handle points to a live element of this list.
+     *
+     * @param handle the handle to check
+     * @return true if the handle's element is still in this list
+     */
+    @SuppressWarnings("unchecked")
+    boolean holds(Handle<Type> handle)
+    {
+        return (handle instanceof CircularDoublyLinkedList.Node) && ((Node) handle).isLiveIn(this);
+    }
+
+    /**
+     * Gets a handle to the element after the one a handle points to, for iterators that let the list change while
+     *      they hold on to an element. If that element has been removed since, its old place is used instead, so
+     *      the iterator carries on with whatever comes after the spot it was at.
+     *
+     * @param handle a handle from this list, which may be stale
+     * @return a handle to the next element, or null if there isn't one
+     */
+    @SuppressWarnings("unchecked")
+    Handle<Type> handleAfter(Handle<Type> handle)
+    {
+        Node node, next;
+
+        node = (Node) handle;
+        next = node.isLiveIn(this) ? after(node) : liveFrom(node);
+
+        return (next == this.head) ? null : next;
+    }
+
+    /**
+     * Gets a handle to the element before the one a handle points to, for iterators that let the list change while
+     *      they hold on to an element. If that element has been removed since, its old place is used instead.
+     *
+     * @param handle a handle from this list, which may be stale
+     * @return a handle to the previous element, or null if there isn't one
+     */
+    @SuppressWarnings("unchecked")
+    Handle<Type> handleBefore(Handle<Type> handle)
+    {
+        Node node, prev;
+
+        node = (Node) handle;
+        prev = before(node.isLiveIn(this) ? node : liveFrom(node));
+
+        return (prev == this.head) ? null : prev;
+    }
+
+    /**
+     * Adds data to the end of the list.
+     *
+     * @param data the data to store in the list
+     * @return true, since the list always has room
+     */
+    @Override
+    public boolean add(Type data)
+    {
+        linkBefore(this.head, data);
+
+        return true;
+    }
+
+    /**
+     * Adds data to the beginning of the list.
+     *
+     * @param data the data to store in the list
+     * @return true, since the list always has room
+     */
+    @Override
+    public boolean offerFirst(Type data)
+    {
+        linkBefore(first(), data);
+
+        return true;
+    }
+
+    /**
+     * Adds data to the end of the list.
+     *
+     * @param data the data to store in the list
+     * @return true, since the list always has room
+     */
+    @Override
+    public boolean offerLast(Type data)
+    {
+        linkBefore(this.head, data);
+
+        return true;
+    }
+
+    /**
+     * Adds data to the end of the list, which is the tail of the queue.
+     *
+     * @param data the data to store in the list
+     * @return true, since the list always has room
+     */
+    @Override
+    public boolean offer(Type data)
+    {
+        return offerLast(data);
+    }
+
+    /**
+     * Adds data to the beginning of the list, which is the top of the stack.
+     *
+     * @param data the data to store in the list
+     */
+    @Override
+    public void push(Type data)
+    {
+        addFirst(data);
+    }
+
+    /**
+     * Removes the first element of the list.
+     *
+     * @return the data removed from the list
+     * @throws NoSuchElementException throws exception if the list is empty
+     */
+    @Override
+    public Type removeFirst() throws NoSuchElementException
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException("cannot remove data from list. list is empty");
+        }
+
+        return pollFirst();
+    }
+
+    /**
+     * Removes the last element of the list.
+     *
+     * @return the data removed from the list
+     * @throws NoSuchElementException throws exception if the list is empty
+     */
+    @Override
+    public Type removeLast() throws NoSuchElementException
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException("cannot remove data from list. list is empty");
+        }
+
+        return pollLast();
+    }
+
+    /**
+     * Removes the first element of the list, which is the head of the queue.
+     *
+     * @return the data removed from the list
+     * @throws NoSuchElementException throws exception if the list is empty
+     */
+    @Override
+    public Type remove() throws NoSuchElementException
+    {
+        return removeFirst();
+    }
+
+    /**
+     * Removes the first element of the list, which is the top of the stack.
+     *
+     * @return the data removed from the list
+     * @throws NoSuchElementException throws exception if the list is empty
+     */
+    @Override
+    public Type pop() throws NoSuchElementException
+    {
+        return removeFirst();
+    }
+
+    /**
+     * Removes the first element of the list if there is one.
+     *
+     * @return the data removed from the list, or null if the list is empty
+     */
+    @Override
+    public Type pollFirst()
+    {
+        Node first;
+
+        if (this.size == 0)
+        {
+            return null;
+        }
+
+        first = first();
+        unlink(first);
+
+        return first.data;
+    }
+
+    /**
+     * Removes the last element of the list if there is one.
+     *
+     * @return the data removed from the list, or null if the list is empty
+     */
+    @Override
+    public Type pollLast()
+    {
+        Node last;
+
+        if (this.size == 0)
+        {
+            return null;
+        }
+
+        last = last();
+        unlink(last);
+
+        return last.data;
+    }
+
+    /**
+     * Removes the first element of the list if there is one.
+     *
+     * @return the data removed from the list, or null if the list is empty
+     */
+    @Override
+    public Type poll()
+    {
+        return pollFirst();
+    }
+
+    /**
+     * Gets the first element of the list without removing it.
+     *
+     * @return the first element of the list
+     * @throws NoSuchElementException throws exception if the list is empty
+     */
+    @Override
+    public Type getFirst() throws NoSuchElementException
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException("cannot get data from list. list is empty");
+        }
+
+        return first().data;
+    }
+
+    /**
+     * Gets the last element of the list without removing it.
+     *
+     * @return the last element of the list
+     * @throws NoSuchElementException throws exception if the list is empty
+     */
+    @Override
+    public Type getLast() throws NoSuchElementException
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException("cannot get data from list. list is empty");
+        }
+
+        return last().data;
+    }
+
+    /**
+     * Gets the first element of the list without removing it.
+     *
+     * @return the first element of the list
+     * @throws NoSuchElementException throws exception if the list is empty
+     */
+    @Override
+    public Type element() throws NoSuchElementException
+    {
+        return getFirst();
+    }
+
+    /**
+     * Gets the first element of the list without removing it.
+     * The dummy head holds null, so an empty list gives back null without needing a check.
+     *
+     * @return the first element of the list, or null if the list is empty
+     */
+    @Override
+    public Type peekFirst()
+    {
+        return first().data;
+    }
+
+    /**
+     * Gets the last element of the list without removing it.
+     * The dummy head holds null, so an empty list gives back null without needing a check.
+     *
+     * @return the last element of the list, or null if the list is empty
+     */
+    @Override
+    public Type peekLast()
+    {
+        return last().data;
+    }
+
+    /**
+     * Gets the first element of the list without removing it.
+     *
+     * @return the first element of the list, or null if the list is empty
+     */
+    @Override
+    public Type peek()
+    {
+        return peekFirst();
+    }
+
+    /**
+     * Searches through the list for specified data, removing the first instance of it found.
+     *
+     * @param data the data to be removed from the list
+     * @return boolean indicating if the removal was successful
+     */
+    @Override
+    public boolean remove(Object data)
+    {
+        return removeFirstOccurrence(data);
+    }
+
+    /**
+     * Searches through the list for specified data, removing the first instance of it found.
+     *
+     * @param data the data to be removed from the list
+     * @return boolean indicating if the removal was successful
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object data)
+    {
+        Node curr;
+
+        curr = findFirst(data);
+
+        if (curr == null)
+        {
+            return false;
+        }
+
+        unlink(curr);
+
+        return true;
+    }
+
+    /**
+     * Searches backward through the list for specified data, removing the last instance of it found.
+     *
+     * @param data the data to be removed from the list
+     * @return boolean indicating if the removal was successful
+     */
+    @Override
+    public boolean removeLastOccurrence(Object data)
+    {
+        Node curr;
+        int  hops;
+        long start;
+
+        start = startTiming();
+        hops  = 0;
+
+        if (this.valueIndex != null && !this.valueIndex.containsKey(data))
+        {
+            curr = this.head;                           // no need to walk the list for data that isn't there
+        }
+        else
+        {
+            // the same walk as findFirst, just starting from the other side of the dummy head
+            for (curr = last(); curr != this.head && !Objects.equals(curr.data, data); curr = before(curr))
+            {
+                hops++;
+            }
+        }
+
+        if (this.stats != null)
+        {
+            record(ListStats.Operation.SEARCH, hops, start);
+        }
+
+        if (curr == this.head)
+        {
+            return false;
+        }
+
+        unlink(curr);
+
+        return true;
+    }
+
+    /**
+     * Removes every element from the list.
+     * Every node is marked as removed on the way out so that any handle to one of them is stale.
+     */
+    @Override
+    public void clear()
+    {
+        Node curr;
+
+        for (curr = first(); curr != this.head; curr = after(curr))
+        {
+            setBefore(curr, null);                         // next is left alone so an iterator on the node can move on
+        }
+
+        this.head.next = this.head;                     // circularly link to self, just like a new list
+        this.head.prev = this.head;
+
+        if (this.valueIndex != null)
+        {
+            this.valueIndex.clear();
+        }
+
+        this.size        = 0;
+        this.modCount++;
+        this.cursorIndex = -1;
+        this.cursor      = null;
+    }
+
+    /**
+     * Gets an iterator that goes through the list from the first element to the last.
+     *
+     * @return an iterator over the list
+     */
+    @Override
+    public Iterator<Type> iterator()
+    {
+        return new ListItr(first(), 0);
+    }
+
+    /**
+     * Gets an iterator that goes through the list from the last element to the first.
+     *
+     * @return an iterator over the list in reverse order
+     */
+    @Override
+    public Iterator<Type> descendingIterator()
+    {
+        return new DescendingItr();
+    }
+
+    /**
+     * Gets a list iterator that starts at the beginning of the list.
+     * Adding through the iterator to a full bounded list evicts the same element addAtIndex would, and the iterator
+     *      stays right after the element it added.
+     *
+     * @return a list iterator over the list
+     */
+    public ListIterator<Type> listIterator()
+    {
+        return new ListItr(first(), 0);
+    }
+
+    /**
+     * Gets a list iterator whose first call to next() returns the element at the specified index.
+     * Adding through it to a full bounded list works the way listIterator() says.
+     *
+     * @param index the index of the first element to be returned by next()
+     * @return a list iterator over the list
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public ListIterator<Type> listIterator(int index) throws IndexOutOfBoundsException
+    {
+        // this.size is in bounds since that makes an iterator that starts at the end of the list.
+        if (index < 0 || index > this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot create iterator. index is out of list bounds");
+        }
+
+        return new ListItr(nodeAt(index), index);
+    }
+
+    /**
+     * Gets a spliterator over the list that walks the nodes directly.
+     *
+     * @return a spliterator over the list
+     */
+    @Override
+    public Spliterator<Type> spliterator()
+    {
+        return new NodeSpliterator(first(), this.size, this.modCount);
+    }
+
+    /**
+     * Gets a sequential stream of the elements in the list.
+     *
+     * @return a stream over the list
+     */
+    @Override
+    public Stream<Type> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Gets a parallel stream of the elements in the list.
+     *
+     * @return a parallel stream over the list
+     */
+    @Override
+    public Stream<Type> parallelStream()
+    {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Finds the node at the specified index by walking from whichever starting point is closest.
+     * Since the list is circular, the dummy head sits both right before index 0 and right after index (size - 1),
+     *      so an index of this.size gives back the dummy head itself.
+     * If the cursor is valid it is a third place we can start from, which makes looping through the list by index
+     *      cost one hop per call instead of walking all the way from the head every time.
+     *
+     * @param index the index of the node to find, from 0 to this.size (inclusive)
+     * @return the node at the specified index, or the dummy head if index is this.size
+     */
+    private Node nodeAt(int index)
+    {
+        int  curridx, distance;
+        Node curr;
+        long start;
+
+        start = startTiming();
+
+        // by default start from whichever end of the list is closer.
+        if (index < (this.size - index))
+        {
+            curr     = first();                   // start on the first real list node
+            curridx  = 0;
+            distance = index;
+        }
+        else
+        {
+            curr     = this.head;                          // the dummy head sits at index this.size
+            curridx  = this.size;
+            distance = this.size - index;
+        }
+
+        // start from the cursor instead if it is closer than either end.
+        if (this.cursorIndex >= 0 && Math.abs(index - this.cursorIndex) < distance)
+        {
+            curr     = this.cursor;
+            curridx  = this.cursorIndex;
+            distance = Math.abs(index - this.cursorIndex);
+        }
+
+        while (curridx < index)                            // go forwards until desired index is reached.
+        {
+            curr = after(curr);
+            curridx++;
+        }
+
+        while (curridx > index)                            // go backwards until desired index is reached.
+        {
+            curr = before(curr);
+            curridx--;
+        }
+
+        if (curr != this.head)                             // remember where we ended up for the next lookup
+        {
+            this.cursor      = curr;
+            this.cursorIndex = index;
+        }
+
+        if (this.stats != null)
+        {
+            record(ListStats.Operation.LOOKUP, distance, start);
+        }
+
+        return curr;
+    }
+
+    /**
+     * Gets the node that comes after the specified node in the list's current direction.
+     *
+     * @param node the node to start from
+     * @return the node after it
+     */
+    private Node after(Node node)
+    {
+        return this.reversed ? node.prev : node.next;
+    }
+
+    /**
+     * Gets the node that comes before the specified node in the list's current direction.
+     *
+     * @param node the node to start from
+     * @return the node before it
+     */
+    private Node before(Node node)
+    {
+        return this.reversed ? node.next : node.prev;
+    }
+
+    /**
+     * Sets the node that comes after the specified node in the list's current direction.
+     *
+     * @param node the node whose link is set
+     * @param after the node that will come after it
+     */
+    private void setAfter(Node node, Node after)
+    {
+        if (this.reversed)
+        {
+            node.prev = after;
+        }
+        else
+        {
+            node.next = after;
+        }
+    }
+
+    /**
+     * Sets the node that comes before the specified node in the list's current direction.
+     *
+     * @param node the node whose link is set
+     * @param before the node that will come before it
+     */
+    private void setBefore(Node node, Node before)
+    {
+        if (this.reversed)
+        {
+            node.next = before;
+        }
+        else
+        {
+            node.prev = before;
+        }
+    }
+
+    /**
+     * Gets the first node in the list, or the dummy head if the list is empty.
+     *
+     * @return the first node
+     */
+    private Node first()
+    {
+        return after(this.head);
+    }
+
+    /**
+     * Gets the last node in the list, or the dummy head if the list is empty.
+     *
+     * @return the last node
+     */
+    private Node last()
+    {
+        return before(this.head);
+    }
+
+    /**
+     * Links a chain of nodes that already point to each other in right before the specified node.
+     *
+     * @param succ the node that will come right after the chain
+     * @param first the first node of the chain
+     * @param last the last node of the chain
+     */
+    private void linkChainBefore(Node succ, Node first, Node last)
+    {
+        Node pred;
+
+        pred = before(succ);
+
+        setBefore(first, pred);
+        setAfter(pred, first);
+        setAfter(last, succ);
+        setBefore(succ, last);
+    }
+
+    /**
+     * Rewrites every link so a reversed list runs along the next links again.
+     * The order of the list doesn't change, so this isn't a structural change. It costs O(n), and is only needed
+     *      when nodes are moved between two lists that run in different directions.
+     */
+    private void normalize()
+    {
+        if (this.reversed)
+        {
+            flipLinks();
+        }
+    }
+
+    /**
+     * Swaps the prev and next links of every node and flips the reversed flag, whichever way the list runs now.
+     * The order of the list doesn't change, only which links it runs along, so this isn't a structural change.
+     */
+    private void flipLinks()
+    {
+        Node curr, next;
+
+        curr = this.head;
+
+        do                                               // swap the links of every node, dummy head included
+        {
+            next      = curr.next;
+            curr.next = curr.prev;
+            curr.prev = next;
+            curr      = next;
+        }
+        while (curr != this.head);
+
+        this.reversed = !this.reversed;
+    }
+
+    /**
+     * Creates a new node holding data and links it into the list right before the specified node.
+     * Linking in a node is a structural change, so the cursor is no longer valid afterward.
+     * If the list is bounded and full, an element is evicted to make room. See bounded().
+     *
+     * @param succ the node that will come right after the new node
+     * @param data the data to store in the new node
+     * @return the newly linked node
+     */
+    private Node linkBefore(Node succ, Type data)
+    {
+        Node newNode, first;
+        long start;
+
+        start = startTiming();
+
+        if (this.size >= this.capacity && (succ == this.head || succ == first()))
+        {
+            // a full bounded list overwrites the element at the other end instead of making a new node
+            newNode = (succ == this.head) ? recycleFirst(data) : recycleLast(data);
+        }
+        else
+        {
+            if (this.size >= this.capacity)             // a full bounded list has to make room first
+            {
+                first = first();                         // succ isn't first, so evicting first leaves it alone
+                unlink(first);
+                evicted(first.data);
+            }
+
+            newNode = new Node(data);
+            linkChainBefore(succ, newNode, newNode);     // link the new node in between succ and the node before it
+
+            if (this.valueIndex != null)
+            {
+                index(newNode);
+            }
+
+            this.size++;                                 // increment size by 1 to ensure size is accurate
+            this.modCount++;
+            this.cursorIndex = -1;                       // indexes after the new node have all shifted by one
+        }
+
+        if (this.stats != null)
+        {
+            record(ListStats.Operation.LINK, 0, start);
+        }
+
+        return newNode;
+    }
+
+    /**
+     * Overwrites the first element of a full bounded list with data that goes at the end of the list.
+     * The first node becomes the new dummy head and the old dummy head takes the data, which leaves the new data
+     *      right before the new dummy head, at the end of the list.
+     *
+     * @param data the data to store in the list
+     * @return the node now holding data
+     */
+    private Node recycleFirst(Type data)
+    {
+        return recycle(this.head, first(), data);
+    }
+
+    /**
+     * Overwrites the last element of a full bounded list with data that goes at the beginning of the list.
+     * The last node becomes the new dummy head and the old dummy head takes the data, which leaves the new data
+     *      right after the new dummy head, at the beginning of the list.
+     *
+     * @param data the data to store in the list
+     * @return the node now holding data
+     */
+    private Node recycleLast(Type data)
+    {
+        return recycle(this.head, last(), data);
+    }
+
+    /**
+     * Swaps which node is the dummy head, moving data into the old dummy head and evicting what the new one held.
+     * No links change, so size stays the same, but every index shifts, so the cursor is no longer valid afterward.
+     *
+     * @param oldHead the current dummy head, which becomes an element holding data
+     * @param newHead the element beside the dummy head that is evicted and becomes the new dummy head
+     * @param data the data to store in the list
+     * @return the node now holding data
+     */
+    private Node recycle(Node oldHead, Node newHead, Type data)
+    {
+        Type old;
+
+        old = newHead.data;
+
+        if (this.valueIndex != null)
+        {
+            unindex(newHead);
+        }
+
+        newHead.data = null;                             // the dummy head stores no data
+        oldHead.data = data;
+        this.head    = newHead;
+
+        if (this.valueIndex != null)
+        {
+            index(oldHead);
+        }
+
+        this.modCount++;
+        this.cursorIndex = -1;
+        this.cursor      = null;                         // the cursor may be sitting on the new dummy head
+
+        evicted(old);
+
+        return oldHead;
+    }
+
+    /**
+     * Passes an evicted element to the eviction callback, if there is one.
+     *
+     * @param data the data that was evicted
+     */
+    private void evicted(Type data)
+    {
+        if (this.onEvict != null)
+        {
+            this.onEvict.accept(data);
+        }
+    }
+
+    /**
+     * Chains new nodes for every element of a collection together and links the whole chain in right before the
+     *      specified node with one splice.
+     * A bounded list that doesn't have room for all of them makes room first by evicting elements that were already
+     *      in it: from the back if the chain goes in at the front of the list, and from the front everywhere else,
+     *      the same ends linkBefore evicts from for a single element. So the new elements always go in together and
+     *      in order, and only if there are more of them than the capacity are the last of them evicted as well.
+     *
+     * @param succ the node that will come right after the new nodes
+     * @param data the collection of data to add
+     * @return the number of elements added
+     */
+    private int linkAllBefore(Node succ, Collection<? extends Type> data)
+    {
+        Node    first, last, node;
+        int     count;
+        boolean fromBack;
+        long    start;
+
+        start    = startTiming();
+        fromBack = (this.size > 0 && succ == first());  // adding at the front evicts from the back, like addFirst
+        count    = (int) Math.min(this.size, this.size + (long) data.size() - this.capacity);
+
+        for (; count > 0; count--)                      // make room out of the elements that were already here
+        {
+            node = fromBack ? last() : first();
+
+            if (node == succ)
+            {
+                succ = after(succ);                     // everything on one side is gone, so the chain goes there
+            }
+
+            unlink(node);
+            evicted(node.data);
+        }
+
+        first = null;
+        last  = null;
+        count = 0;
+
+        for (Type item : data)
+        {
+            node = new Node(item);
+            setBefore(node, last);
+
+            if (last == null)
+            {
+                first = node;
+            }
+            else
+            {
+                setAfter(last, node);
+            }
+
+            if (this.valueIndex != null)
+            {
+                index(node);
+            }
+
+            last = node;
+            count++;
+        }
+
+        if (count == 0)
+        {
+            return 0;
+        }
+
+        linkChainBefore(succ, first, last);
+
+        this.size       += count;
+        this.modCount++;
+        this.cursorIndex = -1;
+
+        trimToCapacity(fromBack);                       // only needed if there are more new elements than room
+
+        if (this.stats != null)
+        {
+            record(ListStats.Operation.LINK, 0, start); // the whole chain is one splice, so one link
+        }
+
+        return count;
+    }
+
+    /**
+     * Evicts elements from one end of a bounded list until it is back down to its capacity.
+     *
+     * @param fromBack true to evict the last elements, false to evict the first ones
+     */
+    private void trimToCapacity(boolean fromBack)
+    {
+        Node curr;
+
+        while (this.size > this.capacity)
+        {
+            curr = fromBack ? last() : first();
+            unlink(curr);
+            evicted(curr.data);
+        }
+    }
+
+    /**
+     * Moves every node of another list in right before the specified node, leaving the other list empty.
+     * Only the ends of the other list's ring are relinked. The other list's owner token is forwarded to this list's,
+     *      so every moved node belongs to this list without being touched, and the other list gets a new token.
+     *
+     * @param succ the node that will come right after the moved nodes
+     * @param other the list whose nodes are moved
+     * @throws IllegalArgumentException throws exception if other is this list
+     */
+    private void stealBefore(Node succ, CircularDoublyLinkedList<Type> other) throws IllegalArgumentException
+    {
+        Node first, last, curr;
+        int  count;
+
+        if (other == this)
+        {
+            throw new IllegalArgumentException("cannot splice a list into itself");
+        }
+
+        if (other.size == 0)
+        {
+            return;
+        }
+
+        if (other.reversed != this.reversed)             // the chain has to run the same way as this list
+        {
+            other.flipLinks();
+        }
+
+        first = other.first();
+        last  = other.last();
+        count = other.size;
+
+        other.head.next   = other.head;                  // the other list is left empty, just like a new list
+        other.head.prev   = other.head;
+        other.size        = 0;
+        other.modCount++;
+        other.cursorIndex = -1;
+        other.cursor      = null;
+
+        if (other.valueIndex != null)
+        {
+            other.valueIndex.clear();
+        }
+
+        other.owner.forward = this.owner;                // every node the other list had now belongs to this one
+        other.owner         = new Owner();
+        other.head.owner    = other.owner;               // a bounded list turns its dummy head into an element
+
+        linkChainBefore(succ, first, last);
+
+        this.size       += count;
+        this.modCount++;
+        this.cursorIndex = -1;
+
+        if (this.valueIndex != null)
+        {
+            for (curr = first; curr != succ; curr = after(curr))
+            {
+                index(curr);
+            }
+        }
+
+        trimToCapacity(false);                          // a bounded list evicts from the front until it fits
+    }
+
+    /**
+     * Moves a node that is already in the list so it sits right before the specified node.
+     * No nodes are created or thrown away, but the order of the list changes, so the cursor is no longer valid.
+     *
+     * @param node the node to move
+     * @param succ the node that will come right after the moved node
+     */
+    private void moveBefore(Node node, Node succ)
+    {
+        if (node == succ || after(node) == succ)     // already in place
+        {
+            return;
+        }
+
+        setAfter(before(node), after(node));       // cut node out of where it is now
+        setBefore(after(node), before(node));
+
+        linkChainBefore(succ, node, node);         // and link it back in right before succ
+
+        this.modCount++;
+        this.cursorIndex = -1;
+    }
+
+    /**
+     * Makes sure a handle points to a live element of this list.
+     *
+     * @param handle the handle to check
+     * @return the node that the handle points to
+     * @throws IllegalArgumentException throws exception if the handle is stale or from another list
+     */
+    @SuppressWarnings("unchecked")
+    private Node checkHandle(Handle<Type> handle) throws IllegalArgumentException
+    {
+        if (!(handle instanceof CircularDoublyLinkedList.Node) || !((Node) handle).isLiveIn(this))
+        {
+            throw new IllegalArgumentException("handle is stale or does not belong to this list");
+        }
+
+        return (Node) handle;
+    }
+
+    /**
+     * Follows the links of a removed node forward until it reaches a node that is still in the list.
+     * Unlinking leaves a node's forward link alone, and every node it leads to was in the list when it was
+     *      removed, so the walk always ends at a live node or the dummy head. If the list has been reversed since,
+     *      the forward link is the one that was cleared, and the walk gives up at the dummy head.
+     *
+     * @param node the node to start from
+     * @return the first live node at or after node's old place, or the dummy head if there isn't one
+     */
+    private Node liveFrom(Node node)
+    {
+        while (node != null && node != this.head && !node.isLiveIn(this))
+        {
+            node = after(node);
+        }
+
+        return (node == null) ? this.head : node;
+    }
+
+    /**
+     * Searches for the first node holding the specified data.
+     * With the value index turned on, a value held by just one node is found without walking the list.
+     *
+     * @param data the data to look for
+     * @return the first node holding the data, or null if the data is not in the list
+     */
+    private Node findFirst(Object data)
+    {
+        ArrayDeque<Node> bucket;
+        Node             curr;
+        int              hops;
+        long             start;
+
+        start  = startTiming();
+        bucket = (this.valueIndex != null) ? this.valueIndex.get(data) : null;
+        hops   = 0;
+
+        if (this.valueIndex != null && (bucket == null || bucket.size() == 1))
+        {
+            curr = (bucket == null) ? null : bucket.peekFirst();   // no need to walk, the index knows
+        }
+        else
+        {
+            // move through the list until we either loop back around to the head or find the data we are looking for
+            for (curr = first(); curr != this.head && !Objects.equals(curr.data, data); curr = after(curr))
+            {
+                hops++;
+            }
+
+            if (curr == this.head)
+            {
+                curr = null;
+            }
+        }
+
+        if (this.stats != null)
+        {
+            record(ListStats.Operation.SEARCH, hops, start);   // a miss is recorded too, since it walked the list
+        }
+
+        return curr;
+    }
+
+    /**
+     * Sorts the nodes by merging runs that are already in order, two at a time, until one run is left.
+     * The ring is cut open into a chain that ends in null, and each pass builds its merged chain off the dummy
+     *      head's next link. Only next links are followed while merging, and the prev links and the ring are put
+     *      back once at the end. If the comparator throws, what is left of the runs being merged is linked back
+     *      in after the merged part, so no node is lost.
+     *
+     * @param comparator the order to sort by
+     */
+    private void mergeRuns(Comparator<? super Type> comparator)
+    {
+        Node    p, pEnd, q, qEnd, rest, tail, curr, prev;
+        int     runs;
+        boolean merging;
+
+        this.head.prev.next = null;                      // cut the ring open after the last node
+        tail    = this.head;
+        p       = null;
+        pEnd    = null;
+        q       = null;
+        qEnd    = null;
+        rest    = null;
+        merging = false;
+
+        try
+        {
+            do
+            {
+                p    = this.head.next;
+                tail = this.head;
+                runs = 0;
+
+                while (p != null)
+                {
+                    pEnd = endOfRun(p, comparator);
+                    q    = pEnd.next;
+                    runs++;
+
+                    if (q == null)                      // a run left over at the end goes on as it is
+                    {
+                        tail.next = p;
+                        tail      = pEnd;
+                        p         = null;
+                        break;
+                    }
+
+                    qEnd = endOfRun(q, comparator);
+                    rest = qEnd.next;
+
+                    pEnd.next = null;                   // end both runs so the merge can tell when one runs out
+                    qEnd.next = null;
+                    merging   = true;
+
+                    while (p != null && q != null)
+                    {
+                        if (comparator.compare(q.data, p.data) < 0)
+                        {
+                            tail.next = q;
+                            tail      = q;
+                            q         = q.next;
+                        }
+                        else                            // ties go to p, which keeps the sort stable
+                        {
+                            tail.next = p;
+                            tail      = p;
+                            p         = p.next;
+                        }
+                    }
+
+                    tail.next = (p != null) ? p : q;    // the rest of whichever run is left is already in order
+                    tail      = (p != null) ? pEnd : qEnd;
+                    merging   = false;
+                    p         = rest;
+                }
+
+                tail.next = null;
+            }
+            while (runs > 1);
+        }
+        catch (RuntimeException | Error exception)
+        {
+            if (merging)                                // link back what was left of both runs and the rest
+            {
+                if (p != null)
+                {
+                    tail.next = p;
+                    tail      = pEnd;
+                }
+
+                if (q != null)
+                {
+                    tail.next = q;
+                    tail      = qEnd;
+                }
+
+                tail.next = rest;
+            }
+            else
+            {
+                tail.next = p;                          // finding a run doesn't change any links
+            }
+
+            throw exception;
+        }
+        finally
+        {
+            prev = this.head;
+
+            for (curr = this.head.next; curr != null; curr = curr.next)
+            {
+                curr.prev = prev;
+                prev      = curr;
+            }
+
+            prev.next      = this.head;                  // close the ring back up
+            this.head.prev = prev;
+        }
+    }
+
+    /**
+     * Finds the last node of the run that starts at a node, where a run is nodes that are already in order.
+     *
+     * @param start the first node of the run
+     * @param comparator the order to sort by
+     * @return the last node of the run
+     */
+    private Node endOfRun(Node start, Comparator<? super Type> comparator)
+    {
+        Node end;
+
+        end = start;
+
+        while (end.next != null && comparator.compare(end.data, end.next.data) <= 0)
+        {
+            end = end.next;
+        }
+
+        return end;
+    }
+
+    /**
+     * Gets the natural ordering, for sorting elements that are Comparable.
+     *
+     * @param <Type> the type of object stored in the list
+     * @return a comparator that uses compareTo
+     */
+    @SuppressWarnings("unchecked")
+    private static <Type> Comparator<? super Type> naturalOrder()
+    {
+        return (Comparator<? super Type>) Comparator.naturalOrder();
+    }
+
+    /**
+     * Reads the clock at the start of an operation, if stats are on.
+     *
+     * @return the current time in nanoseconds, or 0 if stats are off
+     */
+    private long startTiming()
+    {
+        return (this.stats != null) ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records a finished lookup, search, link, or unlink in the stats.
+     * Only called while stats are on.
+     *
+     * @param operation the operation that finished
+     * @param hops the number of nodes it walked past
+     * @param start the time it started, from startTiming
+     */
+    private void record(ListStats.Operation operation, int hops, long start)
+    {
+        this.stats.record(operation, hops, System.nanoTime() - start, this.size);
+    }
+
+    /**
+     * Replaces the data held by a node, keeping the value index up to date.
+     *
+     * @param node the node whose data is replaced
+     * @param data the new data for the node
+     */
+    private void replaceData(Node node, Type data)
+    {
+        if (this.valueIndex != null)
+        {
+            unindex(node);
+            node.data = data;
+            index(node);
+        }
+        else
+        {
+            node.data = data;
+        }
+    }
+
+    /**
+     * Adds a node to the value index under the data it holds.
+     *
+     * @param node the node to add to the index
+     */
+    private void index(Node node)
+    {
+        this.valueIndex.computeIfAbsent(node.data, key -> new ArrayDeque<>(1)).add(node);
+    }
+
+    /**
+     * Removes a node from the value index, dropping its bucket if it was the last node holding that data.
+     *
+     * @param node the node to remove from the index
+     */
+    private void unindex(Node node)
+    {
+        ArrayDeque<Node> bucket;
+
+        bucket = this.valueIndex.get(node.data);
+
+        if (bucket != null && bucket.remove(node) && bucket.isEmpty())
+        {
+            this.valueIndex.remove(node.data);
+        }
+    }
+
+    /**
+     * Cuts the specified node out of the list.
+     * Removing a node is a structural change, so the cursor is no longer valid afterward.
+     *
+     * @param node the node to remove from the list
+     */
+    private void unlink(Node node)
+    {
+        long start;
+
+        start = startTiming();
+
+        setAfter(before(node), after(node));  // relink the node before this one to point to the node after it.
+        setBefore(after(node), before(node)); // relink the node after this one to point back to the node before it.
+        setBefore(node, null);                // marks the node as removed so any handle to it is stale. The link
+                                              // forward is left alone so an iterator on the node can still move on.
+        if (this.valueIndex != null)
+        {
+            unindex(node);
+        }
+
+        this.size--;                    // decrement size by 1 to ensure list size is kept accurate
+        this.modCount++;
+        this.cursorIndex = -1;          // indexes after the removed node have all shifted by one
+        this.cursor      = null;        // don't hold on to a node that may have just been removed
+
+        if (this.stats != null)
+        {
+            record(ListStats.Operation.UNLINK, 0, start);
+        }
+    }
+
+    /**
+     * Builds a String that represents the list.
+     * Only the first TO_STRING_LIMIT elements are written out, followed by a marker saying how many were left off,
+     *      so logging a huge list by mistake can't build a huge String. Use appendTo or writeTo to get all of it.
+     *
+     * @return String representing the list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder builder;
+
+        // guess about 8 characters an element, which is right for small numbers and short strings
+        builder = new StringBuilder(2 + 8 * Math.min(this.size, TO_STRING_LIMIT));
+
+        try
+        {
+            return appendTo(builder, TO_STRING_LIMIT).toString();
+        }
+        catch (IOException exception)
+        {
+            throw new UncheckedIOException(exception);  // a StringBuilder never throws, so this can't happen
+        }
+    }
+
+    /**
+     * Writes the list out to any Appendable, like a StringBuilder the caller reuses or a Writer, in the same
+     *      format as toString.
+     * Elements are written one at a time as the list is walked, so nothing is built up in between. After
+     *      maxElements elements the rest are left off and "...(+N more)" is written in their place.
+     *
+     * @param out where to write the list
+     * @param maxElements the most elements to write out
+     * @param <A> the type of Appendable
+     * @return out, so calls can be chained
+     * @throws IOException throws exception if out throws it
+     * @throws IllegalArgumentException throws exception if maxElements is negative
+     */
+    public <A extends Appendable> A appendTo(A out, int maxElements) throws IOException, IllegalArgumentException
+    {
+        Node curr;
+        int  count;
+
+        if (maxElements < 0)
+        {
+            throw new IllegalArgumentException("cannot write list. maxElements cannot be negative");
+        }
+
+        out.append('[');
+
+        for (curr = first(), count = 0; curr != this.head; curr = after(curr), count++)
+        {
+            if (count == maxElements)
+            {
+                if (count > 0)
+                {
+                    out.append(", ");
+                }
+
+                out.append("...(+").append(Integer.toString(this.size - count)).append(" more)");
+                break;
+            }
+
+            if (count > 0)                                  // every element but the first gets a comma before it
+            {
+                out.append(", ");
+            }
+
+            if (curr.data == this)
+            {
+                out.append("(this list)");                  // don't loop forever on a list that holds itself
+            }
+            else if (curr.data instanceof CharSequence)
+            {
+                out.append((CharSequence) curr.data);       // no need to make a String out of what already is one
+            }
+            else
+            {
+                out.append(String.valueOf(curr.data));      // null-safe, unlike calling toString on the data
+            }
+        }
+
+        out.append(']');
+
+        return out;
+    }
+
+    /**
+     * Writes the whole list out to a Writer in the same format as toString, with no limit on the number of elements.
+     *
+     * @param out the Writer to write the list to
+     * @throws IOException throws exception if out throws it
+     */
+    public void writeTo(Writer out) throws IOException
+    {
+        appendTo(out, Integer.MAX_VALUE);
+    }
+
+    /**
+     * private inner list iterator class that walks the nodes of the list directly.
+     * The iterator sits in the gap between two nodes, so next() moves forward over a node and previous() moves back.
+     */
+    private class ListItr implements ListIterator<Type>
+    {
+        private Node next;             // the node that next() will return
+        private int  nextIndex;        // the index of the node that next() will return
+        private Node lastReturned;     // the node last returned by next() or previous(), or null if there isn't one
+        private int  expectedModCount; // the modCount the list should have if nobody else changed it
+
+        /**
+         * Constructor for the list iterator that takes the node to start on and its index.
+         *
+         * @param next the node that the first call to next() will return
+         * @param nextIndex the index of that node
+         */
+        private ListItr(Node next, int nextIndex)
+        {
+            this.next             = next;
+            this.nextIndex        = nextIndex;
+            this.lastReturned     = null;
+            this.expectedModCount = CircularDoublyLinkedList.this.modCount;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextIndex < CircularDoublyLinkedList.this.size;
+        }
+
+        @Override
+        public Type next()
+        {
+            checkForModification();
+
+            if (!hasNext())
+            {
+                throw new NoSuchElementException("cannot get next element. iterator is at the end of the list");
+            }
+
+            this.lastReturned = this.next;
+            this.next         = after(this.next);
+            this.nextIndex++;
+
+            return this.lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious()
+        {
+            return this.nextIndex > 0;
+        }
+
+        @Override
+        public Type previous()
+        {
+            checkForModification();
+
+            if (!hasPrevious())
+            {
+                throw new NoSuchElementException("cannot get previous element. iterator is at the start of the list");
+            }
+
+            this.next         = before(this.next);
+            this.lastReturned = this.next;
+            this.nextIndex--;
+
+            return this.lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex()
+        {
+            return this.nextIndex;
+        }
+
+        @Override
+        public int previousIndex()
+        {
+            return this.nextIndex - 1;
+        }
+
+        @Override
+        public void remove()
+        {
+            Node lastNext;
+
+            checkForModification();
+
+            if (this.lastReturned == null)
+            {
+                throw new IllegalStateException("cannot remove element. next or previous has not been called");
+            }
+
+            lastNext = after(this.lastReturned);
+            unlink(this.lastReturned);
+
+            if (this.next == this.lastReturned)        // we just went backwards over the removed node
+            {
+                this.next = lastNext;
+            }
+            else                                       // we just went forwards over the removed node
+            {
+                this.nextIndex--;
+            }
+
+            this.lastReturned     = null;
+            this.expectedModCount = CircularDoublyLinkedList.this.modCount;
+        }
+
+        @Override
+        public void set(Type data)
+        {
+            if (this.lastReturned == null)
+            {
+                throw new IllegalStateException("cannot set element. next or previous has not been called");
+            }
+
+            checkForModification();
+
+            replaceData(this.lastReturned, data);
+        }
+
+        @Override
+        public void add(Type data)
+        {
+            boolean atEnd, full;
+
+            checkForModification();
+
+            atEnd = (this.next == CircularDoublyLinkedList.this.head);
+            full  = (CircularDoublyLinkedList.this.size >= CircularDoublyLinkedList.this.capacity);
+
+            linkBefore(this.next, data);               // the new node goes in the gap the iterator is sitting in
+
+            if (atEnd)                                 // a full list may have moved the dummy head, so follow it
+            {
+                this.next      = CircularDoublyLinkedList.this.head;
+                this.nextIndex = CircularDoublyLinkedList.this.size;
+            }
+            else if (!full || this.nextIndex == 0)     // otherwise the evicted first element was behind the iterator
+            {
+                this.nextIndex++;
+            }
+
+            this.lastReturned     = null;
+            this.expectedModCount = CircularDoublyLinkedList.this.modCount;
+        }
+
+        /**
+         * Makes sure nobody else has changed the list since this iterator last did.
+         *
+         * @throws ConcurrentModificationException throws exception if the list was changed by someone else
+         */
+        private void checkForModification() throws ConcurrentModificationException
+        {
+            if (CircularDoublyLinkedList.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException("list was changed outside of this iterator");
+            }
+        }
+    }
+
+    /**
+     * private inner iterator class that goes through the list backward.
+     * It is just a list iterator started on the dummy head, which sits right after the last element, and driven
+     *      with previous() instead of next().
+     */
+    private class DescendingItr implements Iterator<Type>
+    {
+        private final ListItr itr; // the list iterator doing the actual work
+
+        /**
+         * Constructor for the descending iterator that starts it after the last element.
+         */
+        private DescendingItr()
+        {
+            this.itr = new ListItr(CircularDoublyLinkedList.this.head, CircularDoublyLinkedList.this.size);
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.itr.hasPrevious();
+        }
+
+        @Override
+        public Type next()
+        {
+            return this.itr.previous();
+        }
+
+        @Override
+        public void remove()
+        {
+            this.itr.remove();
+        }
+    }
+
+    /**
+     * private inner spliterator class that walks a run of nodes in the list directly.
+     * A linked list can't be cut in half without walking to the middle first, so instead of splitting in half
+     *      trySplit copies a batch of elements off the front into an array, and the batch grows each split.
+     * This hands a parallel stream a steady supply of array-backed chunks that split evenly on their own,
+     *      while this spliterator keeps the rest of the nodes.
+     */
+    private class NodeSpliterator implements Spliterator<Type>
+    {
+        private static final int BATCH_UNIT = 1 << 10;  // how much bigger each batch is than the one before it
+        private static final int MAX_BATCH  = 1 << 25;  // the largest batch we will copy into one array
+
+        private Node current;          // the next node to hand out
+        private int  remaining;        // how many nodes are left to hand out
+        private int  expectedModCount; // the modCount the list should have if nobody else changed it
+        private int  batch;            // the size of the last batch split off
+
+        /**
+         * Constructor for the spliterator that takes the first node, how many nodes to cover, and the modCount.
+         *
+         * @param current the first node to hand out
+         * @param remaining the number of nodes to hand out
+         * @param expectedModCount the modCount of the list when the spliterator was made
+         */
+        private NodeSpliterator(Node current, int remaining, int expectedModCount)
+        {
+            this.current          = current;
+            this.remaining        = remaining;
+            this.expectedModCount = expectedModCount;
+            this.batch            = 0;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Type> action)
+        {
+            Type data;
+
+            Objects.requireNonNull(action);
+
+            if (this.remaining <= 0)
+            {
+                return false;
+            }
+
+            checkForModification();
+
+            data         = this.current.data;
+            this.current = after(this.current);
+            this.remaining--;
+
+            action.accept(data);
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Type> action)
+        {
+            Node curr;
+            int  count;
+
+            Objects.requireNonNull(action);
+
+            curr  = this.current;
+            count = this.remaining;
+
+            this.remaining = 0;                        // everything gets handed out now, even if the action throws
+
+            for (; count > 0; count--)
+            {
+                action.accept(curr.data);
+                curr = after(curr);
+            }
+
+            this.current = curr;
+
+            checkForModification();
+        }
+
+        @Override
+        public Spliterator<Type> trySplit()
+        {
+            Object[] array;
+            Node     curr;
+            int      count, idx;
+
+            if (this.remaining <= 1)                   // not worth splitting a single element
+            {
+                return null;
+            }
+
+            checkForModification();
+
+            count = Math.min(Math.min(this.batch + BATCH_UNIT, MAX_BATCH), this.remaining);
+            array = new Object[count];
+            curr  = this.current;
+
+            for (idx = 0; idx < count; idx++)          // copy the batch off the front of the run
+            {
+                array[idx] = curr.data;
+                curr       = after(curr);
+            }
+
+            this.current    = curr;
+            this.remaining -= count;
+            this.batch      = count;
+
+            return Spliterators.spliterator(array, 0, count, Spliterator.ORDERED);
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return this.remaining;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        /**
+         * Makes sure nobody else has changed the list since this spliterator was made.
+         *
+         * @throws ConcurrentModificationException throws exception if the list was changed by someone else
+         */
+        private void checkForModification() throws ConcurrentModificationException
+        {
+            if (CircularDoublyLinkedList.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException("list was changed outside of this spliterator");
+            }
+        }
     }
 }
@@ -0,0 +1,615 @@
+package Main;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Thread-safe Circular Doubly Linked List.
+ * Instead of one lock around the whole list, every node has its own lock, so threads working on different parts
+ *      of the list don't get in each other's way.
+ * A node's lock guards the link from it to the node after it: its own next link and that node's prev link. So
+ *      linking a node in only needs the lock of the node it goes after, and cutting one out needs its own lock and
+ *      the lock of the node before it. To avoid deadlock, locks are always taken going forwards, and nobody ever
+ *      waits for the dummy head's lock while holding another one.
+ * The dummy head's lock only guards the link to the first element, and the link back around from the last element
+ *      to the dummy head belongs to the last element's lock. So the two ends never share a lock once the list has
+ *      more than one element: addFirst and pollFirst lock the head (and the first node), while addLast and pollLast
+ *      lock the last node (and the one before it) without going through the head at all. An operation at the back
+ *      finds its nodes without locking, locks them, and checks nothing moved before it changes anything, going
+ *      around again if something did.
+ * Walking to an index is done hand-over-hand from the head, locking the next node before letting go of the
+ *      current one, so an operation in the middle only holds up the nodes it is walking past.
+ * Reading the ends, size, iterating, and streaming don't take any locks. Iterators are weakly consistent: they never
+ *      throw ConcurrentModificationException, and they see some of the changes made while they are running.
+ *
+ * @param <Type> the type of object stored in the list
+ * @author Julia Reynolds
+ */
+public class ConcurrentCircularDoublyLinkedList<Type> implements Iterable<Type>
+{
+    private final Node<Type>    head; // the start of the list
+    private final AtomicInteger size; // the length/size of the list
+
+    /**
+     * private static nested node class for the concurrent linked list.
+     * Each node has its own lock, which guards the link from it to the node after it.
+     *
+     * @param <Type> the type of object stored in the node
+     */
+    private static class Node<Type>
+    {
+        private final ReentrantLock lock;    // held while this node's next link and the next node's prev change
+        private volatile Node<Type> prev;    // link to previous node in list
+        private volatile Type       data;    // data stored in node
+        private volatile Node<Type> next;    // link to next node in list
+        private volatile boolean    removed; // set once the node has been cut out of the list
+
+        /**
+         * Constructor for Node that takes the data to store.
+         *
+         * @param data the data to store in the node
+         */
+        private Node(Type data)
+        {
+            this.lock = new ReentrantLock();
+            this.data = data;
+        }
+    }
+
+    /**
+     * Constructor for concurrent doubly linked list
+     */
+    public ConcurrentCircularDoublyLinkedList()
+    {
+        this.head = new Node<>(null);       // dummy head node stores no data
+        this.size = new AtomicInteger();    // list is empty so size is 0
+
+        this.head.next = this.head;         // circularly link to self
+        this.head.prev = this.head;         // circularly link to self
+    }
+
+    /**
+     * Constructor that adds data as the linked list is constructed.
+     *
+     * @param data the data to store in the list
+     */
+    @SafeVarargs
+    public ConcurrentCircularDoublyLinkedList(Type... data)
+    {
+        this();                             // call other constructor to set up empty list
+
+        for (Type item : data)
+        {
+            addLast(item);
+        }
+    }
+
+    /**
+     * Adds data to the beginning of the list.
+     * Only locks the dummy head.
+     *
+     * @param data the data to store in the list
+     */
+    public void addFirst(Type data)
+    {
+        this.head.lock.lock();
+
+        try
+        {
+            link(this.head, new Node<>(data));
+        }
+        finally
+        {
+            this.head.lock.unlock();
+        }
+    }
+
+    /**
+     * Adds data to the end of the list.
+     * Only locks the last node, which is the dummy head just when the list is empty.
+     *
+     * @param data the data to store in the list
+     */
+    public void addLast(Type data)
+    {
+        Node<Type> last;
+
+        while (true)                        // goes around again only if the end moved before we locked it
+        {
+            last = this.head.prev;
+            last.lock.lock();
+
+            try
+            {
+                if (!last.removed && last.next == this.head)
+                {
+                    link(last, new Node<>(data));
+
+                    return;
+                }
+            }
+            finally
+            {
+                last.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Adds data at the specified index within the list
+     *
+     * @param data the data to add to the list
+     * @param index the location in the list to add the data
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public void addAtIndex(Type data, int index) throws IndexOutOfBoundsException
+    {
+        Node<Type> pred;
+
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("cannot addAtIndex data to list. index is out of bounds");
+        }
+
+        pred = lockNodeBefore(index);
+
+        try
+        {
+            link(pred, new Node<>(data));
+        }
+        finally
+        {
+            pred.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first element in the list.
+     * Locks the dummy head and the first node.
+     *
+     * @return the first element, or null if the list is empty
+     */
+    public Type pollFirst()
+    {
+        Node<Type> first;
+
+        this.head.lock.lock();
+
+        try
+        {
+            first = this.head.next;         // can't change while we hold the head
+
+            if (first == this.head)
+            {
+                return null;                // nothing to remove in an empty list
+            }
+
+            first.lock.lock();
+
+            try
+            {
+                unlink(first);
+            }
+            finally
+            {
+                first.lock.unlock();
+            }
+
+            return first.data;
+        }
+        finally
+        {
+            this.head.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the last element in the list.
+     * Locks the node before the last one and then the last one, which only touches the dummy head when the list
+     *      has one element.
+     *
+     * @return the last element, or null if the list is empty
+     */
+    public Type pollLast()
+    {
+        Node<Type> last, pred;
+
+        while (true)                        // goes around again only if the end moved before we locked it
+        {
+            last = this.head.prev;
+
+            if (last == this.head)
+            {
+                return null;                // nothing to remove in an empty list
+            }
+
+            // the node before last has to be locked before last itself to keep the lock order, but something
+            //      could be added or removed around them before we get there, so check and try again if it was
+            pred = last.prev;
+            pred.lock.lock();
+
+            try
+            {
+                if (!pred.removed && pred.next == last)
+                {
+                    last.lock.lock();
+
+                    try
+                    {
+                        if (last.next == this.head)
+                        {
+                            unlink(last);
+
+                            return last.data;
+                        }
+                    }
+                    finally
+                    {
+                        last.lock.unlock();
+                    }
+                }
+            }
+            finally
+            {
+                pred.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Gets the first element in the list without removing it.
+     *
+     * @return the first element, or null if the list is empty
+     */
+    public Type peekFirst()
+    {
+        Node<Type> first;
+
+        first = this.head.next;
+
+        return (first == this.head) ? null : first.data;
+    }
+
+    /**
+     * Gets the last element in the list without removing it.
+     *
+     * @return the last element, or null if the list is empty
+     */
+    public Type peekLast()
+    {
+        Node<Type> last;
+
+        last = this.head.prev;
+
+        return (last == this.head) ? null : last.data;
+    }
+
+    /**
+     * Searches through the list for specified data, removing the first instance of it found.
+     *
+     * @param data the data to be removed from the list
+     * @return boolean indicating if the removal was successful
+     */
+    public boolean removeData(Type data)
+    {
+        Node<Type> pred, curr;
+
+        pred = lockNodeBefore(0);
+
+        try
+        {
+            // walk hand-over-hand, always holding pred and the node we are looking at
+            for (curr = pred.next; curr != this.head; curr = pred.next)
+            {
+                curr.lock.lock();
+
+                if (Objects.equals(curr.data, data))
+                {
+                    try
+                    {
+                        unlink(curr);
+                    }
+                    finally
+                    {
+                        curr.lock.unlock();
+                    }
+
+                    return true;
+                }
+
+                pred.lock.unlock();
+                pred = curr;
+            }
+
+            return false;                   // made it back around to the head without finding the data
+        }
+        finally
+        {
+            pred.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes data from the list at the specified index.
+     *
+     * @param index the index of the data to be removed
+     * @return the data removed from the list
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public Type removeIndex(int index) throws IndexOutOfBoundsException
+    {
+        Node<Type> pred, curr;
+
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("cannot remove data from list. index is out of list bounds");
+        }
+
+        pred = lockNodeBefore(index);
+
+        try
+        {
+            curr = pred.next;
+
+            if (curr == this.head)
+            {
+                throw new IndexOutOfBoundsException("cannot remove data from list. index is out of list bounds");
+            }
+
+            curr.lock.lock();
+
+            try
+            {
+                unlink(curr);
+            }
+            finally
+            {
+                curr.lock.unlock();
+            }
+
+            return curr.data;
+        }
+        finally
+        {
+            pred.lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the data stored at the specified index.
+     * This walks the list without locking, so if the list is being changed at the same time the result is the
+     *      element at that index at some moment during the call.
+     *
+     * @param index the index of the data to get
+     * @return the data stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public Type get(int index) throws IndexOutOfBoundsException
+    {
+        Node<Type> curr;
+        int        curridx;
+
+        if (index >= 0)
+        {
+            for (curr = this.head.next, curridx = 0; curr != this.head; curr = curr.next)
+            {
+                if (curr.removed)
+                {
+                    continue;               // skip nodes cut out after we stepped onto them
+                }
+
+                if (curridx++ == index)
+                {
+                    return curr.data;
+                }
+            }
+        }
+
+        throw new IndexOutOfBoundsException("cannot get data from list. index is out of list bounds");
+    }
+
+    /**
+     * Gets the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    public int size()
+    {
+        return this.size.get();
+    }
+
+    /**
+     * Gets a weakly consistent iterator that goes through the list from the first element to the last.
+     *
+     * @return an iterator over the list
+     */
+    @Override
+    public Iterator<Type> iterator()
+    {
+        return new WeakItr();
+    }
+
+    /**
+     * Gets a weakly consistent spliterator over the list.
+     *
+     * @return a spliterator over the list
+     */
+    @Override
+    public Spliterator<Type> spliterator()
+    {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Gets a sequential stream of the elements in the list.
+     *
+     * @return a stream over the list
+     */
+    public Stream<Type> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Builds a String that represents the list at some moment during the call.
+     *
+     * @return String representing the list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder builder;
+
+        builder = new StringBuilder("[");
+
+        for (Type data : this)
+        {
+            if (builder.length() > 1)       // every element but the first gets a comma before it
+            {
+                builder.append(", ");
+            }
+
+            builder.append(data);
+        }
+
+        builder.append("]");
+
+        return builder.toString();
+    }
+
+    /**
+     * Walks hand-over-hand to the node right before the specified index and returns it locked.
+     *
+     * @param index the index right after the node to find
+     * @return the locked node right before index, which is the head if index is 0
+     * @throws IndexOutOfBoundsException throws exception if the list runs out before index
+     */
+    private Node<Type> lockNodeBefore(int index) throws IndexOutOfBoundsException
+    {
+        Node<Type> curr, next;
+        int        curridx;
+
+        this.head.lock.lock();
+
+        curr = this.head;
+
+        for (curridx = 0; curridx < index; curridx++)
+        {
+            next = curr.next;               // can't change while we hold curr
+
+            if (next == this.head)          // the list ran out before we got to index
+            {
+                curr.lock.unlock();
+
+                throw new IndexOutOfBoundsException("cannot reach index. index is out of list bounds");
+            }
+
+            next.lock.lock();
+            curr.lock.unlock();
+            curr = next;
+        }
+
+        return curr;
+    }
+
+    /**
+     * Links a new node in right after the specified one. The caller must hold pred's lock, which guards both links
+     *      that change.
+     *
+     * @param pred the node that will come right before the new node
+     * @param node the new node
+     */
+    private void link(Node<Type> pred, Node<Type> node)
+    {
+        Node<Type> succ;
+
+        succ      = pred.next;              // can't change while we hold pred
+        node.prev = pred;
+        node.next = succ;
+        pred.next = node;                   // published last, so lock-free readers only ever see a finished node
+        succ.prev = node;
+
+        this.size.incrementAndGet();
+    }
+
+    /**
+     * Cuts a node out of the list. The caller must hold the locks of the node and the node before it, which guard
+     *      the links into and out of it.
+     * The node keeps its next link so that an iterator sitting on it can still move on.
+     *
+     * @param node the node to remove
+     */
+    private void unlink(Node<Type> node)
+    {
+        node.removed   = true;
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+
+        this.size.decrementAndGet();
+    }
+
+    /**
+     * private inner iterator class that follows next links without locking, skipping removed nodes.
+     */
+    private class WeakItr implements Iterator<Type>
+    {
+        private Node<Type> next; // the node that next() will return, or the head if there isn't one
+
+        /**
+         * Constructor for the iterator that starts at the beginning of the list.
+         */
+        private WeakItr()
+        {
+            this.next = advance(ConcurrentCircularDoublyLinkedList.this.head);
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.next != ConcurrentCircularDoublyLinkedList.this.head;
+        }
+
+        @Override
+        public Type next()
+        {
+            Type data;
+
+            if (!hasNext())
+            {
+                throw new NoSuchElementException("cannot get next element. iterator is at the end of the list");
+            }
+
+            data      = this.next.data;
+            this.next = advance(this.next);
+
+            return data;
+        }
+
+        /**
+         * Finds the first node after the specified one that hasn't been removed.
+         *
+         * @param node the node to start after
+         * @return the next live node, or the head if the end of the list was reached
+         */
+        private Node<Type> advance(Node<Type> node)
+        {
+            Node<Type> curr;
+
+            curr = node.next;
+
+            while (curr != ConcurrentCircularDoublyLinkedList.this.head && curr.removed)
+            {
+                curr = curr.next;
+            }
+
+            return curr;
+        }
+    }
+}
@@ -0,0 +1,416 @@
+package Main;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Circular Doubly Linked List specialized for double values.
+ * Works the same as CircularDoublyLinkedList, but the values are stored unboxed and the nodes are just slots in
+ *      parallel arrays, with the links between them stored as slot numbers instead of object references.
+ * Slot 0 is the dummy head. Slots freed by removing a value are kept on a free list and handed out again by the
+ *      next add, so once the arrays have grown big enough, adding and removing doesn't allocate anything.
+ *
+ * @author Julia Reynolds
+ */
+public class DoubleCircularDoublyLinkedList
+{
+    private static final int HEAD             = 0;  // the slot of the dummy head node
+    private static final int NONE             = -1; // marks the end of the free list
+    private static final int DEFAULT_CAPACITY = 16; // how many slots to start with, counting the dummy head
+
+    private int[]    next;     // next[slot] is the slot of the node after slot
+    private int[]    prev;     // prev[slot] is the slot of the node before slot
+    private double[] values;   // values[slot] is the value stored in slot
+    private int      size;     // the length/size of the list
+    private int      used;     // how many slots have ever been handed out, counting the dummy head
+    private int      free;     // the first slot on the free list, linked through next[], or NONE if it is empty
+    private int      modCount; // counts structural changes so iterators can tell when the list changed under them
+
+    /**
+     * Constructor for double doubly linked list
+     */
+    public DoubleCircularDoublyLinkedList()
+    {
+        this.next   = new int[DEFAULT_CAPACITY];
+        this.prev   = new int[DEFAULT_CAPACITY];
+        this.values = new double[DEFAULT_CAPACITY];
+        this.size   = 0;                        // list is empty so size is 0
+        this.used   = 1;                        // slot 0 is taken by the dummy head
+        this.free   = NONE;
+
+        this.next[HEAD] = HEAD;                 // circularly link to self
+        this.prev[HEAD] = HEAD;                 // circularly link to self
+    }
+
+    /**
+     * Constructor that adds values as the linked list is constructed.
+     *
+     * @param values the values to store in the list
+     */
+    public DoubleCircularDoublyLinkedList(double... values)
+    {
+        this();                                 // call other constructor to set up empty list
+
+        for (double value : values)
+        {
+            addLast(value);
+        }
+    }
+
+    /**
+     * Adds a value to the beginning of the list.
+     *
+     * @param value the value to store in the list
+     */
+    public void addFirst(double value)
+    {
+        linkBefore(this.next[HEAD], value);
+    }
+
+    /**
+     * Adds a value to the end of the list.
+     *
+     * @param value the value to store in the list
+     */
+    public void addLast(double value)
+    {
+        linkBefore(HEAD, value);
+    }
+
+    /**
+     * Adds a value at the specified index within the list
+     *
+     * @param value the value to add to the list
+     * @param index the location in the list to add the value
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public void addAtIndex(double value, int index) throws IndexOutOfBoundsException
+    {
+        // we are considering this.size in bounds in case we want to add on to the end of the list.
+        if (index < 0 || index > this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot addAtIndex value to list. index is out of bounds");
+        }
+
+        linkBefore(slotAt(index), value);
+    }
+
+    /**
+     * Searches through the list for the specified value, removing the first instance of it found.
+     * Values are compared the way Double.equals compares them, so NaN matches NaN and -0.0 doesn't match 0.0.
+     *
+     * @param value the value to be removed from the list
+     * @return boolean indicating if the removal was successful
+     */
+    public boolean removeData(double value)
+    {
+        int curr;
+
+        // move through the list until we either loop back around to the head or find the value we are looking for
+        for (curr = this.next[HEAD]; curr != HEAD; curr = this.next[curr])
+        {
+            if (Double.compare(this.values[curr], value) == 0)
+            {
+                unlink(curr);
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes the value at the specified index.
+     *
+     * @param index the index of the value to be removed
+     * @return the value removed from the list
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public double removeIndex(int index) throws IndexOutOfBoundsException
+    {
+        int slot;
+
+        if (index < 0 || index >= this.size)        // this.size is out of bounds since we start at index 0
+        {
+            throw new IndexOutOfBoundsException("cannot remove value from list. index is out of list bounds");
+        }
+
+        slot = slotAt(index);
+        unlink(slot);
+
+        return this.values[slot];                   // the slot is free now, but its value hasn't been overwritten
+    }
+
+    /**
+     * Gets the value stored at the specified index.
+     *
+     * @param index the index of the value to get
+     * @return the value stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public double get(int index) throws IndexOutOfBoundsException
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot get value from list. index is out of list bounds");
+        }
+
+        return this.values[slotAt(index)];
+    }
+
+    /**
+     * Replaces the value stored at the specified index.
+     *
+     * @param index the index of the value to replace
+     * @param value the new value to store at the index
+     * @return the value that was previously stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public double set(int index, double value) throws IndexOutOfBoundsException
+    {
+        int    slot;
+        double old;
+
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot set value in list. index is out of list bounds");
+        }
+
+        slot              = slotAt(index);
+        old               = this.values[slot];
+        this.values[slot] = value;
+
+        return old;
+    }
+
+    /**
+     * Gets the number of values in the list.
+     *
+     * @return the size of the list
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Passes every value in the list to the action, from first to last, without boxing or allocating anything.
+     *
+     * @param action the action to perform on each value
+     */
+    public void forEach(DoubleConsumer action)
+    {
+        int curr, expectedModCount;
+
+        expectedModCount = this.modCount;
+
+        for (curr = this.next[HEAD]; curr != HEAD; curr = this.next[curr])
+        {
+            action.accept(this.values[curr]);
+        }
+
+        if (this.modCount != expectedModCount)
+        {
+            throw new ConcurrentModificationException("list was changed during forEach");
+        }
+    }
+
+    /**
+     * Gets an iterator that goes through the list from the first value to the last without boxing.
+     *
+     * @return an iterator over the list
+     */
+    public PrimitiveIterator.OfDouble iterator()
+    {
+        return new SlotItr();
+    }
+
+    /**
+     * Gets a sequential stream of the values in the list.
+     *
+     * @return a stream over the list
+     */
+    public DoubleStream stream()
+    {
+        return StreamSupport.doubleStream(Spliterators.spliterator(iterator(), this.size, Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Builds a String that represents the list.
+     *
+     * @return String representing the list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder builder;
+        int           curr;
+
+        builder = new StringBuilder("[");
+
+        for (curr = this.next[HEAD]; curr != HEAD; curr = this.next[curr])
+        {
+            if (curr != this.next[HEAD])            // every value but the first gets a comma before it
+            {
+                builder.append(", ");
+            }
+
+            builder.append(this.values[curr]);
+        }
+
+        builder.append("]");
+
+        return builder.toString();
+    }
+
+    /**
+     * Finds the slot at the specified index by walking from whichever end of the list is closer.
+     *
+     * @param index the index of the slot to find, from 0 to this.size (inclusive)
+     * @return the slot at the specified index, or the dummy head if index is this.size
+     */
+    private int slotAt(int index)
+    {
+        int curr, curridx;
+
+        if (index < (this.size - index))            // go forwards if index is in the left half of the list
+        {
+            curr = this.next[HEAD];
+
+            for (curridx = 0; curridx < index; curridx++)
+            {
+                curr = this.next[curr];
+            }
+        }
+        else                                        // go backwards because there is less distance to travel
+        {
+            curr = HEAD;
+
+            for (curridx = this.size; curridx > index; curridx--)
+            {
+                curr = this.prev[curr];
+            }
+        }
+
+        return curr;
+    }
+
+    /**
+     * Takes a slot, either from the free list or from the unused end of the arrays, and links it in
+     *      right before the specified slot holding the value.
+     *
+     * @param succ the slot that will come right after the new slot
+     * @param value the value to store in the new slot
+     */
+    private void linkBefore(int succ, double value)
+    {
+        int slot;
+
+        if (this.free != NONE)                      // reuse a slot freed by an earlier remove
+        {
+            slot      = this.free;
+            this.free = this.next[slot];
+        }
+        else
+        {
+            if (this.used == this.next.length)      // out of room, so grow the arrays by half again
+            {
+                grow();
+            }
+
+            slot = this.used++;
+        }
+
+        this.values[slot]          = value;
+        this.prev[slot]            = this.prev[succ];
+        this.next[slot]            = succ;
+        this.next[this.prev[succ]] = slot;
+        this.prev[succ]            = slot;
+
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Cuts the specified slot out of the list and puts it on the free list.
+     *
+     * @param slot the slot to remove from the list
+     */
+    private void unlink(int slot)
+    {
+        this.next[this.prev[slot]] = this.next[slot];
+        this.prev[this.next[slot]] = this.prev[slot];
+
+        this.next[slot] = this.free;                // the free list is linked through next[]
+        this.free       = slot;
+
+        this.size--;
+        this.modCount++;
+    }
+
+    /**
+     * Grows the parallel arrays to one and a half times their current length.
+     */
+    private void grow()
+    {
+        int capacity;
+
+        capacity    = this.next.length + (this.next.length >> 1);
+        this.next   = Arrays.copyOf(this.next, capacity);
+        this.prev   = Arrays.copyOf(this.prev, capacity);
+        this.values = Arrays.copyOf(this.values, capacity);
+    }
+
+    /**
+     * private inner iterator class that follows the next[] links without boxing the values.
+     */
+    private class SlotItr implements PrimitiveIterator.OfDouble
+    {
+        private int curr;             // the slot that nextDouble() will return
+        private int expectedModCount; // the modCount the list should have if nobody else changed it
+
+        /**
+         * Constructor for the iterator that starts at the beginning of the list.
+         */
+        private SlotItr()
+        {
+            this.curr             = DoubleCircularDoublyLinkedList.this.next[HEAD];
+            this.expectedModCount = DoubleCircularDoublyLinkedList.this.modCount;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.curr != HEAD;
+        }
+
+        @Override
+        public double nextDouble()
+        {
+            double value;
+
+            if (DoubleCircularDoublyLinkedList.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException("list was changed outside of this iterator");
+            }
+
+            if (this.curr == HEAD)
+            {
+                throw new NoSuchElementException("cannot get next value. iterator is at the end of the list");
+            }
+
+            value     = DoubleCircularDoublyLinkedList.this.values[this.curr];
+            this.curr = DoubleCircularDoublyLinkedList.this.next[this.curr];
+
+            return value;
+        }
+    }
+}
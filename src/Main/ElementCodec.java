@@ -0,0 +1,62 @@
+package Main;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Turns list elements into bytes and back for the binary list format.
+ * A codec reads and writes straight to and from a ByteBuffer, so nothing is copied into an intermediate array on
+ *      the way to or from a file. ElementCodecs has codecs for the common element types.
+ * A fixed width codec writes every element in the same number of bytes. Only fixed width codecs can be used for a
+ *      memory-mapped view or off-heap storage, since those find an element by multiplying its index by the width.
+ *
+ * @param <Type> the type of element the codec handles
+ * @author Julia Reynolds
+ */
+public interface ElementCodec<Type>
+{
+    /**
+     * Gets the number of bytes every element takes, if they all take the same number.
+     *
+     * @return the width of every element in bytes, or -1 if elements can take different numbers of bytes
+     */
+    int fixedWidth();
+
+    /**
+     * Gets the number of bytes the specified element will take when written.
+     *
+     * @param value the element to measure
+     * @return the number of bytes write will put for it
+     */
+    int sizeOf(Type value);
+
+    /**
+     * Writes an element at the buffer's position and moves the position past it.
+     *
+     * @param buffer the buffer to write to, with at least sizeOf(value) bytes remaining
+     * @param value the element to write
+     */
+    void write(ByteBuffer buffer, Type value);
+
+    /**
+     * Reads an element at the buffer's position and moves the position past it.
+     * If the buffer runs out partway through the element, this throws BufferUnderflowException, and the caller can
+     *      put the position back, get more bytes, and try again.
+     *
+     * @param buffer the buffer to read from
+     * @return the element that was read
+     */
+    Type read(ByteBuffer buffer);
+
+    /**
+     * Reads an element at the specified offset without moving the buffer's position.
+     * Fixed width codecs should override this with absolute gets, which are safe for many readers at once.
+     *
+     * @param buffer the buffer to read from
+     * @param offset the offset of the element in the buffer
+     * @return the element that was read
+     */
+    default Type read(ByteBuffer buffer, int offset)
+    {
+        return read(buffer.duplicate().position(offset));
+    }
+}
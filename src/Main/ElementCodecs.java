@@ -0,0 +1,247 @@
+package Main;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Codecs for the common element types.
+ * The number codecs are fixed width and can't write null. The String codec writes a length followed by UTF-8
+ *      bytes, with a length of -1 standing for null.
+ *
+ * @author Julia Reynolds
+ */
+public final class ElementCodecs
+{
+    /**
+     * Codec that writes each Integer as 4 bytes.
+     */
+    public static final ElementCodec<Integer> INTEGER = new IntegerCodec();
+
+    /**
+     * Codec that writes each Long as 8 bytes.
+     */
+    public static final ElementCodec<Long> LONG = new LongCodec();
+
+    /**
+     * Codec that writes each Double as 8 bytes.
+     */
+    public static final ElementCodec<Double> DOUBLE = new DoubleCodec();
+
+    /**
+     * Codec that writes each String as a 4 byte length followed by its UTF-8 bytes.
+     */
+    public static final ElementCodec<String> STRING = new StringCodec();
+
+    /**
+     * Private constructor, since this class only holds codecs.
+     */
+    private ElementCodecs()
+    {
+    }
+
+    /**
+     * private static nested codec class for Integer elements
+     */
+    private static final class IntegerCodec implements ElementCodec<Integer>
+    {
+        @Override
+        public int fixedWidth()
+        {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public int sizeOf(Integer value)
+        {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Integer value)
+        {
+            buffer.putInt(Objects.requireNonNull(value, "cannot write null with a fixed width codec"));
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer)
+        {
+            return buffer.getInt();
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset)
+        {
+            return buffer.getInt(offset);
+        }
+    }
+
+    /**
+     * private static nested codec class for Long elements
+     */
+    private static final class LongCodec implements ElementCodec<Long>
+    {
+        @Override
+        public int fixedWidth()
+        {
+            return Long.BYTES;
+        }
+
+        @Override
+        public int sizeOf(Long value)
+        {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Long value)
+        {
+            buffer.putLong(Objects.requireNonNull(value, "cannot write null with a fixed width codec"));
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer)
+        {
+            return buffer.getLong();
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset)
+        {
+            return buffer.getLong(offset);
+        }
+    }
+
+    /**
+     * private static nested codec class for Double elements
+     */
+    private static final class DoubleCodec implements ElementCodec<Double>
+    {
+        @Override
+        public int fixedWidth()
+        {
+            return Double.BYTES;
+        }
+
+        @Override
+        public int sizeOf(Double value)
+        {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Double value)
+        {
+            buffer.putDouble(Objects.requireNonNull(value, "cannot write null with a fixed width codec"));
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer)
+        {
+            return buffer.getDouble();
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset)
+        {
+            return buffer.getDouble(offset);
+        }
+    }
+
+    /**
+     * private static nested codec class for String elements
+     */
+    private static final class StringCodec implements ElementCodec<String>
+    {
+        @Override
+        public int fixedWidth()
+        {
+            return -1;
+        }
+
+        @Override
+        public int sizeOf(String value)
+        {
+            return Integer.BYTES + ((value == null) ? 0 : utf8Length(value));
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, String value)
+        {
+            byte[] bytes;
+
+            if (value == null)
+            {
+                buffer.putInt(-1);
+                return;
+            }
+
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+
+        @Override
+        public String read(ByteBuffer buffer)
+        {
+            byte[] bytes;
+            int    length;
+
+            length = buffer.getInt();
+
+            if (length < 0)
+            {
+                return null;
+            }
+
+            bytes = new byte[length];
+            buffer.get(bytes);                      // throws BufferUnderflowException if the string is cut off
+
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Counts the bytes a String takes in UTF-8 without encoding it.
+         *
+         * @param value the String to measure
+         * @return the number of UTF-8 bytes
+         */
+        private static int utf8Length(String value)
+        {
+            int  length, idx;
+            char ch;
+
+            length = 0;
+
+            for (idx = 0; idx < value.length(); idx++)
+            {
+                ch = value.charAt(idx);
+
+                if (ch < 0x80)
+                {
+                    length += 1;
+                }
+                else if (ch < 0x800)
+                {
+                    length += 2;
+                }
+                else if (Character.isHighSurrogate(ch) && idx + 1 < value.length()
+                         && Character.isLowSurrogate(value.charAt(idx + 1)))
+                {
+                    length += 4;                    // a surrogate pair is one 4 byte code point
+                    idx++;
+                }
+                else if (Character.isSurrogate(ch))
+                {
+                    length += 1;                    // a lone surrogate is written as a 1 byte '?'
+                }
+                else
+                {
+                    length += 3;
+                }
+            }
+
+            return length;
+        }
+    }
+}
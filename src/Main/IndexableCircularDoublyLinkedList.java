@@ -0,0 +1,510 @@
+package Main;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Indexable Circular Doubly Linked List.
+ * Works the same as CircularDoublyLinkedList, but on top of the ring of nodes there are extra "express lanes" like
+ *      an indexable skip list. Every node is in lane 0, about a quarter of those are also in lane 1, about a
+ *      quarter of those in lane 2, and so on. Each link in a lane remembers how many lane 0 nodes it skips over.
+ * Finding an index starts in the highest lane and drops down a lane whenever the next hop would overshoot, so
+ *      get, set, addAtIndex, and removeIndex take O(log n) hops on average instead of O(n).
+ * Every lane is circular and passes through the dummy head, which counts as position 0, so the element at
+ *      index i sits at position i + 1.
+ *
+ * @param <Type> the type of object stored in the list
+ * @author Julia Reynolds
+ */
+public class IndexableCircularDoublyLinkedList<Type> implements Iterable<Type>
+{
+    private static final int MAX_LEVEL = 32; // the most lanes a node can be in
+
+    private final SkipNode head;     // the start of the list, in every lane
+    private int            level;    // how many lanes are in use
+    private int            size;     // the length/size of the list
+    private int            modCount; // counts structural changes so iterators can tell when the list changed under them
+
+    /**
+     * private static nested node class for the skip list.
+     * Only lane 0 has prev links, which is all that is needed to walk the list backwards.
+     */
+    private static class SkipNode
+    {
+        private SkipNode         prev; // link to previous node in lane 0
+        private Object           data; // data stored in node
+        private final SkipNode[] next; // next[lane] is the next node in that lane
+        private final int[]      span; // span[lane] is how many positions next[lane] is ahead of this node
+
+        /**
+         * Constructor for SkipNode that takes the data and how many lanes the node is in.
+         *
+         * @param data the data to store in the node
+         * @param levels the number of lanes the node is in
+         */
+        private SkipNode(Object data, int levels)
+        {
+            this.prev = null;
+            this.data = data;
+            this.next = new SkipNode[levels];
+            this.span = new int[levels];
+        }
+    }
+
+    /**
+     * Constructor for indexable doubly linked list
+     */
+    public IndexableCircularDoublyLinkedList()
+    {
+        int lane;
+
+        this.head  = new SkipNode(null, MAX_LEVEL);  // dummy head node stores no data
+        this.level = 1;
+        this.size  = 0;                               // list is empty so size is 0
+
+        for (lane = 0; lane < MAX_LEVEL; lane++)
+        {
+            this.head.next[lane] = this.head;         // circularly link to self in every lane
+            this.head.span[lane] = 1;                 // going all the way around an empty list is one step
+        }
+
+        this.head.prev = this.head;
+    }
+
+    /**
+     * Constructor that adds data as the linked list is constructed.
+     *
+     * @param data the data to store in the list
+     */
+    @SafeVarargs
+    public IndexableCircularDoublyLinkedList(Type... data)
+    {
+        this();                                       // call other constructor to set up empty list
+
+        for (Type item : data)
+        {
+            addLast(item);
+        }
+    }
+
+    /**
+     * Adds data to the beginning of the list.
+     *
+     * @param data the data to store in the list
+     */
+    public void addFirst(Type data)
+    {
+        addAtIndex(data, 0);
+    }
+
+    /**
+     * Adds data to the end of the list.
+     *
+     * @param data the data to store in the list
+     */
+    public void addLast(Type data)
+    {
+        addAtIndex(data, this.size);
+    }
+
+    /**
+     * Adds data at the specified index within the list
+     *
+     * @param data the data to add to the list
+     * @param index the location in the list to add the data
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public void addAtIndex(Type data, int index) throws IndexOutOfBoundsException
+    {
+        SkipNode[] update;
+        int[]      rank;
+        SkipNode   newNode;
+        int        lane, levels;
+
+        // we are considering this.size in bounds in case we want to add on to the end of the list.
+        if (index < 0 || index > this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot addAtIndex data to list. index is out of bounds");
+        }
+
+        update = new SkipNode[MAX_LEVEL];
+        rank   = new int[MAX_LEVEL];
+        levels = randomLevel();
+
+        // the new node goes after the node at position index, so find that node in every lane
+        findPredecessors(index, update, rank);
+
+        if (levels > this.level)                      // the new lanes start out going straight around the ring
+        {
+            for (lane = this.level; lane < levels; lane++)
+            {
+                update[lane]         = this.head;
+                rank[lane]           = 0;
+                this.head.span[lane] = this.size + 1;
+            }
+
+            this.level = levels;
+        }
+
+        newNode = new SkipNode(data, levels);
+
+        for (lane = 0; lane < levels; lane++)         // splice the new node into each of its lanes
+        {
+            newNode.next[lane]      = update[lane].next[lane];
+            update[lane].next[lane] = newNode;
+
+            newNode.span[lane]      = update[lane].span[lane] - (rank[0] - rank[lane]);
+            update[lane].span[lane] = (rank[0] - rank[lane]) + 1;
+        }
+
+        for (lane = levels; lane < this.level; lane++) // links in higher lanes now skip over one more node
+        {
+            update[lane].span[lane]++;
+        }
+
+        newNode.prev         = update[0];             // lane 0 is doubly linked, so fix the prev links too
+        newNode.next[0].prev = newNode;
+
+        this.size++;                                  // increment size by 1 to ensure size is accurate
+        this.modCount++;
+    }
+
+    /**
+     * Searches through the list for specified data, removing the first instance of it found.
+     *
+     * @param data the data to be removed from the list
+     * @return boolean indicating if the removal was successful
+     */
+    public boolean removeData(Type data)
+    {
+        SkipNode curr;
+        int      curridx;
+
+        // move through lane 0 until we either loop back around to the head or find the data we are looking for
+        for (curr = this.head.next[0], curridx = 0; curr != this.head; curr = curr.next[0], curridx++)
+        {
+            if (Objects.equals(curr.data, data))
+            {
+                removeAt(curridx);
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes data from the list at the specified index.
+     *
+     * @param index the index of the data to be removed
+     * @return the data removed from the list
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    @SuppressWarnings("unchecked")
+    public Type removeIndex(int index) throws IndexOutOfBoundsException
+    {
+        if (index < 0 || index >= this.size)          // this.size is out of bounds since we start at index 0
+        {
+            throw new IndexOutOfBoundsException("cannot remove data from list. index is out of list bounds");
+        }
+
+        return (Type) removeAt(index).data;
+    }
+
+    /**
+     * Gets the data stored at the specified index.
+     *
+     * @param index the index of the data to get
+     * @return the data stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    @SuppressWarnings("unchecked")
+    public Type get(int index) throws IndexOutOfBoundsException
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot get data from list. index is out of list bounds");
+        }
+
+        return (Type) nodeAt(index).data;
+    }
+
+    /**
+     * Replaces the data stored at the specified index.
+     *
+     * @param index the index of the data to replace
+     * @param data the new data to store at the index
+     * @return the data that was previously stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    @SuppressWarnings("unchecked")
+    public Type set(int index, Type data) throws IndexOutOfBoundsException
+    {
+        SkipNode curr;
+        Type     old;
+
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot set data in list. index is out of list bounds");
+        }
+
+        curr      = nodeAt(index);
+        old       = (Type) curr.data;
+        curr.data = data;
+
+        return old;
+    }
+
+    /**
+     * Gets the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Gets an iterator that goes through the list from the first element to the last.
+     *
+     * @return an iterator over the list
+     */
+    @Override
+    public Iterator<Type> iterator()
+    {
+        return new LaneItr();
+    }
+
+    /**
+     * Gets a spliterator over the list.
+     *
+     * @return a spliterator over the list
+     */
+    @Override
+    public Spliterator<Type> spliterator()
+    {
+        return Spliterators.spliterator(iterator(), this.size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Gets a sequential stream of the elements in the list.
+     *
+     * @return a stream over the list
+     */
+    public Stream<Type> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Builds a String that represents the list.
+     *
+     * @return String representing the list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder builder;
+        SkipNode      curr;
+
+        builder = new StringBuilder("[");
+
+        for (curr = this.head.next[0]; curr != this.head; curr = curr.next[0])
+        {
+            if (curr != this.head.next[0])            // every element but the first gets a comma before it
+            {
+                builder.append(", ");
+            }
+
+            builder.append(curr.data);
+        }
+
+        builder.append("]");
+
+        return builder.toString();
+    }
+
+    /**
+     * Finds the node at the specified index by dropping down through the lanes.
+     *
+     * @param index the index of the node to find, from 0 to (this.size - 1)
+     * @return the node at the specified index
+     */
+    private SkipNode nodeAt(int index)
+    {
+        SkipNode curr;
+        int      lane, position, target;
+
+        curr     = this.head;
+        position = 0;
+        target   = index + 1;                         // the head is position 0, so index 0 is position 1
+
+        for (lane = this.level - 1; lane >= 0; lane--)
+        {
+            // hop along this lane for as long as it doesn't take us past the target or back around to the head
+            while (curr.next[lane] != this.head && position + curr.span[lane] <= target)
+            {
+                position += curr.span[lane];
+                curr      = curr.next[lane];
+            }
+        }
+
+        return curr;
+    }
+
+    /**
+     * Finds, in every lane in use, the last node at or before position index, and that node's position.
+     * These are the nodes whose links change when a node is added or removed right after position index.
+     *
+     * @param index the position to stop at, which is the index of the node being added or removed
+     * @param update gets filled with the last node at or before the position in each lane
+     * @param rank gets filled with the position of each of those nodes
+     */
+    private void findPredecessors(int index, SkipNode[] update, int[] rank)
+    {
+        SkipNode curr;
+        int      lane, position;
+
+        curr     = this.head;
+        position = 0;
+
+        for (lane = this.level - 1; lane >= 0; lane--)
+        {
+            while (curr.next[lane] != this.head && position + curr.span[lane] <= index)
+            {
+                position += curr.span[lane];
+                curr      = curr.next[lane];
+            }
+
+            update[lane] = curr;
+            rank[lane]   = position;
+        }
+    }
+
+    /**
+     * Cuts the node at the specified index out of every lane it is in.
+     *
+     * @param index the index of the node to remove
+     * @return the removed node
+     */
+    private SkipNode removeAt(int index)
+    {
+        SkipNode[] update;
+        int[]      rank;
+        SkipNode   node;
+        int        lane;
+
+        update = new SkipNode[MAX_LEVEL];
+        rank   = new int[MAX_LEVEL];
+
+        findPredecessors(index, update, rank);
+
+        node = update[0].next[0];
+
+        for (lane = 0; lane < this.level; lane++)
+        {
+            if (update[lane].next[lane] == node)      // the node is in this lane, so link around it
+            {
+                update[lane].span[lane] += node.span[lane] - 1;
+                update[lane].next[lane]  = node.next[lane];
+            }
+            else                                      // the link just skips over one less node now
+            {
+                update[lane].span[lane]--;
+            }
+        }
+
+        node.next[0].prev = node.prev;
+
+        while (this.level > 1 && this.head.next[this.level - 1] == this.head)
+        {
+            this.level--;                             // drop lanes that have no nodes left in them
+        }
+
+        this.size--;                                  // decrement size by 1 to ensure list size is kept accurate
+        this.modCount++;
+
+        return node;
+    }
+
+    /**
+     * Picks how many lanes a new node is in. Each extra lane has a one in four chance.
+     *
+     * @return the number of lanes, from 1 to MAX_LEVEL
+     */
+    private int randomLevel()
+    {
+        int levels, bits;
+
+        levels = 1;
+        bits   = ThreadLocalRandom.current().nextInt();
+
+        while (levels < MAX_LEVEL && (bits & 3) == 0)
+        {
+            levels++;
+            bits >>>= 2;
+
+            if (bits == 0)                            // ran out of random bits, so get some more
+            {
+                bits = ThreadLocalRandom.current().nextInt();
+            }
+        }
+
+        return levels;
+    }
+
+    /**
+     * private inner iterator class that walks lane 0.
+     */
+    private class LaneItr implements Iterator<Type>
+    {
+        private SkipNode next;             // the node that next() will return
+        private int      expectedModCount; // the modCount the list should have if nobody else changed it
+
+        /**
+         * Constructor for the iterator that starts at the beginning of the list.
+         */
+        private LaneItr()
+        {
+            this.next             = IndexableCircularDoublyLinkedList.this.head.next[0];
+            this.expectedModCount = IndexableCircularDoublyLinkedList.this.modCount;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.next != IndexableCircularDoublyLinkedList.this.head;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Type next()
+        {
+            Type data;
+
+            if (IndexableCircularDoublyLinkedList.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException("list was changed outside of this iterator");
+            }
+
+            if (!hasNext())
+            {
+                throw new NoSuchElementException("cannot get next element. iterator is at the end of the list");
+            }
+
+            data      = (Type) this.next.data;
+            this.next = this.next.next[0];
+
+            return data;
+        }
+    }
+}
@@ -0,0 +1,566 @@
+package Main;
+
+import java.util.AbstractCollection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Intrusive Circular Doubly Linked List.
+ * The elements carry their own prev and next links by extending Linkable, so the list is a ring of the elements
+ *      themselves around a dummy head, with no Node wrapped around each one. Adding allocates nothing, and going
+ *      from an element to its neighbor is one hop instead of two.
+ * Since an element knows which list it is in, unlink, contains, and moving an element to either end are O(1)
+ *      without a handle or a search.
+ * An element can only be in one list at a time, and adding one that is already in a list throws an exception.
+ * This class is not a general-purpose Collection! contains and remove(Object) ask the element which list it is in,
+ *      so they go by identity, and an element that is equal to one in the list but isn't that object is never
+ *      found. This breaks the Collection contract, which says they use equals, on purpose, the same way
+ *      IdentityHashMap does. containsAll goes through contains, so it goes by identity as well. removeAll and
+ *      retainAll ask the other collection, so they go by whatever that collection's contains uses.
+ *
+ * @param <E> the type of element stored in the list
+ * @author Julia Reynolds
+ */
+public class IntrusiveCircularList<E extends Linkable<E>> extends AbstractCollection<E>
+{
+    private final Linkable<E> head;     // the dummy head, which sits between the last element and the first
+    private int               size;     // the length/size of the list
+    private int               modCount; // counts structural changes so iterators can tell when the list changed
+
+    /**
+     * private static nested class for the dummy head, which is never handed out as an element
+     *
+     * @param <E> the type of element stored in the list
+     */
+    private static final class Sentinel<E extends Linkable<E>> extends Linkable<E>
+    {
+    }
+
+    /**
+     * Constructor for an empty list.
+     */
+    public IntrusiveCircularList()
+    {
+        this.head      = new Sentinel<>();
+        this.head.next = this.head;          // circularly link to self
+        this.head.prev = this.head;          // circularly link to self
+        this.size      = 0;
+        this.modCount  = 0;
+    }
+
+    /**
+     * Adds an element to the beginning of the list.
+     *
+     * @param element the element to add
+     * @throws IllegalArgumentException throws exception if the element is already in a list
+     */
+    public void addFirst(E element) throws IllegalArgumentException
+    {
+        linkBefore(this.head.next, element);
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element the element to add
+     * @throws IllegalArgumentException throws exception if the element is already in a list
+     */
+    public void addLast(E element) throws IllegalArgumentException
+    {
+        linkBefore(this.head, element);
+    }
+
+    /**
+     * Adds an element to the end of the list. The same as addLast.
+     *
+     * @param element the element to add
+     * @return true, since the list always changes
+     * @throws IllegalArgumentException throws exception if the element is already in a list
+     */
+    @Override
+    public boolean add(E element) throws IllegalArgumentException
+    {
+        linkBefore(this.head, element);
+
+        return true;
+    }
+
+    /**
+     * Adds an element at the specified index within the list.
+     *
+     * @param element the element to add
+     * @param index the location in the list to add the element
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     * @throws IllegalArgumentException throws exception if the element is already in a list
+     */
+    public void addAtIndex(E element, int index) throws IndexOutOfBoundsException, IllegalArgumentException
+    {
+        // we are considering this.size in bounds in case we want to add on to the end of the list.
+        if (index < 0 || index > this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot addAtIndex element to list. index is out of bounds");
+        }
+
+        linkBefore(linkAt(index), element);
+    }
+
+    /**
+     * Adds an element right after another element that is already in this list.
+     *
+     * @param existing the element to add after
+     * @param element the element to add
+     * @throws IllegalArgumentException throws exception if existing is not in this list or element is in a list
+     */
+    public void insertAfter(E existing, E element) throws IllegalArgumentException
+    {
+        checkMember(existing);
+        linkBefore(existing.next, element);
+    }
+
+    /**
+     * Adds an element right before another element that is already in this list.
+     *
+     * @param existing the element to add before
+     * @param element the element to add
+     * @throws IllegalArgumentException throws exception if existing is not in this list or element is in a list
+     */
+    public void insertBefore(E existing, E element) throws IllegalArgumentException
+    {
+        checkMember(existing);
+        linkBefore(existing, element);
+    }
+
+    /**
+     * Removes the element at the specified index.
+     *
+     * @param index the index of the element to remove
+     * @return the element removed from the list
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public E removeIndex(int index) throws IndexOutOfBoundsException
+    {
+        Linkable<E> curr;
+
+        if (index < 0 || index >= this.size)         // this.size is out of bounds since we start at index 0
+        {
+            throw new IndexOutOfBoundsException("cannot remove element from list. index is out of list bounds");
+        }
+
+        curr = linkAt(index);
+        unlinkNode(curr);
+
+        return element(curr);
+    }
+
+    /**
+     * Removes an element from the list in O(1), using its own links to find its neighbors.
+     *
+     * @param element the element to remove
+     * @return true if the element was in this list and has been removed
+     */
+    public boolean unlink(E element)
+    {
+        if (element == null || element.owner != this)
+        {
+            return false;                           // not in this list, so there is nothing to do
+        }
+
+        unlinkNode(element);
+
+        return true;
+    }
+
+    /**
+     * Removes an element from the list in O(1). The same as unlink, since an element can only be in the list once,
+     *      so there is no first instance to search for.
+     *
+     * @param element the element to remove
+     * @return true if the element was in this list and has been removed
+     */
+    public boolean removeData(E element)
+    {
+        return unlink(element);
+    }
+
+    /**
+     * Removes an element from the list in O(1). The same as unlink, for callers that only have an Object.
+     * This goes by identity, not equals, so an equal element that isn't in the list is not removed.
+     *
+     * @param element the element to remove
+     * @return true if the element was in this list and has been removed
+     */
+    @Override
+    public boolean remove(Object element)
+    {
+        if (!(element instanceof Linkable<?> linkable) || linkable.owner != this)
+        {
+            return false;
+        }
+
+        unlinkNode(element(linkable));
+
+        return true;
+    }
+
+    /**
+     * Removes and returns the first element in the list.
+     *
+     * @return the first element, or null if the list is empty
+     */
+    public E pollFirst()
+    {
+        Linkable<E> first;
+
+        first = this.head.next;
+
+        if (first == this.head)
+        {
+            return null;
+        }
+
+        unlinkNode(first);
+
+        return element(first);
+    }
+
+    /**
+     * Removes and returns the last element in the list.
+     *
+     * @return the last element, or null if the list is empty
+     */
+    public E pollLast()
+    {
+        Linkable<E> last;
+
+        last = this.head.prev;
+
+        if (last == this.head)
+        {
+            return null;
+        }
+
+        unlinkNode(last);
+
+        return element(last);
+    }
+
+    /**
+     * Moves an element that is already in this list to the front in O(1).
+     *
+     * @param element the element to move
+     * @throws IllegalArgumentException throws exception if the element is not in this list
+     */
+    public void moveToFront(E element) throws IllegalArgumentException
+    {
+        checkMember(element);
+        unlinkNode(element);
+        linkBefore(this.head.next, element);
+    }
+
+    /**
+     * Moves an element that is already in this list to the back in O(1).
+     *
+     * @param element the element to move
+     * @throws IllegalArgumentException throws exception if the element is not in this list
+     */
+    public void moveToBack(E element) throws IllegalArgumentException
+    {
+        checkMember(element);
+        unlinkNode(element);
+        linkBefore(this.head, element);
+    }
+
+    /**
+     * Gets the element at the specified index.
+     *
+     * @param index the index of the element to get
+     * @return the element at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public E get(int index) throws IndexOutOfBoundsException
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot get element from list. index is out of list bounds");
+        }
+
+        return element(linkAt(index));
+    }
+
+    /**
+     * Gets the first element in the list without removing it.
+     *
+     * @return the first element, or null if the list is empty
+     */
+    public E peekFirst()
+    {
+        return (this.size == 0) ? null : element(this.head.next);
+    }
+
+    /**
+     * Gets the last element in the list without removing it.
+     *
+     * @return the last element, or null if the list is empty
+     */
+    public E peekLast()
+    {
+        return (this.size == 0) ? null : element(this.head.prev);
+    }
+
+    /**
+     * Gets the element after the specified one, using its own link.
+     *
+     * @param element an element in this list
+     * @return the next element, or null if element is the last one
+     * @throws IllegalArgumentException throws exception if the element is not in this list
+     */
+    public E nextOf(E element) throws IllegalArgumentException
+    {
+        checkMember(element);
+
+        return (element.next == this.head) ? null : element(element.next);
+    }
+
+    /**
+     * Gets the element before the specified one, using its own link.
+     *
+     * @param element an element in this list
+     * @return the previous element, or null if element is the first one
+     * @throws IllegalArgumentException throws exception if the element is not in this list
+     */
+    public E prevOf(E element) throws IllegalArgumentException
+    {
+        checkMember(element);
+
+        return (element.prev == this.head) ? null : element(element.prev);
+    }
+
+    /**
+     * Checks if the element is in this list in O(1), by asking the element which list it is in.
+     * This goes by identity, not equals. See the class comment.
+     *
+     * @param element the element to look for
+     * @return true if the element is in this list
+     */
+    @Override
+    public boolean contains(Object element)
+    {
+        return element instanceof Linkable<?> linkable && linkable.owner == this;
+    }
+
+    /**
+     * Removes every element from the list. Every element's links are cleared, so each one can be added again.
+     */
+    @Override
+    public void clear()
+    {
+        Linkable<E> curr, next;
+
+        for (curr = this.head.next; curr != this.head; curr = next)
+        {
+            next       = curr.next;
+            curr.prev  = null;
+            curr.next  = null;
+            curr.owner = null;
+        }
+
+        this.head.next = this.head;
+        this.head.prev = this.head;
+        this.size      = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Gets the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Gets a fail-fast iterator over the elements from first to last. Its remove unlinks the element in O(1).
+     *
+     * @return an iterator over the list
+     */
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new Itr();
+    }
+
+    /**
+     * Finds the link at the specified index by walking from whichever end of the list is closer.
+     *
+     * @param index the index of the link to find, from 0 to this.size (inclusive)
+     * @return the element at the index, or the dummy head if index is this.size
+     */
+    private Linkable<E> linkAt(int index)
+    {
+        Linkable<E> curr;
+        int         curridx;
+
+        if (index < (this.size - index))
+        {
+            for (curr = this.head.next, curridx = 0; curridx < index; curridx++)
+            {
+                curr = curr.next;
+            }
+        }
+        else
+        {
+            for (curr = this.head, curridx = this.size; curridx > index; curridx--)
+            {
+                curr = curr.prev;
+            }
+        }
+
+        return curr;
+    }
+
+    /**
+     * Links an element into the list right before the specified link.
+     *
+     * @param succ the link that will come right after the element
+     * @param element the element to link in
+     * @throws IllegalArgumentException throws exception if the element is already in a list
+     */
+    private void linkBefore(Linkable<E> succ, E element) throws IllegalArgumentException
+    {
+        Objects.requireNonNull(element, "cannot add null to an intrusive list");
+
+        if (element.owner != null)
+        {
+            throw new IllegalArgumentException("cannot add element. it is already in a list");
+        }
+
+        element.prev   = succ.prev;
+        element.next   = succ;
+        element.owner  = this;
+        succ.prev.next = element;
+        succ.prev      = element;
+
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Cuts a link out of the list and clears its links, so the element can be added to a list again.
+     *
+     * @param link the link to remove
+     */
+    private void unlinkNode(Linkable<E> link)
+    {
+        link.prev.next = link.next;             // relink the element before this one to the element after it
+        link.next.prev = link.prev;             // relink the element after this one back to the element before it
+        link.prev      = null;
+        link.next      = null;
+        link.owner     = null;
+
+        this.size--;
+        this.modCount++;
+    }
+
+    /**
+     * Checks that an element is in this list.
+     *
+     * @param element the element to check
+     * @throws IllegalArgumentException throws exception if the element is not in this list
+     */
+    private void checkMember(E element) throws IllegalArgumentException
+    {
+        if (element == null || element.owner != this)
+        {
+            throw new IllegalArgumentException("cannot use element. it is not in this list");
+        }
+    }
+
+    /**
+     * Gets a link as the element type. Every link in the ring but the dummy head is an E, since only E can be
+     *      added, and the dummy head is never passed in.
+     *
+     * @param link a link that isn't the dummy head
+     * @return the link as an element
+     */
+    @SuppressWarnings("unchecked")
+    private E element(Linkable<?> link)
+    {
+        return (E) link;
+    }
+
+    /**
+     * private inner iterator class that follows the elements' own links.
+     */
+    private class Itr implements Iterator<E>
+    {
+        private Linkable<E> next;             // the element that next() will return
+        private Linkable<E> lastReturned;     // the element last returned by next(), or null
+        private int         expectedModCount; // the modCount the list should have if nobody else changed it
+
+        /**
+         * Constructor for the iterator, which starts on the first element.
+         */
+        private Itr()
+        {
+            this.next             = IntrusiveCircularList.this.head.next;
+            this.lastReturned     = null;
+            this.expectedModCount = IntrusiveCircularList.this.modCount;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.next != IntrusiveCircularList.this.head;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException, ConcurrentModificationException
+        {
+            checkForModification();
+
+            if (!hasNext())
+            {
+                throw new NoSuchElementException("cannot get next element. iterator is at the end of the list");
+            }
+
+            this.lastReturned = this.next;
+            this.next         = this.next.next;
+
+            return element(this.lastReturned);
+        }
+
+        @Override
+        public void remove() throws IllegalStateException, ConcurrentModificationException
+        {
+            checkForModification();
+
+            if (this.lastReturned == null)
+            {
+                throw new IllegalStateException("cannot remove element. next has not been called");
+            }
+
+            unlinkNode(this.lastReturned);
+
+            this.lastReturned     = null;
+            this.expectedModCount = IntrusiveCircularList.this.modCount;
+        }
+
+        /**
+         * Checks that the list has not been changed by anything other than this iterator.
+         *
+         * @throws ConcurrentModificationException throws exception if the list was changed
+         */
+        private void checkForModification() throws ConcurrentModificationException
+        {
+            if (IntrusiveCircularList.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException("list was changed outside of this iterator");
+            }
+        }
+    }
+}
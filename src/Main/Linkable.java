@@ -0,0 +1,38 @@
+package Main;
+
+/**
+ * Base class for elements of an IntrusiveCircularList.
+ * The links that a CircularDoublyLinkedList keeps in a separate Node live right in the element instead, so adding
+ *      an element allocates nothing and reaching its neighbors takes no extra hop.
+ * An element can be in at most one list at a time. The links can only be touched by the list, so the element
+ *      class just extends this one and carries on with its own fields.
+ *
+ * @param <E> the element class itself, so the links point at the same kind of element
+ * @author Julia Reynolds
+ */
+public abstract class Linkable<E extends Linkable<E>>
+{
+    Linkable<E>              prev;  // link to previous element in the list, or null if not in a list
+    Linkable<E>              next;  // link to next element in the list, or null if not in a list
+    IntrusiveCircularList<E> owner; // the list this element is in, or null
+
+    /**
+     * Constructor for an element that isn't in any list yet.
+     */
+    protected Linkable()
+    {
+        this.prev  = null;
+        this.next  = null;
+        this.owner = null;
+    }
+
+    /**
+     * Checks if this element is in a list.
+     *
+     * @return true if the element is linked into a list
+     */
+    public final boolean isLinked()
+    {
+        return this.owner != null;
+    }
+}
@@ -0,0 +1,370 @@
+package Main;
+
+import java.util.Arrays;
+
+/**
+ * Operation counts, traversal hops, and latencies recorded by a CircularDoublyLinkedList with stats turned on.
+ * Hops and latencies go into power of two buckets: bucket 0 holds 0, and bucket b holds the values from 2^(b-1)
+ *      up to 2^b - 1. Recording is then a couple of array increments, and a percentile read back from the buckets
+ *      is the top of the bucket it falls in, so it is never low and at most twice the real value.
+ * Any operation that walks more than the long walk threshold is also sent to JDK Flight Recorder as a
+ *      Main.LongWalk event, so O(n) walks can be found in a recording along with the stack trace that made them.
+ * Stats are not thread safe, the same as the list that records them.
+ *
+ * @author Julia Reynolds
+ */
+public final class ListStats
+{
+    private static final int BUCKETS = Long.SIZE; // one bucket for 0 and one for each bit a positive long can have
+
+    /**
+     * The steps every list operation is built from, which are what get recorded.
+     * However it was called, an operation records a LOOKUP for each node it finds by index, a SEARCH for each node
+     *      it looks for by value, and a LINK or UNLINK for each splice in or node cut out. So get(i) is one LOOKUP,
+     *      removeIndex(i) is a LOOKUP and an UNLINK, and pollLast is just an UNLINK. Links and unlinks never walk,
+     *      so they always record 0 hops.
+     */
+    public enum Operation
+    {
+        LOOKUP,
+        SEARCH,
+        LINK,
+        UNLINK
+    }
+
+    private final int      longWalkHops; // walks longer than this many hops are sent to Flight Recorder
+    private final long[]   counts;       // the number of times each operation was recorded
+    private final long[]   totalHops;    // the hops walked by each operation, added up
+    private final long[]   maxHops;      // the longest walk made by each operation
+    private final long[][] hops;         // the hop buckets for each operation
+    private final long[][] latencies;    // the latency buckets for each operation, in nanoseconds
+    private long           longWalks;    // the number of walks longer than longWalkHops
+    private int            maxSize;      // the largest size the list had after a recorded operation
+
+    /**
+     * Constructor for stats that send walks longer than longWalkHops to Flight Recorder.
+     *
+     * @param longWalkHops the most hops an operation can walk without being reported
+     * @throws IllegalArgumentException throws exception if longWalkHops is negative
+     */
+    ListStats(int longWalkHops) throws IllegalArgumentException
+    {
+        int count;
+
+        if (longWalkHops < 0)
+        {
+            throw new IllegalArgumentException("cannot record stats. long walk threshold cannot be negative");
+        }
+
+        count = Operation.values().length;
+
+        this.longWalkHops = longWalkHops;
+        this.counts       = new long[count];
+        this.totalHops    = new long[count];
+        this.maxHops      = new long[count];
+        this.hops         = new long[count][BUCKETS];
+        this.latencies    = new long[count][BUCKETS];
+        this.longWalks    = 0;
+        this.maxSize      = 0;
+    }
+
+    /**
+     * Records one finished operation.
+     *
+     * @param operation the operation that finished
+     * @param hops the number of nodes it walked past to find its place
+     * @param nanos how long it took, in nanoseconds
+     * @param size the size of the list after it
+     */
+    void record(Operation operation, int hops, long nanos, int size)
+    {
+        LongWalkEvent event;
+        int           op;
+
+        op = operation.ordinal();
+
+        this.counts[op]++;
+        this.totalHops[op] += hops;
+        this.maxHops[op]    = Math.max(this.maxHops[op], hops);
+        this.hops[op][bucket(hops)]++;
+        this.latencies[op][bucket(nanos)]++;
+        this.maxSize        = Math.max(this.maxSize, size);
+
+        if (hops > this.longWalkHops)
+        {
+            this.longWalks++;
+
+            event = new LongWalkEvent();
+
+            if (event.isEnabled())                  // skip filling it in when no recording wants it
+            {
+                event.operation = operation.name();
+                event.hops      = hops;
+                event.size      = size;
+                event.latency   = nanos;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Gets the most hops an operation can walk without being reported to Flight Recorder.
+     *
+     * @return the long walk threshold
+     */
+    public int longWalkHops()
+    {
+        return this.longWalkHops;
+    }
+
+    /**
+     * Copies everything recorded so far, so it can be read while the list carries on recording.
+     *
+     * @return a snapshot of the stats
+     */
+    public Snapshot snapshot()
+    {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Throws away everything recorded so far.
+     */
+    public void reset()
+    {
+        Arrays.fill(this.counts, 0);
+        Arrays.fill(this.totalHops, 0);
+        Arrays.fill(this.maxHops, 0);
+
+        for (long[] buckets : this.hops)
+        {
+            Arrays.fill(buckets, 0);
+        }
+
+        for (long[] buckets : this.latencies)
+        {
+            Arrays.fill(buckets, 0);
+        }
+
+        this.longWalks = 0;
+        this.maxSize   = 0;
+    }
+
+    /**
+     * Finds the bucket a value goes in.
+     *
+     * @param value the value, 0 or more
+     * @return 0 for 0, otherwise the number of bits the value takes
+     */
+    private static int bucket(long value)
+    {
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Finds the value at a percentile of a set of buckets.
+     *
+     * @param buckets the buckets to look through
+     * @param count the number of values in the buckets
+     * @param percentile the percentile to find, from 0 to 100
+     * @return the top of the bucket the percentile falls in, or 0 if the buckets are empty
+     * @throws IllegalArgumentException throws exception if percentile is outside of 0 to 100
+     */
+    private static long percentile(long[] buckets, long count, double percentile) throws IllegalArgumentException
+    {
+        long rank, seen;
+        int  idx;
+
+        if (!(percentile >= 0 && percentile <= 100))
+        {
+            throw new IllegalArgumentException("cannot find percentile. percentile must be from 0 to 100");
+        }
+
+        if (count == 0)
+        {
+            return 0;
+        }
+
+        rank = Math.max(1, (long) Math.ceil(count * percentile / 100));   // the 1-based rank of the value we want
+        seen = 0;
+
+        for (idx = 0; idx < buckets.length; idx++)
+        {
+            seen += buckets[idx];
+
+            if (seen >= rank)
+            {
+                break;
+            }
+        }
+
+        if (idx == 0)
+        {
+            return 0;
+        }
+
+        return (1L << idx) - 1;                     // for the top bucket this wraps around to Long.MAX_VALUE
+    }
+
+    /**
+     * A copy of the stats as they were when it was taken.
+     */
+    public static final class Snapshot
+    {
+        private final long[]   counts;    // the number of times each operation was recorded
+        private final long[]   totalHops; // the hops walked by each operation, added up
+        private final long[]   maxHops;   // the longest walk made by each operation
+        private final long[][] hops;      // the hop buckets for each operation
+        private final long[][] latencies; // the latency buckets for each operation, in nanoseconds
+        private final long     longWalks; // the number of walks longer than the threshold
+        private final int      maxSize;   // the largest size the list had after a recorded operation
+
+        /**
+         * Constructor for Snapshot that copies the stats.
+         *
+         * @param stats the stats to copy
+         */
+        private Snapshot(ListStats stats)
+        {
+            this.counts    = stats.counts.clone();
+            this.totalHops = stats.totalHops.clone();
+            this.maxHops   = stats.maxHops.clone();
+            this.hops      = new long[stats.hops.length][];
+            this.latencies = new long[stats.latencies.length][];
+            this.longWalks = stats.longWalks;
+            this.maxSize   = stats.maxSize;
+
+            for (int op = 0; op < this.hops.length; op++)
+            {
+                this.hops[op]      = stats.hops[op].clone();
+                this.latencies[op] = stats.latencies[op].clone();
+            }
+        }
+
+        /**
+         * Gets the number of times an operation was recorded.
+         *
+         * @param operation the operation
+         * @return the number of times it was recorded
+         */
+        public long count(Operation operation)
+        {
+            return this.counts[operation.ordinal()];
+        }
+
+        /**
+         * Gets the hops an operation walked, added up over every time it was recorded.
+         *
+         * @param operation the operation
+         * @return the total number of hops
+         */
+        public long totalHops(Operation operation)
+        {
+            return this.totalHops[operation.ordinal()];
+        }
+
+        /**
+         * Gets the longest walk an operation made.
+         *
+         * @param operation the operation
+         * @return the most hops it walked in one call
+         */
+        public long maxHops(Operation operation)
+        {
+            return this.maxHops[operation.ordinal()];
+        }
+
+        /**
+         * Gets the hop histogram of an operation.
+         * Index 0 counts the calls that walked no hops, and index b counts the ones that walked from 2^(b-1) up to
+         *      2^b - 1 hops.
+         *
+         * @param operation the operation
+         * @return a copy of the hop buckets
+         */
+        public long[] hopHistogram(Operation operation)
+        {
+            return this.hops[operation.ordinal()].clone();
+        }
+
+        /**
+         * Gets the number of hops an operation walked at a percentile, rounded up to the top of its bucket.
+         *
+         * @param operation the operation
+         * @param percentile the percentile, from 0 to 100
+         * @return the hops at that percentile, or 0 if the operation wasn't recorded
+         * @throws IllegalArgumentException throws exception if percentile is outside of 0 to 100
+         */
+        public long hopPercentile(Operation operation, double percentile) throws IllegalArgumentException
+        {
+            return percentile(this.hops[operation.ordinal()], count(operation), percentile);
+        }
+
+        /**
+         * Gets how long an operation took at a percentile, rounded up to the top of its bucket.
+         *
+         * @param operation the operation
+         * @param percentile the percentile, from 0 to 100
+         * @return the latency at that percentile in nanoseconds, or 0 if the operation wasn't recorded
+         * @throws IllegalArgumentException throws exception if percentile is outside of 0 to 100
+         */
+        public long latencyPercentile(Operation operation, double percentile) throws IllegalArgumentException
+        {
+            return percentile(this.latencies[operation.ordinal()], count(operation), percentile);
+        }
+
+        /**
+         * Gets the number of walks that were longer than the long walk threshold.
+         *
+         * @return the number of long walks
+         */
+        public long longWalks()
+        {
+            return this.longWalks;
+        }
+
+        /**
+         * Gets the largest size the list had after a recorded operation.
+         *
+         * @return the largest size seen
+         */
+        public int maxSize()
+        {
+            return this.maxSize;
+        }
+
+        /**
+         * Puts the counts, mean and 99th percentile hops, and median and 99th percentile latencies of every
+         *      recorded operation into a String.
+         *
+         * @return the stats as a String
+         */
+        @Override
+        public String toString()
+        {
+            StringBuilder sb;
+            long          count;
+
+            sb = new StringBuilder("ListStats[maxSize=" + this.maxSize + ", longWalks=" + this.longWalks);
+
+            for (Operation operation : Operation.values())
+            {
+                count = count(operation);
+
+                if (count == 0)
+                {
+                    continue;                       // leave out operations that never ran
+                }
+
+                sb.append(", ").append(operation).append("={count=").append(count)
+                  .append(", meanHops=").append(totalHops(operation) / count)
+                  .append(", p99Hops<=").append(hopPercentile(operation, 99))
+                  .append(", p50Nanos<=").append(latencyPercentile(operation, 50))
+                  .append(", p99Nanos<=").append(latencyPercentile(operation, 99))
+                  .append('}');
+            }
+
+            return sb.append(']').toString();
+        }
+    }
+}
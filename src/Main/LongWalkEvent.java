@@ -0,0 +1,37 @@
+package Main;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for a list operation that walked more nodes than its stats allow.
+ * The event is committed when the operation finishes, so its own duration is 0 and how long the operation took is
+ *      in the latency field. The stack trace shows which caller made the walk.
+ *
+ * @author Julia Reynolds
+ */
+@Name("Main.LongWalk")
+@Label("Long List Walk")
+@Category("Circular Doubly Linked List")
+@Description("A list operation walked more nodes than the long walk threshold")
+@StackTrace(true)
+class LongWalkEvent extends Event
+{
+    @Label("Operation")
+    String operation; // the name of the operation that walked
+
+    @Label("Hops")
+    long hops;        // the number of nodes it walked past
+
+    @Label("Size")
+    int size;         // the size of the list after the operation
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;     // how long the operation took
+}
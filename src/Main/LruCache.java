@@ -0,0 +1,262 @@
+package Main;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Bounded Least Recently Used Cache.
+ * Keeps a CircularDoublyLinkedList of entries in order of use, with the most recently used entry at the front,
+ *      and a HashMap from each key to the handle of its entry in the list.
+ * The map finds an entry without searching the list, and the handle lets the entry be moved to the front or cut out
+ *      in O(1). When the cache is over capacity, the entry at the back of the list is the one that gets evicted.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @author Julia Reynolds
+ */
+public class LruCache<K, V>
+{
+    private final CircularDoublyLinkedList<Entry<K, V>>                order;     // entries, most recent first
+    private final Map<K, CircularDoublyLinkedList.Handle<Entry<K, V>>> index;     // key to the handle of its entry
+    private final int                                                  capacity;  // the most entries to keep
+    private final BiConsumer<? super K, ? super V>                     listener;  // told about evictions, or null
+    private long                                                       hits;      // lookups that found their key
+    private long                                                       misses;    // lookups that did not
+    private long                                                       evictions; // entries pushed out by put
+
+    /**
+     * private static nested entry class that pairs a key with its value.
+     * The key is kept so that evicting the last entry in the list can also remove it from the map.
+     *
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     */
+    private static class Entry<K, V>
+    {
+        private final K key;   // the key the entry is stored under
+        private V       value; // the value stored for the key
+
+        /**
+         * Constructor for Entry that takes the key and value.
+         *
+         * @param key the key the entry is stored under
+         * @param value the value stored for the key
+         */
+        private Entry(K key, V value)
+        {
+            this.key   = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Constructor for a cache that holds up to capacity entries.
+     *
+     * @param capacity the most entries the cache will hold
+     * @throws IllegalArgumentException throws exception if capacity is less than 1
+     */
+    public LruCache(int capacity) throws IllegalArgumentException
+    {
+        this(capacity, null);
+    }
+
+    /**
+     * Constructor for a cache that holds up to capacity entries and tells a listener about each eviction.
+     *
+     * @param capacity the most entries the cache will hold
+     * @param listener called with the key and value of each evicted entry, or null for no listener
+     * @throws IllegalArgumentException throws exception if capacity is less than 1
+     */
+    public LruCache(int capacity, BiConsumer<? super K, ? super V> listener) throws IllegalArgumentException
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("cannot create cache. capacity must be at least 1");
+        }
+
+        this.order    = new CircularDoublyLinkedList<>();
+        this.index    = new HashMap<>();
+        this.capacity = capacity;
+        this.listener = listener;
+    }
+
+    /**
+     * Gets the value stored for a key, marking it as the most recently used.
+     *
+     * @param key the key to look up
+     * @return the value stored for the key, or null if the key is not in the cache
+     */
+    public V get(K key)
+    {
+        CircularDoublyLinkedList.Handle<Entry<K, V>> handle;
+
+        handle = this.index.get(key);
+
+        if (handle == null)
+        {
+            this.misses++;
+
+            return null;
+        }
+
+        this.hits++;
+        this.order.moveToFront(handle);
+
+        return handle.get().value;
+    }
+
+    /**
+     * Stores a value for a key, marking it as the most recently used.
+     * If this pushes the cache over capacity, the least recently used entry is evicted.
+     *
+     * @param key the key to store the value under
+     * @param value the value to store
+     * @return the value previously stored for the key, or null if there wasn't one
+     */
+    public V put(K key, V value)
+    {
+        CircularDoublyLinkedList.Handle<Entry<K, V>> handle;
+        V                                            old;
+
+        handle = this.index.get(key);
+
+        if (handle != null)                            // key is already cached, so just update it in place
+        {
+            old                = handle.get().value;
+            handle.get().value = value;
+            this.order.moveToFront(handle);
+
+            return old;
+        }
+
+        this.index.put(key, this.order.addFirstHandle(new Entry<>(key, value)));
+
+        if (this.order.size() > this.capacity)         // over capacity, so the back of the list has to go
+        {
+            evictLast();
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes a key and its value from the cache.
+     *
+     * @param key the key to remove
+     * @return the value that was stored for the key, or null if the key was not in the cache
+     */
+    public V remove(K key)
+    {
+        CircularDoublyLinkedList.Handle<Entry<K, V>> handle;
+
+        handle = this.index.remove(key);
+
+        return (handle == null) ? null : this.order.removeHandle(handle).value;
+    }
+
+    /**
+     * Checks if a key is in the cache without marking it as used.
+     *
+     * @param key the key to look for
+     * @return true if the key is in the cache
+     */
+    public boolean containsKey(K key)
+    {
+        return this.index.containsKey(key);
+    }
+
+    /**
+     * Gets the number of entries in the cache.
+     *
+     * @return the size of the cache
+     */
+    public int size()
+    {
+        return this.order.size();
+    }
+
+    /**
+     * Gets the most entries the cache will hold.
+     *
+     * @return the capacity of the cache
+     */
+    public int capacity()
+    {
+        return this.capacity;
+    }
+
+    /**
+     * Gets the number of calls to get that found their key.
+     *
+     * @return the hit count
+     */
+    public long hitCount()
+    {
+        return this.hits;
+    }
+
+    /**
+     * Gets the number of calls to get that did not find their key.
+     *
+     * @return the miss count
+     */
+    public long missCount()
+    {
+        return this.misses;
+    }
+
+    /**
+     * Gets the number of entries evicted to stay within capacity.
+     *
+     * @return the eviction count
+     */
+    public long evictionCount()
+    {
+        return this.evictions;
+    }
+
+    /**
+     * Builds a String that represents the cache, from most to least recently used.
+     *
+     * @return String representing the cache
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder builder;
+
+        builder = new StringBuilder("{");
+
+        for (Entry<K, V> entry : this.order)
+        {
+            if (builder.length() > 1)                  // every entry but the first gets a comma before it
+            {
+                builder.append(", ");
+            }
+
+            builder.append(entry.key).append('=').append(entry.value);
+        }
+
+        builder.append("}");
+
+        return builder.toString();
+    }
+
+    /**
+     * Evicts the least recently used entry, which always sits at the back of the list.
+     */
+    private void evictLast()
+    {
+        Entry<K, V> entry;
+
+        entry = this.order.removeHandle(this.order.lastHandle());
+        this.index.remove(entry.key);
+        this.evictions++;
+
+        if (this.listener != null)
+        {
+            this.listener.accept(entry.key, entry.value);
+        }
+    }
+}
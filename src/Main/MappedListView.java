@@ -0,0 +1,83 @@
+package Main;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list view of a memory-mapped list file.
+ * Every element has the same width, so the element at an index is found by multiplication and read out of the
+ *      mapping with an absolute get. Nothing is decoded until it is asked for, and the operating system only pages
+ *      in the parts of the file that are actually read.
+ * Absolute gets don't touch the buffer's position, so any number of threads can read the view at once.
+ * Made by BinaryListFormat.map.
+ *
+ * @param <Type> the type of object stored in the list
+ * @author Julia Reynolds
+ */
+public class MappedListView<Type> extends AbstractList<Type> implements RandomAccess
+{
+    private final ByteBuffer         buffer; // the mapped file, header included
+    private final ElementCodec<Type> codec;  // reads the elements out of the buffer
+    private final int                width;  // the number of bytes every element takes
+    private final int                size;   // the number of elements in the file
+
+    /**
+     * Constructor for the view that takes the mapped file and the codec to read it with.
+     *
+     * @param buffer the mapped file, header included
+     * @param codec the fixed width codec the elements were written with
+     * @param size the number of elements in the file
+     */
+    MappedListView(ByteBuffer buffer, ElementCodec<Type> codec, int size)
+    {
+        this.buffer = buffer;
+        this.codec  = codec;
+        this.width  = codec.fixedWidth();
+        this.size   = size;
+    }
+
+    /**
+     * Gets the data stored at the specified index.
+     *
+     * @param index the index of the data to get
+     * @return the data stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    @Override
+    public Type get(int index) throws IndexOutOfBoundsException
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot get data from list. index is out of list bounds");
+        }
+
+        return this.codec.read(this.buffer, BinaryListFormat.HEADER_SIZE + index * this.width);
+    }
+
+    /**
+     * Gets the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Copies every element into a new CircularDoublyLinkedList that can be changed.
+     *
+     * @return a new list holding the elements of the view
+     */
+    public CircularDoublyLinkedList<Type> load()
+    {
+        CircularDoublyLinkedList<Type> list;
+
+        list = new CircularDoublyLinkedList<>();
+        list.addAll(this);
+
+        return list;
+    }
+}
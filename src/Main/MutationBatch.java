@@ -0,0 +1,212 @@
+package Main;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Mutation Batch.
+ * Records adds and removes so they can be applied to a CircularDoublyLinkedList all at once, which walks the list
+ *      one time for every positional edit in the batch instead of once per edit, and links all the appends in with
+ *      one splice. Wrapped in a StampedCircularDoublyLinkedList, the whole batch also goes in under one write lock.
+ * Every index in a batch refers to the list as it is right before the batch is applied, not as earlier edits in
+ *      the same batch leave it. Adding at index i puts the data right before the element that was at i, and
+ *      removing index i removes the element that was at i, no matter what else the batch adds or removes first.
+ *      Data added at the same index goes in the order it was recorded, and appends go after everything else.
+ * A batch is not thread safe. It is meant to be filled in by one thread and then handed to apply.
+ *
+ * @param <Type> the type of object stored in the list
+ * @author Julia Reynolds
+ */
+public final class MutationBatch<Type>
+{
+    private static final Comparator<Edit<?>> ORDER = (a, b) ->
+    {
+        if (a.index != b.index)
+        {
+            return Integer.compare(a.index, b.index);
+        }
+
+        return Boolean.compare(a.remove, b.remove);             // adds go before a remove at the same index
+    };
+
+    private final ArrayList<Type>       appends; // the data added to the end of the list, in order
+    private final ArrayList<Edit<Type>> edits;   // the adds and removes at an index, in the order they were recorded
+    private boolean                     sorted;  // true if edits is already in the order apply walks them in
+
+    /**
+     * static nested class for one add or remove at an index.
+     *
+     * @param <Type> the type of object stored in the list
+     */
+    static final class Edit<Type>
+    {
+        final int     index;  // the index in the list as it was before the batch
+        final Type    data;   // the data to add, or null for a remove
+        final boolean remove; // true for a remove, false for an add
+
+        /**
+         * Constructor for Edit that takes its index, data, and kind.
+         *
+         * @param index the index in the list as it was before the batch
+         * @param data the data to add, or null for a remove
+         * @param remove true for a remove, false for an add
+         */
+        private Edit(int index, Type data, boolean remove)
+        {
+            this.index  = index;
+            this.data   = data;
+            this.remove = remove;
+        }
+    }
+
+    /**
+     * Constructor for an empty batch.
+     */
+    public MutationBatch()
+    {
+        this.appends = new ArrayList<>();
+        this.edits   = new ArrayList<>();
+        this.sorted  = true;
+    }
+
+    /**
+     * Records data to add to the end of the list.
+     *
+     * @param data the data to add
+     */
+    public void addLast(Type data)
+    {
+        this.appends.add(data);
+    }
+
+    /**
+     * Records data to add at the specified index.
+     * The index can be up to the size the list has when the batch is applied, which is checked then.
+     *
+     * @param data the data to add
+     * @param index the index in the list as it was before the batch
+     * @throws IndexOutOfBoundsException throws exception if index is negative
+     */
+    public void addAtIndex(Type data, int index) throws IndexOutOfBoundsException
+    {
+        record(new Edit<>(index, data, false));
+    }
+
+    /**
+     * Records a remove of the element at the specified index.
+     * The index has to be less than the size the list has when the batch is applied, which is checked then.
+     *
+     * @param index the index in the list as it was before the batch
+     * @throws IndexOutOfBoundsException throws exception if index is negative
+     */
+    public void removeIndex(int index) throws IndexOutOfBoundsException
+    {
+        record(new Edit<>(index, null, true));
+    }
+
+    /**
+     * Gets the number of adds and removes recorded.
+     *
+     * @return the size of the batch
+     */
+    public int size()
+    {
+        return this.appends.size() + this.edits.size();
+    }
+
+    /**
+     * Checks if nothing has been recorded.
+     *
+     * @return true if the batch is empty
+     */
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    /**
+     * Throws away everything recorded, so the batch can be filled in again.
+     */
+    public void clear()
+    {
+        this.appends.clear();
+        this.edits.clear();
+        this.sorted = true;
+    }
+
+    /**
+     * Gets the data recorded with addLast.
+     *
+     * @return the appends, in the order they were recorded
+     */
+    List<Type> appends()
+    {
+        return this.appends;
+    }
+
+    /**
+     * Gets the adds and removes at an index, sorted by index with adds before a remove at the same index.
+     * The sort is stable, so data added at the same index stays in the order it was recorded. A batch that was
+     *      recorded in index order is only checked, not sorted again.
+     *
+     * @return the sorted edits
+     */
+    List<Edit<Type>> sortedEdits()
+    {
+        if (!this.sorted)
+        {
+            this.edits.sort(ORDER);
+            this.sorted = true;
+        }
+
+        return this.edits;
+    }
+
+    /**
+     * Gets the data of a run of sorted edits, without copying it.
+     *
+     * @param from the index of the first edit in the run
+     * @param to the index right after the last edit in the run
+     * @return the data of the edits from from up to to
+     */
+    List<Type> dataOf(int from, int to)
+    {
+        return new AbstractList<>()
+        {
+            @Override
+            public Type get(int index)
+            {
+                return MutationBatch.this.edits.get(from + index).data;
+            }
+
+            @Override
+            public int size()
+            {
+                return to - from;
+            }
+        };
+    }
+
+    /**
+     * Adds an edit to the batch, remembering whether it is still in index order.
+     *
+     * @param edit the edit to add
+     * @throws IndexOutOfBoundsException throws exception if the edit's index is negative
+     */
+    private void record(Edit<Type> edit) throws IndexOutOfBoundsException
+    {
+        if (edit.index < 0)
+        {
+            throw new IndexOutOfBoundsException("cannot record edit. index cannot be negative");
+        }
+
+        if (!this.edits.isEmpty() && ORDER.compare(this.edits.get(this.edits.size() - 1), edit) > 0)
+        {
+            this.sorted = false;
+        }
+
+        this.edits.add(edit);
+    }
+}
@@ -0,0 +1,660 @@
+package Main;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Off-heap Circular Doubly Linked List.
+ * Works like PooledCircularDoublyLinkedList, with slots linked by slot number instead of Node objects, but the
+ *      slots live in direct ByteBuffers outside of the Java heap. Each slot holds its prev and next slot numbers
+ *      followed by the element, written by a fixed width ElementCodec:
+ *          | prev (4 bytes) | next (4 bytes) | element (codec.fixedWidth() bytes) |
+ * The garbage collector only sees a handful of buffer objects no matter how many elements there are, so a huge
+ *      list costs it nothing to mark. Elements are decoded when they are read, so get hands back a new object.
+ * Slots are kept in pages of PAGE_SLOTS slots. Growing adds a page instead of copying the old ones, and the list
+ *      can go past the 2 GB limit of a single buffer.
+ * Slot 0 is the dummy head. Slots freed by removing an element are kept on a free list and handed out again by the
+ *      next add.
+ * close() lets go of every page right away and makes the list unusable. Java 17 has no public way to free a
+ *      direct buffer on the spot, so the memory itself goes back once the collector notices the pages are gone.
+ *
+ * @param <Type> the type of object stored in the list
+ * @author Julia Reynolds
+ */
+public class OffHeapCircularDoublyLinkedList<Type> implements Iterable<Type>, AutoCloseable
+{
+    private static final int HEAD       = 0;                    // the slot of the dummy head node
+    private static final int NONE       = -1;                   // marks the end of the free list
+    private static final int PAGE_SHIFT = 12;                   // log2 of the number of slots in a page
+    private static final int PAGE_SLOTS = 1 << PAGE_SHIFT;      // the number of slots in a page
+    private static final int PAGE_MASK  = PAGE_SLOTS - 1;       // picks a slot's place within its page
+    private static final int PREV       = 0;                    // offset of the prev link within a slot
+    private static final int NEXT       = Integer.BYTES;        // offset of the next link within a slot
+    private static final int DATA       = 2 * Integer.BYTES;    // offset of the element within a slot
+
+    private final ElementCodec<Type> codec;    // writes elements into slots and reads them back out
+    private final int                stride;   // the number of bytes in a slot
+    private ByteBuffer[]             pages;    // the pages of slots, or null once the list is closed
+    private int                      size;     // the length/size of the list
+    private int                      used;     // how many slots have ever been handed out, counting the dummy head
+    private int                      free;     // the first slot on the free list, linked through next, or NONE
+    private int                      modCount; // counts structural changes so iterators can tell when the list changed
+
+    /**
+     * Constructor for off-heap doubly linked list that stores its elements with the specified codec.
+     *
+     * @param codec the fixed width codec to store elements with
+     * @throws IllegalArgumentException throws exception if the codec is not fixed width
+     */
+    public OffHeapCircularDoublyLinkedList(ElementCodec<Type> codec) throws IllegalArgumentException
+    {
+        if (codec.fixedWidth() <= 0)
+        {
+            throw new IllegalArgumentException("cannot create list. codec is not fixed width");
+        }
+
+        this.codec  = codec;
+        this.stride = DATA + codec.fixedWidth();
+        this.pages  = new ByteBuffer[1];
+        this.size   = 0;                        // list is empty so size is 0
+        this.used   = 1;                        // slot 0 is taken by the dummy head
+        this.free   = NONE;
+
+        this.pages[0] = newPage();
+        setNext(HEAD, HEAD);                    // circularly link to self
+        setPrev(HEAD, HEAD);                    // circularly link to self
+    }
+
+    /**
+     * Adds data to the beginning of the list.
+     *
+     * @param data the data to store in the list
+     */
+    public void addFirst(Type data)
+    {
+        checkOpen();
+        linkBefore(next(HEAD), data);
+    }
+
+    /**
+     * Adds data to the end of the list.
+     *
+     * @param data the data to store in the list
+     */
+    public void addLast(Type data)
+    {
+        checkOpen();
+        linkBefore(HEAD, data);
+    }
+
+    /**
+     * Adds data at the specified index within the list
+     *
+     * @param data the data to add to the list
+     * @param index the location in the list to add the data
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public void addAtIndex(Type data, int index) throws IndexOutOfBoundsException
+    {
+        checkOpen();
+
+        // we are considering this.size in bounds in case we want to add on to the end of the list.
+        if (index < 0 || index > this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot addAtIndex data to list. index is out of bounds");
+        }
+
+        linkBefore(slotAt(index), data);
+    }
+
+    /**
+     * Searches through the list for specified data, removing the first instance of it found.
+     *
+     * @param data the data to be removed from the list
+     * @return boolean indicating if the removal was successful
+     */
+    public boolean removeData(Type data)
+    {
+        int curr;
+
+        checkOpen();
+
+        for (curr = next(HEAD); curr != HEAD; curr = next(curr))
+        {
+            if (Objects.equals(read(curr), data))
+            {
+                unlink(curr);
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes data from the list at the specified index.
+     *
+     * @param index the index of the data to be removed
+     * @return the data removed from the list
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public Type removeIndex(int index) throws IndexOutOfBoundsException
+    {
+        int  slot;
+        Type old;
+
+        checkOpen();
+
+        if (index < 0 || index >= this.size)        // this.size is out of bounds since we start at index 0
+        {
+            throw new IndexOutOfBoundsException("cannot remove data from list. index is out of list bounds");
+        }
+
+        slot = slotAt(index);
+        old  = read(slot);
+
+        unlink(slot);
+
+        return old;
+    }
+
+    /**
+     * Gets the data stored at the specified index.
+     *
+     * @param index the index of the data to get
+     * @return the data stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public Type get(int index) throws IndexOutOfBoundsException
+    {
+        checkOpen();
+
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot get data from list. index is out of list bounds");
+        }
+
+        return read(slotAt(index));
+    }
+
+    /**
+     * Replaces the data stored at the specified index.
+     *
+     * @param index the index of the data to replace
+     * @param data the new data to store at the index
+     * @return the data that was previously stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public Type set(int index, Type data) throws IndexOutOfBoundsException
+    {
+        int  slot;
+        Type old;
+
+        checkOpen();
+
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot set data in list. index is out of list bounds");
+        }
+
+        slot = slotAt(index);
+        old  = read(slot);
+
+        write(slot, data);
+
+        return old;
+    }
+
+    /**
+     * Checks if the list holds the specified data.
+     *
+     * @param data the data to look for
+     * @return true if the data is in the list
+     */
+    public boolean contains(Type data)
+    {
+        int curr;
+
+        checkOpen();
+
+        for (curr = next(HEAD); curr != HEAD; curr = next(curr))
+        {
+            if (Objects.equals(read(curr), data))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Gets the number of bytes of off-heap memory the list is holding on to.
+     *
+     * @return the off-heap bytes in use, or 0 once the list is closed
+     */
+    public long offHeapBytes()
+    {
+        long bytes;
+
+        bytes = 0;
+
+        if (this.pages != null)
+        {
+            for (ByteBuffer page : this.pages)
+            {
+                if (page != null)
+                {
+                    bytes += page.capacity();
+                }
+            }
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Lets go of every page of off-heap memory. The list can't be used afterward.
+     * Closing a list that is already closed does nothing.
+     */
+    @Override
+    public void close()
+    {
+        this.pages = null;
+        this.size  = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Gets an iterator that goes through the list from the first element to the last.
+     *
+     * @return an iterator over the list
+     */
+    @Override
+    public Iterator<Type> iterator()
+    {
+        checkOpen();
+
+        return new SlotItr();
+    }
+
+    /**
+     * Gets a spliterator over the list.
+     *
+     * @return a spliterator over the list
+     */
+    @Override
+    public Spliterator<Type> spliterator()
+    {
+        return Spliterators.spliterator(iterator(), this.size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Gets a sequential stream of the elements in the list.
+     *
+     * @return a stream over the list
+     */
+    public Stream<Type> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Builds a String that represents the list.
+     *
+     * @return String representing the list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder builder;
+        int           curr;
+
+        if (this.pages == null)
+        {
+            return "[closed]";
+        }
+
+        builder = new StringBuilder("[");
+
+        for (curr = next(HEAD); curr != HEAD; curr = next(curr))
+        {
+            if (curr != next(HEAD))                 // every element but the first gets a comma before it
+            {
+                builder.append(", ");
+            }
+
+            builder.append(read(curr));
+        }
+
+        builder.append("]");
+
+        return builder.toString();
+    }
+
+    /**
+     * Makes sure the list hasn't been closed.
+     *
+     * @throws IllegalStateException throws exception if the list is closed
+     */
+    private void checkOpen() throws IllegalStateException
+    {
+        if (this.pages == null)
+        {
+            throw new IllegalStateException("list is closed");
+        }
+    }
+
+    /**
+     * Finds the slot at the specified index by walking from whichever end of the list is closer.
+     *
+     * @param index the index of the slot to find, from 0 to this.size (inclusive)
+     * @return the slot at the specified index, or the dummy head if index is this.size
+     */
+    private int slotAt(int index)
+    {
+        int curr, curridx;
+
+        if (index < (this.size - index))            // go forwards if index is in the left half of the list
+        {
+            curr = next(HEAD);
+
+            for (curridx = 0; curridx < index; curridx++)
+            {
+                curr = next(curr);
+            }
+        }
+        else                                        // go backwards because there is less distance to travel
+        {
+            curr = HEAD;
+
+            for (curridx = this.size; curridx > index; curridx--)
+            {
+                curr = prev(curr);
+            }
+        }
+
+        return curr;
+    }
+
+    /**
+     * Takes a slot, either from the free list or from the unused end of the pages, and links it in
+     *      right before the specified slot holding the data.
+     *
+     * @param succ the slot that will come right after the new slot
+     * @param data the data to store in the new slot
+     */
+    private void linkBefore(int succ, Type data)
+    {
+        int slot, pred;
+
+        if (this.free != NONE)                      // reuse a slot freed by an earlier remove
+        {
+            slot = this.free;
+        }
+        else
+        {
+            if (this.used == Integer.MAX_VALUE)
+            {
+                throw new IllegalStateException("cannot add data to list. list is full");
+            }
+
+            if ((this.used & PAGE_MASK) == 0)       // the last page is full, so start a new one
+            {
+                addPage();
+            }
+
+            slot = this.used;
+        }
+
+        write(slot, data);                          // write first, so a codec that throws leaves the list as it was
+
+        if (slot == this.free)
+        {
+            this.free = next(slot);
+        }
+        else
+        {
+            this.used++;
+        }
+
+        pred = prev(succ);
+
+        setPrev(slot, pred);
+        setNext(slot, succ);
+        setNext(pred, slot);
+        setPrev(succ, slot);
+
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Cuts the specified slot out of the list and puts it on the free list.
+     *
+     * @param slot the slot to remove from the list
+     */
+    private void unlink(int slot)
+    {
+        setNext(prev(slot), next(slot));
+        setPrev(next(slot), prev(slot));
+
+        setNext(slot, this.free);                   // the free list is linked through next
+        this.free = slot;
+
+        this.size--;
+        this.modCount++;
+    }
+
+    /**
+     * Adds a new page to the end of the pages, growing the array of pages by half again if it is full.
+     */
+    private void addPage()
+    {
+        int page;
+
+        page = this.used >>> PAGE_SHIFT;
+
+        if (page == this.pages.length)
+        {
+            this.pages = Arrays.copyOf(this.pages, this.pages.length + (this.pages.length >> 1) + 1);
+        }
+
+        this.pages[page] = newPage();
+    }
+
+    /**
+     * Allocates one page of off-heap memory, in the machine's own byte order so the links are read natively.
+     *
+     * @return a new, zeroed page
+     */
+    private ByteBuffer newPage()
+    {
+        return ByteBuffer.allocateDirect(PAGE_SLOTS * this.stride).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Gets the page holding the specified slot.
+     *
+     * @param slot the slot to look up
+     * @return the page the slot is in
+     */
+    private ByteBuffer page(int slot)
+    {
+        return this.pages[slot >>> PAGE_SHIFT];
+    }
+
+    /**
+     * Gets the byte offset of the specified slot within its page.
+     *
+     * @param slot the slot to look up
+     * @return the offset of the start of the slot
+     */
+    private int offset(int slot)
+    {
+        return (slot & PAGE_MASK) * this.stride;
+    }
+
+    /**
+     * Gets the slot after the specified slot.
+     *
+     * @param slot the slot to start from
+     * @return the slot after it
+     */
+    private int next(int slot)
+    {
+        return page(slot).getInt(offset(slot) + NEXT);
+    }
+
+    /**
+     * Gets the slot before the specified slot.
+     *
+     * @param slot the slot to start from
+     * @return the slot before it
+     */
+    private int prev(int slot)
+    {
+        return page(slot).getInt(offset(slot) + PREV);
+    }
+
+    /**
+     * Sets the slot after the specified slot.
+     *
+     * @param slot the slot whose link is set
+     * @param next the slot that will come after it
+     */
+    private void setNext(int slot, int next)
+    {
+        page(slot).putInt(offset(slot) + NEXT, next);
+    }
+
+    /**
+     * Sets the slot before the specified slot.
+     *
+     * @param slot the slot whose link is set
+     * @param prev the slot that will come before it
+     */
+    private void setPrev(int slot, int prev)
+    {
+        page(slot).putInt(offset(slot) + PREV, prev);
+    }
+
+    /**
+     * Decodes the element stored in the specified slot.
+     *
+     * @param slot the slot to read
+     * @return the element stored in the slot
+     */
+    private Type read(int slot)
+    {
+        return this.codec.read(page(slot), offset(slot) + DATA);
+    }
+
+    /**
+     * Encodes an element into the specified slot.
+     * Codecs write at the buffer's position, and nothing else uses the pages' positions, so the position is just
+     *      moved to the slot first.
+     *
+     * @param slot the slot to write
+     * @param data the element to store in the slot
+     */
+    private void write(int slot, Type data)
+    {
+        ByteBuffer page;
+
+        page = page(slot);
+        page.position(offset(slot) + DATA);
+        this.codec.write(page, data);
+    }
+
+    /**
+     * private inner iterator class that follows the next links.
+     */
+    private class SlotItr implements Iterator<Type>
+    {
+        private int curr;             // the slot that next() will return
+        private int lastReturned;     // the slot last returned by next(), or NONE if there isn't one
+        private int expectedModCount; // the modCount the list should have if nobody else changed it
+
+        /**
+         * Constructor for the iterator that starts at the beginning of the list.
+         */
+        private SlotItr()
+        {
+            this.curr             = OffHeapCircularDoublyLinkedList.this.next(HEAD);
+            this.lastReturned     = NONE;
+            this.expectedModCount = OffHeapCircularDoublyLinkedList.this.modCount;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.curr != HEAD;
+        }
+
+        @Override
+        public Type next()
+        {
+            checkForModification();
+
+            if (this.curr == HEAD)
+            {
+                throw new NoSuchElementException("cannot get next element. iterator is at the end of the list");
+            }
+
+            this.lastReturned = this.curr;
+            this.curr         = OffHeapCircularDoublyLinkedList.this.next(this.curr);
+
+            return read(this.lastReturned);
+        }
+
+        @Override
+        public void remove()
+        {
+            checkForModification();
+
+            if (this.lastReturned == NONE)
+            {
+                throw new IllegalStateException("cannot remove element. next has not been called");
+            }
+
+            unlink(this.lastReturned);              // curr already points past the removed slot
+
+            this.lastReturned     = NONE;
+            this.expectedModCount = OffHeapCircularDoublyLinkedList.this.modCount;
+        }
+
+        /**
+         * Makes sure nobody else has changed the list since this iterator last did.
+         *
+         * @throws ConcurrentModificationException throws exception if the list was changed by someone else
+         */
+        private void checkForModification() throws ConcurrentModificationException
+        {
+            if (OffHeapCircularDoublyLinkedList.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException("list was changed outside of this iterator");
+            }
+        }
+    }
+}
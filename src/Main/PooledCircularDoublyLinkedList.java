@@ -0,0 +1,442 @@
+package Main;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pooled Circular Doubly Linked List.
+ * Works the same as CircularDoublyLinkedList, but instead of making a Node object for every element, the nodes are
+ *      just slots in parallel arrays, with the links between them stored as slot numbers.
+ * Slot 0 is the dummy head. Slots freed by removing an element are kept on a free list and handed out again by the
+ *      next add, so once the arrays have grown big enough, adding and removing doesn't allocate anything and leaves
+ *      no garbage behind for the collector.
+ *
+ * @param <Type> the type of object stored in the list
+ * @author Julia Reynolds
+ */
+public class PooledCircularDoublyLinkedList<Type> implements Iterable<Type>
+{
+    private static final int HEAD             = 0;  // the slot of the dummy head node
+    private static final int NONE             = -1; // marks the end of the free list
+    private static final int DEFAULT_CAPACITY = 16; // how many slots to start with, counting the dummy head
+
+    private int[]    next;     // next[slot] is the slot of the node after slot
+    private int[]    prev;     // prev[slot] is the slot of the node before slot
+    private Object[] data;     // data[slot] is the data stored in slot
+    private int      size;     // the length/size of the list
+    private int      used;     // how many slots have ever been handed out, counting the dummy head
+    private int      free;     // the first slot on the free list, linked through next[], or NONE if it is empty
+    private int      modCount; // counts structural changes so iterators can tell when the list changed under them
+
+    /**
+     * Constructor for pooled doubly linked list
+     */
+    public PooledCircularDoublyLinkedList()
+    {
+        this.next = new int[DEFAULT_CAPACITY];
+        this.prev = new int[DEFAULT_CAPACITY];
+        this.data = new Object[DEFAULT_CAPACITY];
+        this.size = 0;                          // list is empty so size is 0
+        this.used = 1;                          // slot 0 is taken by the dummy head
+        this.free = NONE;
+
+        this.next[HEAD] = HEAD;                 // circularly link to self
+        this.prev[HEAD] = HEAD;                 // circularly link to self
+    }
+
+    /**
+     * Constructor that adds data as the linked list is constructed.
+     *
+     * @param data the data to store in the list
+     */
+    @SafeVarargs
+    public PooledCircularDoublyLinkedList(Type... data)
+    {
+        this();                                 // call other constructor to set up empty list
+
+        for (Type item : data)
+        {
+            addLast(item);
+        }
+    }
+
+    /**
+     * Adds data to the beginning of the list.
+     *
+     * @param data the data to store in the list
+     */
+    public void addFirst(Type data)
+    {
+        linkBefore(this.next[HEAD], data);
+    }
+
+    /**
+     * Adds data to the end of the list.
+     *
+     * @param data the data to store in the list
+     */
+    public void addLast(Type data)
+    {
+        linkBefore(HEAD, data);
+    }
+
+    /**
+     * Adds data at the specified index within the list
+     *
+     * @param data the data to add to the list
+     * @param index the location in the list to add the data
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public void addAtIndex(Type data, int index) throws IndexOutOfBoundsException
+    {
+        // we are considering this.size in bounds in case we want to add on to the end of the list.
+        if (index < 0 || index > this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot addAtIndex data to list. index is out of bounds");
+        }
+
+        linkBefore(slotAt(index), data);
+    }
+
+    /**
+     * Searches through the list for specified data, removing the first instance of it found.
+     *
+     * @param data the data to be removed from the list
+     * @return boolean indicating if the removal was successful
+     */
+    public boolean removeData(Type data)
+    {
+        int curr;
+
+        // move through the list until we either loop back around to the head or find the data we are looking for
+        for (curr = this.next[HEAD]; curr != HEAD; curr = this.next[curr])
+        {
+            if (Objects.equals(this.data[curr], data))
+            {
+                unlink(curr);
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes data from the list at the specified index.
+     *
+     * @param index the index of the data to be removed
+     * @return the data removed from the list
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    @SuppressWarnings("unchecked")
+    public Type removeIndex(int index) throws IndexOutOfBoundsException
+    {
+        int  slot;
+        Type old;
+
+        if (index < 0 || index >= this.size)        // this.size is out of bounds since we start at index 0
+        {
+            throw new IndexOutOfBoundsException("cannot remove data from list. index is out of list bounds");
+        }
+
+        slot = slotAt(index);
+        old  = (Type) this.data[slot];              // grab the data before unlink clears the slot
+
+        unlink(slot);
+
+        return old;
+    }
+
+    /**
+     * Gets the data stored at the specified index.
+     *
+     * @param index the index of the data to get
+     * @return the data stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    @SuppressWarnings("unchecked")
+    public Type get(int index) throws IndexOutOfBoundsException
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot get data from list. index is out of list bounds");
+        }
+
+        return (Type) this.data[slotAt(index)];
+    }
+
+    /**
+     * Replaces the data stored at the specified index.
+     *
+     * @param index the index of the data to replace
+     * @param data the new data to store at the index
+     * @return the data that was previously stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    @SuppressWarnings("unchecked")
+    public Type set(int index, Type data) throws IndexOutOfBoundsException
+    {
+        int  slot;
+        Type old;
+
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot set data in list. index is out of list bounds");
+        }
+
+        slot            = slotAt(index);
+        old             = (Type) this.data[slot];
+        this.data[slot] = data;
+
+        return old;
+    }
+
+    /**
+     * Gets the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Gets an iterator that goes through the list from the first element to the last.
+     *
+     * @return an iterator over the list
+     */
+    @Override
+    public Iterator<Type> iterator()
+    {
+        return new SlotItr();
+    }
+
+    /**
+     * Gets a spliterator over the list.
+     *
+     * @return a spliterator over the list
+     */
+    @Override
+    public Spliterator<Type> spliterator()
+    {
+        return Spliterators.spliterator(iterator(), this.size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Gets a sequential stream of the elements in the list.
+     *
+     * @return a stream over the list
+     */
+    public Stream<Type> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Builds a String that represents the list.
+     *
+     * @return String representing the list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder builder;
+        int           curr;
+
+        builder = new StringBuilder("[");
+
+        for (curr = this.next[HEAD]; curr != HEAD; curr = this.next[curr])
+        {
+            if (curr != this.next[HEAD])            // every element but the first gets a comma before it
+            {
+                builder.append(", ");
+            }
+
+            builder.append(this.data[curr]);
+        }
+
+        builder.append("]");
+
+        return builder.toString();
+    }
+
+    /**
+     * Finds the slot at the specified index by walking from whichever end of the list is closer.
+     *
+     * @param index the index of the slot to find, from 0 to this.size (inclusive)
+     * @return the slot at the specified index, or the dummy head if index is this.size
+     */
+    private int slotAt(int index)
+    {
+        int curr, curridx;
+
+        if (index < (this.size - index))            // go forwards if index is in the left half of the list
+        {
+            curr = this.next[HEAD];
+
+            for (curridx = 0; curridx < index; curridx++)
+            {
+                curr = this.next[curr];
+            }
+        }
+        else                                        // go backwards because there is less distance to travel
+        {
+            curr = HEAD;
+
+            for (curridx = this.size; curridx > index; curridx--)
+            {
+                curr = this.prev[curr];
+            }
+        }
+
+        return curr;
+    }
+
+    /**
+     * Takes a slot, either from the free list or from the unused end of the arrays, and links it in
+     *      right before the specified slot holding the data.
+     *
+     * @param succ the slot that will come right after the new slot
+     * @param data the data to store in the new slot
+     */
+    private void linkBefore(int succ, Type data)
+    {
+        int slot;
+
+        if (this.free != NONE)                      // reuse a slot freed by an earlier remove
+        {
+            slot      = this.free;
+            this.free = this.next[slot];
+        }
+        else
+        {
+            if (this.used == this.next.length)      // out of room, so grow the arrays by half again
+            {
+                grow();
+            }
+
+            slot = this.used++;
+        }
+
+        this.data[slot]            = data;
+        this.prev[slot]            = this.prev[succ];
+        this.next[slot]            = succ;
+        this.next[this.prev[succ]] = slot;
+        this.prev[succ]            = slot;
+
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Cuts the specified slot out of the list and puts it on the free list.
+     *
+     * @param slot the slot to remove from the list
+     */
+    private void unlink(int slot)
+    {
+        this.next[this.prev[slot]] = this.next[slot];
+        this.prev[this.next[slot]] = this.prev[slot];
+
+        this.data[slot] = null;                     // don't hold on to data that is no longer in the list
+        this.next[slot] = this.free;                // the free list is linked through next[]
+        this.free       = slot;
+
+        this.size--;
+        this.modCount++;
+    }
+
+    /**
+     * Grows the parallel arrays to one and a half times their current length.
+     */
+    private void grow()
+    {
+        int capacity;
+
+        capacity  = this.next.length + (this.next.length >> 1);
+        this.next = Arrays.copyOf(this.next, capacity);
+        this.prev = Arrays.copyOf(this.prev, capacity);
+        this.data = Arrays.copyOf(this.data, capacity);
+    }
+
+    /**
+     * private inner iterator class that follows the next[] links.
+     */
+    private class SlotItr implements Iterator<Type>
+    {
+        private int curr;             // the slot that next() will return
+        private int lastReturned;     // the slot last returned by next(), or NONE if there isn't one
+        private int expectedModCount; // the modCount the list should have if nobody else changed it
+
+        /**
+         * Constructor for the iterator that starts at the beginning of the list.
+         */
+        private SlotItr()
+        {
+            this.curr             = PooledCircularDoublyLinkedList.this.next[HEAD];
+            this.lastReturned     = NONE;
+            this.expectedModCount = PooledCircularDoublyLinkedList.this.modCount;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.curr != HEAD;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Type next()
+        {
+            checkForModification();
+
+            if (this.curr == HEAD)
+            {
+                throw new NoSuchElementException("cannot get next element. iterator is at the end of the list");
+            }
+
+            this.lastReturned = this.curr;
+            this.curr         = PooledCircularDoublyLinkedList.this.next[this.curr];
+
+            return (Type) PooledCircularDoublyLinkedList.this.data[this.lastReturned];
+        }
+
+        @Override
+        public void remove()
+        {
+            checkForModification();
+
+            if (this.lastReturned == NONE)
+            {
+                throw new IllegalStateException("cannot remove element. next has not been called");
+            }
+
+            unlink(this.lastReturned);              // curr already points past the removed slot
+
+            this.lastReturned     = NONE;
+            this.expectedModCount = PooledCircularDoublyLinkedList.this.modCount;
+        }
+
+        /**
+         * Makes sure nobody else has changed the list since this iterator last did.
+         *
+         * @throws ConcurrentModificationException throws exception if the list was changed by someone else
+         */
+        private void checkForModification() throws ConcurrentModificationException
+        {
+            if (PooledCircularDoublyLinkedList.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException("list was changed outside of this iterator");
+            }
+        }
+    }
+}
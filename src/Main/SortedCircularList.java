@@ -0,0 +1,246 @@
+package Main;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Sorted Circular List.
+ * Keeps a CircularDoublyLinkedList in order as elements are added, so it never has to be sorted afterward.
+ * An add walks in from both ends of the list at once and stops at whichever end reaches the right place first, so
+ *      adding in mostly ascending or mostly descending order costs O(1) per add, and adding anywhere else costs as
+ *      many hops as the nearer end is away. Elements that compare equal stay in the order they were added.
+ * Only operations that keep the order are offered: elements can be read and removed by index or value, but only
+ *      added through addSorted.
+ *
+ * @param <Type> the type of object stored in the list
+ * @author Julia Reynolds
+ */
+public class SortedCircularList<Type> extends AbstractCollection<Type>
+{
+    private final CircularDoublyLinkedList<Type> list;       // the elements, smallest first
+    private final Comparator<? super Type>       comparator; // the order the elements are kept in
+
+    /**
+     * Constructor for a list sorted by the natural ordering of its elements.
+     */
+    public SortedCircularList()
+    {
+        this(null);
+    }
+
+    /**
+     * Constructor for a list sorted by the specified comparator.
+     *
+     * @param comparator the order to keep the elements in, or null for their natural ordering
+     */
+    @SuppressWarnings("unchecked")
+    public SortedCircularList(Comparator<? super Type> comparator)
+    {
+        this.list       = new CircularDoublyLinkedList<>();
+        this.comparator = (comparator != null) ? comparator : (Comparator<? super Type>) Comparator.naturalOrder();
+    }
+
+    /**
+     * Constructor that sorts the specified data into a new list.
+     * The data is added as it comes and then merge sorted once, which costs O(n log n) instead of n sorted adds.
+     *
+     * @param comparator the order to keep the elements in, or null for their natural ordering
+     * @param data the data to store in the list
+     * @throws ClassCastException throws exception if comparator is null and the elements are not Comparable
+     */
+    public SortedCircularList(Comparator<? super Type> comparator, Collection<? extends Type> data)
+            throws ClassCastException
+    {
+        this(comparator);
+
+        this.list.addAll(data);
+        this.list.sort(this.comparator);
+    }
+
+    /**
+     * Adds data at the place that keeps the list sorted, after any elements that compare equal to it.
+     *
+     * @param data the data to add
+     * @throws ClassCastException throws exception if the list uses natural ordering and data is not Comparable
+     */
+    public void addSorted(Type data) throws ClassCastException
+    {
+        this.list.insertSorted(data, this.comparator);
+    }
+
+    /**
+     * Adds data at the place that keeps the list sorted. The same as addSorted.
+     *
+     * @param data the data to add
+     * @return true, since the list always changes
+     */
+    @Override
+    public boolean add(Type data)
+    {
+        addSorted(data);
+
+        return true;
+    }
+
+    /**
+     * Moves every element of another sorted list into this one in O(n + m), leaving the other list empty.
+     * Where elements compare equal, the ones already in this list come first. If the other list is sorted by a
+     *      different order, the result is still sorted by this list's order but takes O((n + m) log(n + m)).
+     *
+     * @param other the sorted list whose elements are moved
+     * @throws IllegalArgumentException throws exception if other is this list
+     */
+    public void mergeSorted(SortedCircularList<Type> other) throws IllegalArgumentException
+    {
+        if (other == this)
+        {
+            throw new IllegalArgumentException("cannot merge a list into itself");
+        }
+
+        this.list.mergeSorted(other.list, this.comparator);
+    }
+
+    /**
+     * Gets the data stored at the specified index.
+     *
+     * @param index the index of the data to get
+     * @return the data stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public Type get(int index) throws IndexOutOfBoundsException
+    {
+        return this.list.get(index);
+    }
+
+    /**
+     * Removes data from the list at the specified index.
+     *
+     * @param index the index of the data to be removed
+     * @return the data removed from the list
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public Type removeIndex(int index) throws IndexOutOfBoundsException
+    {
+        return this.list.removeIndex(index);
+    }
+
+    /**
+     * Searches through the list for specified data, removing the first instance of it found.
+     *
+     * @param data the data to be removed from the list
+     * @return boolean indicating if the removal was successful
+     */
+    public boolean removeData(Type data)
+    {
+        return this.list.removeData(data);
+    }
+
+    /**
+     * Gets the smallest element.
+     *
+     * @return the first element
+     * @throws NoSuchElementException throws exception if the list is empty
+     */
+    public Type first() throws NoSuchElementException
+    {
+        return this.list.getFirst();
+    }
+
+    /**
+     * Gets the largest element.
+     *
+     * @return the last element
+     * @throws NoSuchElementException throws exception if the list is empty
+     */
+    public Type last() throws NoSuchElementException
+    {
+        return this.list.getLast();
+    }
+
+    /**
+     * Removes and returns the smallest element.
+     *
+     * @return the first element, or null if the list is empty
+     */
+    public Type pollFirst()
+    {
+        return this.list.pollFirst();
+    }
+
+    /**
+     * Removes and returns the largest element.
+     *
+     * @return the last element, or null if the list is empty
+     */
+    public Type pollLast()
+    {
+        return this.list.pollLast();
+    }
+
+    /**
+     * Gets the order the elements are kept in.
+     *
+     * @return the comparator, which is the natural ordering if none was given
+     */
+    public Comparator<? super Type> comparator()
+    {
+        return this.comparator;
+    }
+
+    /**
+     * Checks if the list holds the specified data.
+     *
+     * @param data the data to look for
+     * @return true if the data is in the list
+     */
+    @Override
+    public boolean contains(Object data)
+    {
+        return this.list.contains(data);
+    }
+
+    /**
+     * Removes every element from the list.
+     */
+    @Override
+    public void clear()
+    {
+        this.list.clear();
+    }
+
+    /**
+     * Gets the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    @Override
+    public int size()
+    {
+        return this.list.size();
+    }
+
+    /**
+     * Gets an iterator over the elements from smallest to largest. Its remove keeps the list sorted.
+     *
+     * @return an iterator over the list
+     */
+    @Override
+    public Iterator<Type> iterator()
+    {
+        return this.list.iterator();
+    }
+
+    /**
+     * Puts the elements into a String, smallest first.
+     *
+     * @return the list as a String
+     */
+    @Override
+    public String toString()
+    {
+        return this.list.toString();
+    }
+}
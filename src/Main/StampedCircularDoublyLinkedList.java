@@ -0,0 +1,431 @@
+package Main;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
+
+/**
+ * Read-optimized thread-safe wrapper around a CircularDoublyLinkedList.
+ * Writers take a StampedLock's write lock. Readers mostly don't lock at all:
+ *      - reading the size uses an optimistic read, which just checks afterward that no writer got in the way, and
+ *        only takes the read lock if one did.
+ *      - reading a single element uses the snapshot if there is one, and otherwise walks the list from the nearer
+ *        end under the read lock, which other readers can hold at the same time.
+ *      - reads of the whole list, like iterating, streaming, contains, and toString, go through an immutable
+ *        snapshot of the list. The snapshot is built once after each change and then shared by every reader until
+ *        the next change, so readers never block writers or each other while they go through it.
+ * The list's own get moves its cursor, which is a write, so readers here never call it and walk an iterator instead.
+ *
+ * @param <Type> the type of object stored in the list
+ * @author Julia Reynolds
+ */
+public class StampedCircularDoublyLinkedList<Type> implements Iterable<Type>
+{
+    private final CircularDoublyLinkedList<Type> list;     // the list being wrapped, only touched under the lock
+    private final StampedLock                    lock;     // guards list
+    private volatile List<Type>                  snapshot; // immutable copy of list, or null if list has changed
+
+    /**
+     * Constructor for read-optimized doubly linked list
+     */
+    public StampedCircularDoublyLinkedList()
+    {
+        this.list     = new CircularDoublyLinkedList<>();
+        this.lock     = new StampedLock();
+        this.snapshot = null;
+    }
+
+    /**
+     * Constructor that adds data as the linked list is constructed.
+     *
+     * @param data the data to store in the list
+     */
+    @SafeVarargs
+    public StampedCircularDoublyLinkedList(Type... data)
+    {
+        this();                             // call other constructor to set up empty list
+
+        for (Type item : data)
+        {
+            this.list.addLast(item);        // nobody else can see the list yet, so no need to lock
+        }
+    }
+
+    /**
+     * Adds data to the beginning of the list.
+     *
+     * @param data the data to store in the list
+     */
+    public void addFirst(Type data)
+    {
+        long stamp;
+
+        stamp = this.lock.writeLock();
+
+        try
+        {
+            this.list.addFirst(data);
+            this.snapshot = null;
+        }
+        finally
+        {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds data to the end of the list.
+     *
+     * @param data the data to store in the list
+     */
+    public void addLast(Type data)
+    {
+        long stamp;
+
+        stamp = this.lock.writeLock();
+
+        try
+        {
+            this.list.addLast(data);
+            this.snapshot = null;
+        }
+        finally
+        {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds data at the specified index within the list
+     *
+     * @param data the data to add to the list
+     * @param index the location in the list to add the data
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public void addAtIndex(Type data, int index) throws IndexOutOfBoundsException
+    {
+        long stamp;
+
+        stamp = this.lock.writeLock();
+
+        try
+        {
+            this.list.addAtIndex(data, index);
+            this.snapshot = null;
+        }
+        finally
+        {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Searches through the list for specified data, removing the first instance of it found.
+     *
+     * @param data the data to be removed from the list
+     * @return boolean indicating if the removal was successful
+     */
+    public boolean removeData(Type data)
+    {
+        long stamp;
+
+        stamp = this.lock.writeLock();
+
+        try
+        {
+            if (!this.list.removeData(data))
+            {
+                return false;               // nothing changed, so the snapshot is still good
+            }
+
+            this.snapshot = null;
+
+            return true;
+        }
+        finally
+        {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes data from the list at the specified index.
+     *
+     * @param index the index of the data to be removed
+     * @return the data removed from the list
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public Type removeIndex(int index) throws IndexOutOfBoundsException
+    {
+        long stamp;
+        Type data;
+
+        stamp = this.lock.writeLock();
+
+        try
+        {
+            data          = this.list.removeIndex(index);
+            this.snapshot = null;
+
+            return data;
+        }
+        finally
+        {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Applies every add and remove recorded in a batch under one write lock, so readers see either none of it or
+     *      all of it, and a writer with many changes only takes the lock once.
+     * Every index in the batch refers to the list as it is when the lock is taken. See CircularDoublyLinkedList's
+     *      apply for how the batch is applied.
+     *
+     * @param batch the batch to apply
+     * @throws IndexOutOfBoundsException throws exception if an index in the batch is outside of list bounds
+     * @throws IllegalArgumentException throws exception if the batch removes the same index more than once
+     */
+    public void apply(MutationBatch<Type> batch) throws IndexOutOfBoundsException, IllegalArgumentException
+    {
+        long stamp;
+
+        if (batch.isEmpty())
+        {
+            return;                         // nothing would change, so don't hold up readers
+        }
+
+        stamp = this.lock.writeLock();
+
+        try
+        {
+            this.list.apply(batch);         // throws before changing anything if the batch is bad
+            this.snapshot = null;
+        }
+        finally
+        {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replaces the data stored at the specified index.
+     *
+     * @param index the index of the data to replace
+     * @param data the new data to store at the index
+     * @return the data that was previously stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public Type set(int index, Type data) throws IndexOutOfBoundsException
+    {
+        long stamp;
+        Type old;
+
+        stamp = this.lock.writeLock();
+
+        try
+        {
+            old           = this.list.set(index, data);
+            this.snapshot = null;
+
+            return old;
+        }
+        finally
+        {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Gets the data stored at the specified index.
+     * Uses the snapshot if there is one, and otherwise walks the list from whichever end is nearer under the read
+     *      lock, so the walk never follows links a writer is halfway through changing.
+     *
+     * @param index the index of the data to get
+     * @return the data stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public Type get(int index) throws IndexOutOfBoundsException
+    {
+        List<Type> current;
+        long       stamp;
+
+        current = this.snapshot;
+
+        if (current != null)
+        {
+            return current.get(index);
+        }
+
+        stamp = this.lock.readLock();
+
+        try
+        {
+            return walkTo(index);
+        }
+        finally
+        {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Gets the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    public int size()
+    {
+        long stamp;
+        int  size;
+
+        stamp = this.lock.tryOptimisticRead();
+        size  = this.list.size();
+
+        if (!this.lock.validate(stamp))
+        {
+            stamp = this.lock.readLock();
+
+            try
+            {
+                size = this.list.size();
+            }
+            finally
+            {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Checks if the list holds the specified data.
+     *
+     * @param data the data to look for
+     * @return true if the data is in the list
+     */
+    public boolean contains(Type data)
+    {
+        return snapshot().contains(data);
+    }
+
+    /**
+     * Gets an immutable copy of the list as it is right now.
+     * The copy is shared with every other reader until the list changes, and it never changes itself, so it can be
+     *      iterated for as long as the caller likes without blocking writers.
+     *
+     * @return an immutable snapshot of the list
+     */
+    @SuppressWarnings("unchecked")
+    public List<Type> snapshot()
+    {
+        List<Type> current;
+        Object[]   array;
+        long       stamp;
+        int        idx;
+
+        current = this.snapshot;
+
+        if (current != null)
+        {
+            return current;
+        }
+
+        stamp = this.lock.readLock();       // other readers can build at the same time, they'll all match
+
+        try
+        {
+            array = new Object[this.list.size()];
+            idx   = 0;
+
+            for (Type data : this.list)
+            {
+                array[idx++] = data;
+            }
+
+            current       = Collections.unmodifiableList(Arrays.asList((Type[]) array));
+            this.snapshot = current;        // still under the read lock, so no writer can have made it stale
+
+            return current;
+        }
+        finally
+        {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Gets an iterator over a snapshot of the list.
+     *
+     * @return an iterator over the list
+     */
+    @Override
+    public Iterator<Type> iterator()
+    {
+        return snapshot().iterator();
+    }
+
+    /**
+     * Gets a sequential stream over a snapshot of the list.
+     *
+     * @return a stream over the list
+     */
+    public Stream<Type> stream()
+    {
+        return snapshot().stream();
+    }
+
+    /**
+     * Builds a String that represents the list.
+     *
+     * @return String representing the list
+     */
+    @Override
+    public String toString()
+    {
+        return snapshot().toString();
+    }
+
+    /**
+     * Walks an iterator over the wrapped list to the specified index, starting from whichever end is nearer.
+     * Iterating never touches the list's cursor, so this is safe to do while other readers are doing it too.
+     * Must be called with the lock held.
+     *
+     * @param index the index of the data to get
+     * @return the data stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    private Type walkTo(int index) throws IndexOutOfBoundsException
+    {
+        Iterator<Type> iter;
+        int            size, steps;
+
+        size = this.list.size();
+
+        if (index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException("cannot get data from list. index is out of list bounds");
+        }
+
+        if (index < size - index)
+        {
+            iter  = this.list.iterator();
+            steps = index;
+        }
+        else
+        {
+            iter  = this.list.descendingIterator();    // the last element is index size - 1
+            steps = size - 1 - index;
+        }
+
+        for (int step = 0; step < steps; step++)
+        {
+            iter.next();
+        }
+
+        return iter.next();
+    }
+}
@@ -0,0 +1,566 @@
+package Main;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Unrolled Circular Doubly Linked List.
+ * Works the same as CircularDoublyLinkedList, but each node in the ring holds a small array of elements instead of
+ *      just one, so there are far fewer node objects and links to follow.
+ * Going through the list mostly means reading along an array, which is much friendlier to the CPU cache, while
+ *      adding or removing in the middle only has to shift the elements inside a single block.
+ *
+ * @param <Type> the type of object stored in the list
+ * @author Julia Reynolds
+ */
+public class UnrolledCircularDoublyLinkedList<Type> implements Iterable<Type>
+{
+    private static final int BLOCK_CAPACITY = 32;                  // how many elements fit in one block
+    private static final int MERGE_LIMIT    = BLOCK_CAPACITY / 4;  // blocks smaller than this try to merge
+
+    private Block head;           // the start of the list
+    private int   size;           // the length/size of the list
+    private int   modCount;       // counts structural changes so iterators can tell when the list changed under them
+    private int   lastBlockStart; // the index of the first element in the block last returned by blockAt
+
+    /**
+     * private static nested block class for the unrolled linked list.
+     * It is static so that blocks don't carry a hidden reference to the list that owns them.
+     */
+    private static class Block
+    {
+        private Block    prev;  // link to previous block in list
+        private Object[] items; // data stored in block, only the first count slots are used
+        private int      count; // how many slots of items are in use
+        private Block    next;  // link to next block in list
+
+        /**
+         * Constructor for Block that makes an empty block with room for the specified number of elements.
+         *
+         * @param capacity the number of elements the block can hold
+         */
+        private Block(int capacity)
+        {
+            this.prev  = null;
+            this.items = new Object[capacity];
+            this.count = 0;
+            this.next  = null;
+        }
+    }
+
+    /**
+     * Constructor for unrolled doubly linked list
+     */
+    public UnrolledCircularDoublyLinkedList()
+    {
+        this.head = new Block(0);           // dummy head block stores no data
+        this.size = 0;                      // list is empty so size is 0
+
+        this.head.next = this.head;         // circularly link to self
+        this.head.prev = this.head;         // circularly link to self
+    }
+
+    /**
+     * Constructor that adds data as the linked list is constructed.
+     *
+     * @param data the data to store in the list
+     */
+    @SafeVarargs
+    public UnrolledCircularDoublyLinkedList(Type... data)
+    {
+        this();                             // call other constructor to set up empty list
+
+        for (Type item : data)              // adding at the end only ever touches the last block
+        {
+            addLast(item);
+        }
+    }
+
+    /**
+     * Adds data to the beginning of the list.
+     *
+     * @param data the data to store in the list
+     */
+    public void addFirst(Type data)
+    {
+        addAtIndex(data, 0);
+    }
+
+    /**
+     * Adds data to the end of the list.
+     *
+     * @param data the data to add to the list
+     */
+    public void addLast(Type data)
+    {
+        addAtIndex(data, this.size);
+    }
+
+    /**
+     * Adds data at the specified index within the list
+     *
+     * @param data the data to add to the list
+     * @param index the location in the list to add the data
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    public void addAtIndex(Type data, int index) throws IndexOutOfBoundsException
+    {
+        Block block;
+        int   offset;
+
+        // we are considering this.size in bounds in case we want to add on to the end of the list.
+        if (index < 0 || index > this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot addAtIndex data to list. index is out of bounds");
+        }
+
+        if (index == this.size)             // adding to the end goes into the last block, if there is room
+        {
+            block  = this.head.prev;
+            offset = block.count;
+
+            if (block == this.head || block.count == BLOCK_CAPACITY)
+            {
+                block  = linkBlockAfter(block);
+                offset = 0;
+            }
+        }
+        else
+        {
+            block  = blockAt(index);
+            offset = offsetIn(block, index);
+
+            if (block.count == BLOCK_CAPACITY)        // no room, so move the top half into a new block
+            {
+                splitBlock(block);
+
+                if (offset > block.count)
+                {
+                    offset -= block.count;
+                    block   = block.next;
+                }
+            }
+        }
+
+        // shift everything at and after offset up one slot to make room for the new data
+        System.arraycopy(block.items, offset, block.items, offset + 1, block.count - offset);
+        block.items[offset] = data;
+        block.count++;
+
+        this.size++;                                  // increment size by 1 to ensure size is accurate
+        this.modCount++;
+    }
+
+    /**
+     * Searches through the list for specified data, removing the first instance of it found.
+     *
+     * @param data the data to be removed from the list
+     * @return boolean indicating if the removal was successful
+     */
+    public boolean removeData(Type data)
+    {
+        Block block;
+        int   offset;
+
+        // move through the list until we either loop back around to the head or find the data we are looking for
+        for (block = this.head.next; block != this.head; block = block.next)
+        {
+            for (offset = 0; offset < block.count; offset++)
+            {
+                if (Objects.equals(block.items[offset], data))   // match found, now we remove it
+                {
+                    removeAt(block, offset);
+
+                    return true;
+                }
+            }
+        }
+
+        // at this point we have traversed through the entire list and not found the data we were looking to remove.
+        return false;
+    }
+
+    /**
+     * Removes data from the list at the specified index.
+     *
+     * @param index the index of the data to be removed
+     * @return the data removed from the list
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    @SuppressWarnings("unchecked")
+    public Type removeIndex(int index) throws IndexOutOfBoundsException
+    {
+        Block block;
+        int   offset;
+        Type  data;
+
+        if (index < 0 || index >= this.size)          // this.size is out of bounds since we start at index 0
+        {
+            throw new IndexOutOfBoundsException("cannot remove data from list. index is out of list bounds");
+        }
+
+        block  = blockAt(index);
+        offset = offsetIn(block, index);
+        data   = (Type) block.items[offset];
+
+        removeAt(block, offset);
+
+        return data;
+    }
+
+    /**
+     * Gets the data stored at the specified index.
+     *
+     * @param index the index of the data to get
+     * @return the data stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    @SuppressWarnings("unchecked")
+    public Type get(int index) throws IndexOutOfBoundsException
+    {
+        Block block;
+
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot get data from list. index is out of list bounds");
+        }
+
+        block = blockAt(index);
+
+        return (Type) block.items[offsetIn(block, index)];
+    }
+
+    /**
+     * Replaces the data stored at the specified index.
+     *
+     * @param index the index of the data to replace
+     * @param data the new data to store at the index
+     * @return the data that was previously stored at the index
+     * @throws IndexOutOfBoundsException throws exception if index is outside of list bounds
+     */
+    @SuppressWarnings("unchecked")
+    public Type set(int index, Type data) throws IndexOutOfBoundsException
+    {
+        Block block;
+        int   offset;
+        Type  old;
+
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("cannot set data in list. index is out of list bounds");
+        }
+
+        block               = blockAt(index);
+        offset              = offsetIn(block, index);
+        old                 = (Type) block.items[offset];
+        block.items[offset] = data;
+
+        return old;
+    }
+
+    /**
+     * Gets the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Gets an iterator that goes through the list from the first element to the last.
+     *
+     * @return an iterator over the list
+     */
+    @Override
+    public Iterator<Type> iterator()
+    {
+        return new BlockItr();
+    }
+
+    /**
+     * Gets a spliterator over the list.
+     *
+     * @return a spliterator over the list
+     */
+    @Override
+    public Spliterator<Type> spliterator()
+    {
+        return Spliterators.spliterator(iterator(), this.size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Gets a sequential stream of the elements in the list.
+     *
+     * @return a stream over the list
+     */
+    public Stream<Type> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Builds a String that represents the list.
+     *
+     * @return String representing the list
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder builder;
+        Block         block;
+        int           offset;
+
+        builder = new StringBuilder("[");
+
+        for (block = this.head.next; block != this.head; block = block.next)
+        {
+            for (offset = 0; offset < block.count; offset++)
+            {
+                if (builder.length() > 1)             // every element but the first gets a comma before it
+                {
+                    builder.append(", ");
+                }
+
+                builder.append(block.items[offset]);
+            }
+        }
+
+        builder.append("]");
+
+        return builder.toString();
+    }
+
+    /**
+     * Finds the block holding the specified index by walking whole blocks from whichever end is closer.
+     *
+     * @param index the index to find, from 0 to (this.size - 1)
+     * @return the block that holds the index
+     */
+    private Block blockAt(int index)
+    {
+        Block block;
+        int   start;                                  // the index of the first element in block
+
+        if (index < (this.size - index))              // go forwards if index is in the left half of the list
+        {
+            block = this.head.next;
+            start = 0;
+
+            while (start + block.count <= index)
+            {
+                start += block.count;
+                block  = block.next;
+            }
+        }
+        else                                          // go backwards because there is less distance to travel
+        {
+            block = this.head.prev;
+            start = this.size - block.count;
+
+            while (start > index)
+            {
+                block  = block.prev;
+                start -= block.count;
+            }
+        }
+
+        this.lastBlockStart = start;                  // remember where block starts so offsetIn doesn't re-walk
+
+        return block;
+    }
+
+    /**
+     * Gets the offset of the specified index inside the block that blockAt just returned.
+     *
+     * @param block the block returned by the last call to blockAt
+     * @param index the index that was passed to blockAt
+     * @return the slot in block that holds the index
+     */
+    private int offsetIn(Block block, int index)
+    {
+        return index - this.lastBlockStart;
+    }
+
+    /**
+     * Removes the element in the specified slot, unlinking or merging the block if it gets too empty.
+     *
+     * @param block the block holding the element
+     * @param offset the slot in the block holding the element
+     */
+    private void removeAt(Block block, int offset)
+    {
+        Block next;
+
+        // shift everything after offset down one slot to close the gap
+        System.arraycopy(block.items, offset + 1, block.items, offset, block.count - offset - 1);
+        block.count--;
+        block.items[block.count] = null;              // don't hold on to data that is no longer in the list
+
+        if (block.count == 0)                         // an empty block is just cut out of the ring
+        {
+            block.prev.next = block.next;
+            block.next.prev = block.prev;
+        }
+        else if (block.count < MERGE_LIMIT)           // a nearly empty block pulls in the next block if it fits
+        {
+            next = block.next;
+
+            if (next != this.head && block.count + next.count <= BLOCK_CAPACITY - MERGE_LIMIT)
+            {
+                System.arraycopy(next.items, 0, block.items, block.count, next.count);
+                block.count += next.count;
+
+                block.next      = next.next;
+                next.next.prev  = block;
+            }
+        }
+
+        this.size--;                                  // decrement size by 1 to ensure list size is kept accurate
+        this.modCount++;
+    }
+
+    /**
+     * Creates a new empty block and links it into the ring right after the specified block.
+     *
+     * @param block the block that will come right before the new block
+     * @return the newly linked block
+     */
+    private Block linkBlockAfter(Block block)
+    {
+        Block newBlock;
+
+        newBlock      = new Block(BLOCK_CAPACITY);
+        newBlock.prev = block;
+        newBlock.next = block.next;
+
+        block.next.prev = newBlock;
+        block.next      = newBlock;
+
+        return newBlock;
+    }
+
+    /**
+     * Moves the top half of a full block into a new block linked right after it.
+     *
+     * @param block the full block to split
+     */
+    private void splitBlock(Block block)
+    {
+        Block newBlock;
+        int   half;
+
+        half     = block.count / 2;
+        newBlock = linkBlockAfter(block);
+
+        System.arraycopy(block.items, half, newBlock.items, 0, block.count - half);
+        Arrays.fill(block.items, half, block.count, null);
+
+        newBlock.count = block.count - half;
+        block.count    = half;
+    }
+
+    /**
+     * private inner iterator class that reads along each block's array before hopping to the next block.
+     */
+    private class BlockItr implements Iterator<Type>
+    {
+        private Block block;            // the block holding the element next() will return
+        private int   offset;           // the slot in block of the element next() will return
+        private int   nextIndex;        // the index of the element next() will return
+        private int   expectedModCount; // the modCount the list should have if nobody else changed it
+        private boolean canRemove;      // whether next() has been called since the last remove()
+
+        /**
+         * Constructor for the iterator that starts at the beginning of the list.
+         */
+        private BlockItr()
+        {
+            this.block            = UnrolledCircularDoublyLinkedList.this.head.next;
+            this.offset           = 0;
+            this.nextIndex        = 0;
+            this.expectedModCount = UnrolledCircularDoublyLinkedList.this.modCount;
+            this.canRemove        = false;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextIndex < UnrolledCircularDoublyLinkedList.this.size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Type next()
+        {
+            Type data;
+
+            checkForModification();
+
+            if (!hasNext())
+            {
+                throw new NoSuchElementException("cannot get next element. iterator is at the end of the list");
+            }
+
+            while (this.offset >= this.block.count)  // this block is used up, so hop to the next one
+            {
+                this.block  = this.block.next;
+                this.offset = 0;
+            }
+
+            data = (Type) this.block.items[this.offset];
+
+            this.offset++;
+            this.nextIndex++;
+            this.canRemove = true;
+
+            return data;
+        }
+
+        @Override
+        public void remove()
+        {
+            checkForModification();
+
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException("cannot remove element. next has not been called");
+            }
+
+            this.offset--;
+            this.nextIndex--;
+            removeAt(this.block, this.offset);
+
+            // removing can cut out or merge blocks, so find our place again from the index
+            if (this.nextIndex < UnrolledCircularDoublyLinkedList.this.size)
+            {
+                this.block  = blockAt(this.nextIndex);
+                this.offset = offsetIn(this.block, this.nextIndex);
+            }
+
+            this.canRemove        = false;
+            this.expectedModCount = UnrolledCircularDoublyLinkedList.this.modCount;
+        }
+
+        /**
+         * Makes sure nobody else has changed the list since this iterator last did.
+         *
+         * @throws ConcurrentModificationException throws exception if the list was changed by someone else
+         */
+        private void checkForModification() throws ConcurrentModificationException
+        {
+            if (UnrolledCircularDoublyLinkedList.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException("list was changed outside of this iterator");
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package Test;
+
+import Main.BinaryListFormat;
+import Main.CircularDoublyLinkedList;
+import Main.ElementCodecs;
+import Main.MappedListView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Binary List Format
+ * @author Julia Reynolds
+ */
+public class BinaryListFormatTest
+{
+    @TempDir
+    Path folder;
+
+    @Nested
+    @DisplayName("write and read Tests")
+    class writeReadTests
+    {
+        @Test
+        @DisplayName("Reads back the same numbers that were written")
+        public void roundTripsNumbers() throws IOException
+        {
+            CircularDoublyLinkedList<Long> testlist, loaded;
+            Path                           file;
+
+            testlist = new CircularDoublyLinkedList<>();
+            file     = folder.resolve("longs.bin");
+
+            for (long value = 0; value < 20000; value++)
+            {
+                testlist.addLast(value * 31);
+            }
+
+            BinaryListFormat.write(testlist, ElementCodecs.LONG, file);
+            loaded = BinaryListFormat.read(file, ElementCodecs.LONG);
+
+            assertEquals(BinaryListFormat.HEADER_SIZE + 20000L * Long.BYTES, Files.size(file));
+            assertEquals(testlist.stream().toList(), loaded.stream().toList());
+        }
+
+        @Test
+        @DisplayName("Reads back strings, including null, non-ASCII, and ones bigger than the buffer")
+        public void roundTripsStrings() throws IOException
+        {
+            CircularDoublyLinkedList<String> testlist, loaded;
+            Path                             file;
+
+            testlist = new CircularDoublyLinkedList<>("A", null, "", "h\u00e9llo \ud83d\ude00", "x".repeat(200000));
+            file     = folder.resolve("strings.bin");
+
+            for (int idx = 0; idx < 10000; idx++)
+            {
+                testlist.addLast("item " + idx);
+            }
+
+            BinaryListFormat.write(testlist, ElementCodecs.STRING, file);
+            loaded = BinaryListFormat.read(file, ElementCodecs.STRING);
+
+            assertEquals(testlist.size(), loaded.size());
+            assertEquals(testlist.stream().toList(), loaded.stream().toList());
+        }
+
+        @Test
+        @DisplayName("Writes a reversed list in the order it is seen")
+        public void writesReversedOrder() throws IOException
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            Path                              file;
+
+            testlist = new CircularDoublyLinkedList<>(1, 2, 3);
+            file     = folder.resolve("reversed.bin");
+
+            testlist.reverse();
+            BinaryListFormat.write(testlist, ElementCodecs.INTEGER, file);
+
+            assertEquals(List.of(3, 2, 1), BinaryListFormat.read(file, ElementCodecs.INTEGER).stream().toList());
+        }
+
+        @Test
+        @DisplayName("Throws exception when read with a different codec or from a file that isn't a list")
+        public void rejectsWrongFiles() throws IOException
+        {
+            Path file, junk;
+
+            file = folder.resolve("ints.bin");
+            junk = folder.resolve("junk.bin");
+
+            BinaryListFormat.write(new CircularDoublyLinkedList<>(1, 2), ElementCodecs.INTEGER, file);
+            Files.write(junk, new byte[] {1, 2, 3});
+
+            assertThrows(IOException.class, () -> BinaryListFormat.read(file, ElementCodecs.LONG));
+            assertThrows(IOException.class, () -> BinaryListFormat.read(junk, ElementCodecs.INTEGER));
+        }
+    }
+
+    @Nested
+    @DisplayName("memory-mapped view Tests")
+    class mappedTests
+    {
+        @Test
+        @DisplayName("Reads elements straight out of the mapped file")
+        public void readsMappedFile() throws IOException
+        {
+            CircularDoublyLinkedList<Double> testlist;
+            MappedListView<Double>           view;
+            Path                             file;
+
+            testlist = new CircularDoublyLinkedList<>();
+            file     = folder.resolve("doubles.bin");
+
+            for (int idx = 0; idx < 5000; idx++)
+            {
+                testlist.addLast(idx / 4.0);
+            }
+
+            BinaryListFormat.write(testlist, ElementCodecs.DOUBLE, file);
+            view = BinaryListFormat.map(file, ElementCodecs.DOUBLE);
+
+            assertEquals(5000, view.size());
+            assertEquals(1249.75, view.get(4999));
+            assertEquals(testlist.stream().toList(), view);
+            assertEquals(testlist.stream().toList(), view.load().stream().toList());
+            assertThrows(IndexOutOfBoundsException.class, () -> view.get(5000));
+            assertThrows(UnsupportedOperationException.class, () -> view.add(1.0));
+        }
+
+        @Test
+        @DisplayName("Throws exception when mapping with a codec that isn't fixed width")
+        public void rejectsVariableWidth() throws IOException
+        {
+            Path file;
+
+            file = folder.resolve("strings.bin");
+            BinaryListFormat.write(new CircularDoublyLinkedList<>("A"), ElementCodecs.STRING, file);
+
+            assertThrows(IllegalArgumentException.class, () -> BinaryListFormat.map(file, ElementCodecs.STRING));
+        }
+    }
+}
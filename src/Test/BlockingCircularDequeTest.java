@@ -0,0 +1,258 @@
+package Test;
+
+import Main.BlockingCircularDeque;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Blocking Circular Deque
+ * @author Julia Reynolds
+ */
+public class BlockingCircularDequeTest
+{
+    @Nested
+    @DisplayName("bounded deque Tests")
+    class boundedTests
+    {
+        @Test
+        @DisplayName("Offers fail and adds throw exception when the deque is full")
+        public void rejectsWhenFull()
+        {
+            BlockingCircularDeque<String> testdeque;
+
+            testdeque = new BlockingCircularDeque<>(2);
+
+            assertTrue(testdeque.offerLast("A"));
+            assertTrue(testdeque.offerFirst("B"));
+            assertFalse(testdeque.offer("C"));
+            assertThrows(IllegalStateException.class, () -> testdeque.addLast("C"));
+            assertEquals(0, testdeque.remainingCapacity());
+            assertEquals("[B, A]", testdeque.toString());
+        }
+
+        @Test
+        @DisplayName("Timed offers and polls give up when the timeout runs out")
+        public void timesOut() throws InterruptedException
+        {
+            BlockingCircularDeque<String> testdeque;
+
+            testdeque = new BlockingCircularDeque<>(1);
+
+            assertNull(testdeque.pollFirst(10, TimeUnit.MILLISECONDS));
+            testdeque.put("A");
+            assertFalse(testdeque.offerLast("B", 10, TimeUnit.MILLISECONDS));
+            assertEquals("A", testdeque.pollLast(10, TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        @DisplayName("Does not accept null")
+        public void rejectsNull()
+        {
+            BlockingCircularDeque<String> testdeque;
+
+            testdeque = new BlockingCircularDeque<>();
+
+            assertThrows(NullPointerException.class, () -> testdeque.offerFirst(null));
+            assertThrows(NullPointerException.class, () -> testdeque.put(null));
+            assertFalse(testdeque.contains(null));
+        }
+
+        @Test
+        @DisplayName("Drains up to the limit in one batch")
+        public void drainsInBatches()
+        {
+            BlockingCircularDeque<Integer> testdeque;
+            List<Integer>                  sink;
+
+            testdeque = new BlockingCircularDeque<>(10);
+            sink      = new ArrayList<>();
+
+            for (int idx = 0; idx < 5; idx++)
+            {
+                testdeque.add(idx);
+            }
+
+            assertEquals(3, testdeque.drainTo(sink, 3));
+            assertEquals(List.of(0, 1, 2), sink);
+            assertEquals(2, testdeque.drainTo(sink));
+            assertEquals(List.of(0, 1, 2, 3, 4), sink);
+            assertTrue(testdeque.isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> testdeque.drainTo(testdeque));
+        }
+    }
+
+    @Nested
+    @DisplayName("producer and consumer Tests")
+    class producerConsumerTests
+    {
+        @Test
+        @DisplayName("Takers wait for an element to be put")
+        public void takeWaitsForPut() throws InterruptedException
+        {
+            BlockingCircularDeque<String> testdeque;
+            Thread                        producer;
+
+            testdeque = new BlockingCircularDeque<>();
+            producer  = new Thread(() ->
+            {
+                try
+                {
+                    Thread.sleep(20);
+                    testdeque.putLast("A");
+                }
+                catch (InterruptedException exception)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            producer.start();
+
+            assertEquals("A", testdeque.takeFirst());
+            producer.join();
+        }
+
+        @Test
+        @DisplayName("Every element put by producers is taken exactly once through a small buffer")
+        public void producersAndConsumers() throws InterruptedException
+        {
+            BlockingCircularDeque<Integer> testdeque;
+            AtomicLong                     sum;
+            Thread[]                       threads;
+            int                            idx;
+
+            testdeque = new BlockingCircularDeque<>(4);
+            sum       = new AtomicLong();
+            threads   = new Thread[4];
+
+            for (idx = 0; idx < 2; idx++)
+            {
+                threads[idx] = new Thread(() ->
+                {
+                    try
+                    {
+                        for (int value = 1; value <= 5000; value++)
+                        {
+                            testdeque.put(value);
+                        }
+                    }
+                    catch (InterruptedException exception)
+                    {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            for (idx = 2; idx < 4; idx++)
+            {
+                threads[idx] = new Thread(() ->
+                {
+                    try
+                    {
+                        for (int count = 0; count < 5000; count++)
+                        {
+                            sum.addAndGet(testdeque.take());
+                        }
+                    }
+                    catch (InterruptedException exception)
+                    {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            for (Thread thread : threads)
+            {
+                thread.start();
+            }
+
+            for (Thread thread : threads)
+            {
+                thread.join();
+            }
+
+            assertEquals(2L * 5000 * 5001 / 2, sum.get());
+            assertTrue(testdeque.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("iterator Tests")
+    class iteratorTests
+    {
+        @Test
+        @DisplayName("Removing through the iterator removes that exact element")
+        public void removesExactElement()
+        {
+            BlockingCircularDeque<String> testdeque;
+            Iterator<String>              iter;
+
+            testdeque = new BlockingCircularDeque<>();
+            testdeque.addAll(List.of("A", "B", "A"));
+
+            iter = testdeque.iterator();
+            iter.next();
+            iter.next();
+            assertEquals("A", iter.next());
+            iter.remove();
+
+            assertEquals("[A, B]", testdeque.toString());
+            assertThrows(IllegalStateException.class, iter::remove);
+
+            testdeque.addFirst("B");
+            iter = testdeque.descendingIterator();
+            iter.next();
+            assertEquals("A", iter.next());
+            assertEquals("B", iter.next());
+            iter.remove();
+
+            assertEquals("[A, B]", testdeque.toString());
+        }
+
+        @Test
+        @DisplayName("Carries on past elements removed while it is running")
+        public void weaklyConsistent()
+        {
+            BlockingCircularDeque<Integer> testdeque;
+            Iterator<Integer>              iter;
+            List<Integer>                  seen;
+
+            testdeque = new BlockingCircularDeque<>();
+            seen      = new ArrayList<>();
+            testdeque.addAll(List.of(1, 2, 3, 4, 5));
+
+            iter = testdeque.iterator();
+            seen.add(iter.next());
+
+            testdeque.removeFirstOccurrence(2);            // the element the iterator will return next
+            testdeque.removeFirstOccurrence(3);
+            testdeque.addLast(6);
+
+            while (iter.hasNext())
+            {
+                seen.add(iter.next());
+            }
+
+            assertEquals(List.of(1, 2, 4, 5, 6), seen);
+
+            iter = testdeque.descendingIterator();
+            assertEquals(6, iter.next());
+
+            testdeque.removeFirstOccurrence(5);
+            testdeque.removeFirstOccurrence(4);
+
+            assertEquals(5, iter.next());
+            assertEquals(1, iter.next());
+            assertFalse(iter.hasNext());
+        }
+    }
+}
@@ -5,6 +5,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -208,6 +220,24 @@ public class CircularDoublyLinkedListTest
 
             assertEquals("[0, 1, 2, 3, 4, 5]", testlist.toString());
         }
+
+        @Test
+        @DisplayName("can add at every index of the list")
+        public void addAtEveryIndex()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            int                               idx;
+
+            for (idx = 0; idx <= 6; idx++)
+            {
+                testlist = new CircularDoublyLinkedList<>(0, 1, 2, 3, 4, 5);
+
+                testlist.addAtIndex(9, idx);
+
+                assertEquals(9, testlist.removeIndex(idx));
+                assertEquals("[0, 1, 2, 3, 4, 5]", testlist.toString());
+            }
+        }
     }
 
     @Nested
@@ -339,6 +369,18 @@ public class CircularDoublyLinkedListTest
             assertEquals("[0, 1, 3, 4]", testlist.toString());
         }
 
+        @Test
+        @DisplayName("Removes element in right half of the list")
+        public void removeRight()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+
+            testlist = new CircularDoublyLinkedList<>(0, 1, 2, 3, 4, 5);
+
+            assertEquals(4, testlist.removeIndex(4));
+            assertEquals("[0, 1, 2, 3, 5]", testlist.toString());
+        }
+
         @Test
         @DisplayName("throws exception when index is out of bounds")
         public void outOfBounds()
@@ -350,4 +392,1196 @@ public class CircularDoublyLinkedListTest
             assertThrows(IndexOutOfBoundsException.class, () -> testlist.removeIndex(4));
         }
     }
+
+    @Nested
+    @DisplayName("get and set Tests")
+    class getSetTests
+    {
+        @Test
+        @DisplayName("Gets every element in order")
+        public void getsInOrder()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            int                               idx;
+
+            testlist = new CircularDoublyLinkedList<>(0, 1, 2, 3, 4, 5, 6, 7);
+
+            for (idx = 0; idx < testlist.size(); idx++)
+            {
+                assertEquals(idx, testlist.get(idx));
+            }
+
+            for (idx = testlist.size() - 1; idx >= 0; idx--)
+            {
+                assertEquals(idx, testlist.get(idx));
+            }
+        }
+
+        @Test
+        @DisplayName("Gets the right element after the list changes")
+        public void getsAfterChange()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B", "C", "D");
+
+            assertEquals("C", testlist.get(2));
+            testlist.removeData("A");
+            assertEquals("D", testlist.get(2));
+            testlist.addAtIndex("Z", 1);
+            assertEquals("C", testlist.get(2));
+            testlist.removeIndex(0);
+            assertEquals("D", testlist.get(2));
+        }
+
+        @Test
+        @DisplayName("Sets element and returns the old one")
+        public void setsElement()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B", "C", "D");
+
+            assertEquals("C", testlist.set(2, "Z"));
+            assertEquals("[A, B, Z, D]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("throws exception when index is out of bounds")
+        public void outOfBounds()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B", "C", "D");
+
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.get(4));
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.set(-1, "Z"));
+        }
+
+        @Test
+        @DisplayName("Size is kept accurate when removing data")
+        public void sizeAfterRemoveData()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B", "C", "D");
+
+            testlist.removeData("B");
+
+            assertEquals(3, testlist.size());
+            assertEquals("D", testlist.get(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("iterator Tests")
+    class iteratorTests
+    {
+        @Test
+        @DisplayName("Iterates through every element in order")
+        public void iteratesInOrder()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            StringBuilder                    builder;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B", "C", "D");
+            builder  = new StringBuilder();
+
+            for (String data : testlist)
+            {
+                builder.append(data);
+            }
+
+            assertEquals("ABCD", builder.toString());
+        }
+
+        @Test
+        @DisplayName("Iterates backwards from the end of the list")
+        public void iteratesBackwards()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            ListIterator<String>             iter;
+            StringBuilder                    builder;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B", "C", "D");
+            iter     = testlist.listIterator(testlist.size());
+            builder  = new StringBuilder();
+
+            while (iter.hasPrevious())
+            {
+                builder.append(iter.previous());
+            }
+
+            assertEquals("DCBA", builder.toString());
+        }
+
+        @Test
+        @DisplayName("Removes, sets, and adds at the iterator")
+        public void modifiesAtIterator()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            ListIterator<String>             iter;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B", "C", "D");
+            iter     = testlist.listIterator();
+
+            iter.next();
+            iter.remove();
+            iter.next();
+            iter.set("Z");
+            iter.add("Y");
+            iter.next();
+            iter.previous();
+            iter.remove();
+
+            assertEquals("[Z, Y, D]", testlist.toString());
+            assertEquals(3, testlist.size());
+        }
+
+        @Test
+        @DisplayName("Throws exception when the list is changed during iteration")
+        public void failsFast()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            Iterator<String>                 iter;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B", "C", "D");
+            iter     = testlist.iterator();
+
+            iter.next();
+            testlist.addLast("E");
+
+            assertThrows(ConcurrentModificationException.class, iter::next);
+        }
+
+        @Test
+        @DisplayName("Streams elements in order")
+        public void streamsInOrder()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+
+            testlist = new CircularDoublyLinkedList<>(1, 2, 3, 4);
+
+            assertEquals(20, testlist.stream().mapToInt(data -> data * 2).sum());
+            assertEquals(List.of(2, 4), testlist.stream().filter(data -> data % 2 == 0).toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("parallel stream Tests")
+    class parallelStreamTests
+    {
+        @Test
+        @DisplayName("Reduces a large list the same as a sequential stream")
+        public void reducesLargeList()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            int                               idx;
+
+            testlist = new CircularDoublyLinkedList<>();
+
+            for (idx = 0; idx < 100000; idx++)
+            {
+                testlist.addLast(idx);
+            }
+
+            assertEquals(testlist.stream().mapToLong(data -> data).sum(),
+                         testlist.parallelStream().mapToLong(data -> data).sum());
+            assertEquals(50000, testlist.parallelStream().filter(data -> data % 2 == 0).count());
+        }
+
+        @Test
+        @DisplayName("Keeps the list order")
+        public void keepsOrder()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            List<Integer>                     result;
+            int                               idx;
+
+            testlist = new CircularDoublyLinkedList<>();
+
+            for (idx = 0; idx < 5000; idx++)
+            {
+                testlist.addLast(idx);
+            }
+
+            result = testlist.parallelStream().map(data -> data + 1).toList();
+
+            for (idx = 0; idx < 5000; idx++)
+            {
+                assertEquals(idx + 1, result.get(idx));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("handle Tests")
+    class handleTests
+    {
+        @Test
+        @DisplayName("Handles point to the data they were added with")
+        public void handlesHoldData()
+        {
+            CircularDoublyLinkedList<String>        testlist;
+            CircularDoublyLinkedList.Handle<String> first, last;
+
+            testlist = new CircularDoublyLinkedList<>("B");
+            first    = testlist.addFirstHandle("A");
+            last     = testlist.addLastHandle("C");
+
+            assertEquals("A", first.get());
+            assertEquals("C", last.get());
+            assertSame(first, testlist.firstHandle());
+            assertSame(last, testlist.lastHandle());
+            assertEquals("[A, B, C]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Moves elements to the front and back")
+        public void movesElements()
+        {
+            CircularDoublyLinkedList<String>        testlist;
+            CircularDoublyLinkedList.Handle<String> handle;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B");
+            handle   = testlist.addLastHandle("C");
+
+            testlist.addLast("D");
+            testlist.moveToFront(handle);
+            assertEquals("[C, A, B, D]", testlist.toString());
+
+            testlist.moveToBack(handle);
+            assertEquals("[A, B, D, C]", testlist.toString());
+            assertEquals("C", testlist.get(3));
+        }
+
+        @Test
+        @DisplayName("Inserts after and removes at a handle")
+        public void insertsAndRemoves()
+        {
+            CircularDoublyLinkedList<String>        testlist;
+            CircularDoublyLinkedList.Handle<String> handle;
+
+            testlist = new CircularDoublyLinkedList<>("A", "D");
+            handle   = testlist.insertAfter(testlist.firstHandle(), "B");
+
+            testlist.insertAfter(handle, "C");
+            assertEquals("[A, B, C, D]", testlist.toString());
+
+            assertEquals("B", testlist.removeHandle(handle));
+            assertEquals("[A, C, D]", testlist.toString());
+            assertEquals(3, testlist.size());
+        }
+
+        @Test
+        @DisplayName("Throws exception when a handle is stale or from another list")
+        public void rejectsBadHandles()
+        {
+            CircularDoublyLinkedList<String>        testlist, otherlist;
+            CircularDoublyLinkedList.Handle<String> handle, otherHandle;
+
+            testlist    = new CircularDoublyLinkedList<>("A", "B");
+            otherlist   = new CircularDoublyLinkedList<>();
+            handle      = testlist.addLastHandle("C");
+            otherHandle = otherlist.addLastHandle("Z");
+
+            testlist.removeData("C");
+
+            assertThrows(IllegalArgumentException.class, () -> testlist.removeHandle(handle));
+            assertThrows(IllegalArgumentException.class, () -> testlist.moveToFront(otherHandle));
+            assertNull(new CircularDoublyLinkedList<String>().firstHandle());
+        }
+    }
+
+    @Nested
+    @DisplayName("search and value index Tests")
+    class valueIndexTests
+    {
+        @Test
+        @DisplayName("Finds data with and without the index")
+        public void findsData()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B", "C", "B");
+
+            assertTrue(testlist.contains("C"));
+            assertFalse(testlist.contains("Z"));
+            assertEquals(1, testlist.indexOf("B"));
+            assertEquals(-1, testlist.indexOf("Z"));
+
+            testlist.enableValueIndex();
+
+            assertTrue(testlist.contains("C"));
+            assertFalse(testlist.contains("Z"));
+            assertEquals(1, testlist.indexOf("B"));
+            assertEquals(-1, testlist.indexOf("Z"));
+        }
+
+        @Test
+        @DisplayName("Removes the first instance of duplicated data")
+        public void removesFirstDuplicate()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = new CircularDoublyLinkedList<>();
+            testlist.enableValueIndex();
+
+            testlist.addLast("A");
+            testlist.addLast("B");
+            testlist.addFirst("B");
+
+            assertTrue(testlist.removeData("B"));
+            assertEquals("[A, B]", testlist.toString());
+            assertTrue(testlist.removeData("B"));
+            assertFalse(testlist.removeData("B"));
+            assertFalse(testlist.contains("B"));
+        }
+
+        @Test
+        @DisplayName("Removes every instance of data")
+        public void removesAll()
+        {
+            CircularDoublyLinkedList<String> testlist, indexedlist;
+
+            testlist    = new CircularDoublyLinkedList<>("A", "B", "A", "C", "A");
+            indexedlist = new CircularDoublyLinkedList<>("A", "B", "A", "C", "A");
+            indexedlist.enableValueIndex();
+
+            assertEquals(3, testlist.removeAllData("A"));
+            assertEquals(3, indexedlist.removeAllData("A"));
+            assertEquals("[B, C]", testlist.toString());
+            assertEquals("[B, C]", indexedlist.toString());
+            assertEquals(2, indexedlist.size());
+        }
+
+        @Test
+        @DisplayName("Keeps the index up to date when data is replaced or removed by index")
+        public void keepsIndexUpToDate()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B", "C");
+            testlist.enableValueIndex();
+
+            testlist.set(1, "Z");
+            testlist.removeIndex(0);
+
+            assertFalse(testlist.contains("B"));
+            assertFalse(testlist.contains("A"));
+            assertTrue(testlist.removeData("Z"));
+            assertEquals("[C]", testlist.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("deque Tests")
+    class dequeTests
+    {
+        @Test
+        @DisplayName("Offers, polls, and peeks at both ends")
+        public void bothEnds()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = new CircularDoublyLinkedList<>("B", "C");
+
+            assertTrue(testlist.offerFirst("A"));
+            assertTrue(testlist.offerLast("D"));
+            assertEquals("A", testlist.peekFirst());
+            assertEquals("D", testlist.peekLast());
+            assertEquals("A", testlist.pollFirst());
+            assertEquals("D", testlist.pollLast());
+            assertEquals("[B, C]", testlist.toString());
+            assertEquals(2, testlist.size());
+        }
+
+        @Test
+        @DisplayName("Poll and peek give back null and remove throws exception when empty")
+        public void emptyDeque()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = new CircularDoublyLinkedList<>();
+
+            assertNull(testlist.pollFirst());
+            assertNull(testlist.pollLast());
+            assertNull(testlist.peekFirst());
+            assertNull(testlist.peekLast());
+            assertThrows(NoSuchElementException.class, testlist::removeFirst);
+            assertThrows(NoSuchElementException.class, testlist::getLast);
+            assertTrue(testlist.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Works as a stack and a queue")
+        public void stackAndQueue()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+
+            testlist = new CircularDoublyLinkedList<>();
+
+            testlist.push(1);
+            testlist.push(2);
+            testlist.offer(3);
+
+            assertEquals(2, testlist.pop());
+            assertEquals(1, testlist.poll());
+            assertEquals(3, testlist.element());
+        }
+
+        @Test
+        @DisplayName("Removes first and last occurrences")
+        public void removesOccurrences()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B", "A", "C", "A");
+
+            assertTrue(testlist.removeFirstOccurrence("A"));
+            assertTrue(testlist.removeLastOccurrence("A"));
+            assertFalse(testlist.removeLastOccurrence("Z"));
+            assertEquals("[B, A, C]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("remove(null) removes a null element")
+        public void removesNull()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = new CircularDoublyLinkedList<>("A", null, "B");
+
+            assertTrue(testlist.remove(null));
+            assertFalse(testlist.remove(null));
+            assertEquals("[A, B]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Iterates from the back with the descending iterator")
+        public void descendingIterator()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            Iterator<Integer>                 iter;
+            List<Integer>                     seen;
+
+            testlist = new CircularDoublyLinkedList<>(1, 2, 3, 4);
+            seen     = new ArrayList<>();
+
+            for (iter = testlist.descendingIterator(); iter.hasNext(); )
+            {
+                seen.add(iter.next());
+
+                if (seen.size() == 2)
+                {
+                    iter.remove();
+                }
+            }
+
+            assertEquals(List.of(4, 3, 2, 1), seen);
+            assertEquals("[1, 2, 4]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Clear empties the list and makes every handle stale")
+        public void clearMakesHandlesStale()
+        {
+            CircularDoublyLinkedList<String>        testlist;
+            CircularDoublyLinkedList.Handle<String> handle;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B");
+            handle   = testlist.addLastHandle("C");
+
+            testlist.clear();
+            testlist.add("D");
+
+            assertEquals("[D]", testlist.toString());
+            assertThrows(IllegalArgumentException.class, () -> testlist.removeHandle(handle));
+        }
+    }
+
+    @Nested
+    @DisplayName("bounded list Tests")
+    class boundedTests
+    {
+        @Test
+        @DisplayName("Keeps the last elements added and reports what it evicts")
+        public void keepsLastElements()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            List<Integer>                     evicted;
+
+            evicted  = new ArrayList<>();
+            testlist = CircularDoublyLinkedList.bounded(3, evicted::add);
+
+            for (int value = 1; value <= 7; value++)
+            {
+                testlist.addLast(value);
+            }
+
+            assertEquals("[5, 6, 7]", testlist.toString());
+            assertEquals(List.of(1, 2, 3, 4), evicted);
+            assertEquals(3, testlist.size());
+            assertEquals(5, testlist.get(0));
+            assertEquals(7, testlist.peekLast());
+        }
+
+        @Test
+        @DisplayName("Adding to the front overwrites the last element")
+        public void addFirstOverwritesLast()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = CircularDoublyLinkedList.bounded(2);
+
+            testlist.addLast("A");
+            testlist.addLast("B");
+            testlist.addFirst("C");
+
+            assertEquals("[C, A]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Adding in the middle evicts the first element")
+        public void addInMiddleEvictsFirst()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            List<String>                     evicted;
+
+            evicted  = new ArrayList<>();
+            testlist = CircularDoublyLinkedList.bounded(3, evicted::add);
+
+            testlist.addLast("A");
+            testlist.addLast("B");
+            testlist.addLast("C");
+            testlist.addAtIndex("X", 2);
+
+            assertEquals("[B, X, C]", testlist.toString());
+            assertEquals(List.of("A"), evicted);
+        }
+
+        @Test
+        @DisplayName("Adding a collection past capacity keeps its order")
+        public void addAllPastCapacity()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            List<Integer>                     evicted;
+
+            evicted  = new ArrayList<>();
+            testlist = CircularDoublyLinkedList.bounded(3, evicted::add);
+
+            testlist.addAll(List.of(1, 2, 3));
+            testlist.addAll(List.of(4, 5));
+
+            assertEquals("[3, 4, 5]", testlist.toString());
+            assertEquals(List.of(1, 2), evicted);
+
+            testlist.addAll(List.of(6, 7, 8, 9));
+
+            assertEquals("[7, 8, 9]", testlist.toString());
+            assertEquals(List.of(1, 2, 3, 4, 5, 6), evicted);
+            assertEquals(9, testlist.getLast());
+        }
+
+        @Test
+        @DisplayName("Adding a collection at the front of a full list evicts from the back")
+        public void addAllAtFrontPastCapacity()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            List<String>                     evicted;
+
+            evicted  = new ArrayList<>();
+            testlist = CircularDoublyLinkedList.bounded(3, evicted::add);
+
+            testlist.addAll(List.of("x", "y", "z"));
+            testlist.addAll(0, List.of("a", "b"));
+
+            assertEquals("[a, b, x]", testlist.toString());
+            assertEquals(List.of("z", "y"), evicted);
+
+            testlist.addAll(0, List.of("c", "d", "e", "f"));
+
+            assertEquals("[c, d, e]", testlist.toString());
+            assertEquals(List.of("z", "y", "x", "b", "a", "f"), evicted);
+        }
+
+        @Test
+        @DisplayName("Adding a collection in the middle of a full list keeps it together")
+        public void addAllInMiddlePastCapacity()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            List<String>                     evicted;
+
+            evicted  = new ArrayList<>();
+            testlist = CircularDoublyLinkedList.bounded(4, evicted::add);
+
+            testlist.addAll(List.of("w", "x", "y", "z"));
+            testlist.addAll(2, List.of("a"));
+
+            assertEquals("[x, a, y, z]", testlist.toString());
+            assertEquals(List.of("w"), evicted);
+
+            testlist.addAll(2, List.of("b", "c", "d"));    // evicts x and a, then y that the new elements went before
+
+            assertEquals("[b, c, d, z]", testlist.toString());
+            assertEquals(List.of("w", "x", "a", "y"), evicted);
+        }
+
+        @Test
+        @DisplayName("Adding through a list iterator evicts and keeps the iterator in place")
+        public void iteratorAddPastCapacity()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            ListIterator<String>             iter;
+            List<String>                     evicted;
+
+            evicted  = new ArrayList<>();
+            testlist = CircularDoublyLinkedList.bounded(3, evicted::add);
+
+            testlist.addAll(List.of("A", "B", "C"));
+
+            iter = testlist.listIterator(3);           // at the end, like addLast
+            iter.add("D");
+
+            assertEquals("[B, C, D]", testlist.toString());
+            assertEquals(3, iter.nextIndex());
+            assertFalse(iter.hasNext());
+            assertEquals("D", iter.previous());
+
+            iter = testlist.listIterator();            // at the front, like addFirst
+            iter.add("Z");
+
+            assertEquals("[Z, B, C]", testlist.toString());
+            assertEquals(1, iter.nextIndex());
+            assertEquals("B", iter.next());
+
+            iter = testlist.listIterator(2);           // in the middle, which evicts the first element
+            iter.add("Y");
+
+            assertEquals("[B, Y, C]", testlist.toString());
+            assertEquals(2, iter.nextIndex());
+            assertEquals("C", iter.next());
+            assertEquals("C", iter.previous());
+            assertEquals("Y", iter.previous());
+            assertEquals(List.of("A", "D", "Z"), evicted);
+        }
+
+        @Test
+        @DisplayName("Keeps the value index and handles in step with evictions")
+        public void indexAndHandles()
+        {
+            CircularDoublyLinkedList<String>        testlist;
+            CircularDoublyLinkedList.Handle<String> handle;
+
+            testlist = CircularDoublyLinkedList.bounded(2);
+            testlist.enableValueIndex();
+
+            handle = testlist.addLastHandle("A");
+            testlist.addLast("B");
+            testlist.addLast("C");
+
+            assertFalse(testlist.contains("A"));
+            assertTrue(testlist.contains("C"));
+            assertThrows(IllegalArgumentException.class, () -> testlist.removeHandle(handle));
+            assertTrue(testlist.removeData("B"));
+            assertEquals("[C]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Throws exception when capacity is less than 1")
+        public void rejectsBadCapacity()
+        {
+            assertThrows(IllegalArgumentException.class, () -> CircularDoublyLinkedList.bounded(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("bulk operation Tests")
+    class bulkTests
+    {
+        @Test
+        @DisplayName("Adds a whole collection at the end and at an index")
+        public void addsAll()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+
+            testlist = new CircularDoublyLinkedList<>(1, 5);
+
+            assertTrue(testlist.addAll(List.of(6, 7)));
+            assertTrue(testlist.addAll(1, List.of(2, 3, 4)));
+            assertFalse(testlist.addAll(List.of()));
+
+            assertEquals("[1, 2, 3, 4, 5, 6, 7]", testlist.toString());
+            assertEquals(7, testlist.size());
+            assertEquals(4, testlist.get(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.addAll(9, List.of(8)));
+        }
+
+        @Test
+        @DisplayName("Concat moves every element and its handles to the end of the list")
+        public void concatMovesHandles()
+        {
+            CircularDoublyLinkedList<String>        testlist, other;
+            CircularDoublyLinkedList.Handle<String> handle;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B");
+            other    = new CircularDoublyLinkedList<>("C");
+            handle   = other.addLastHandle("D");
+
+            testlist.concat(other);
+
+            assertEquals("[A, B, C, D]", testlist.toString());
+            assertEquals("[]", other.toString());
+            assertEquals(0, other.size());
+            assertThrows(IllegalArgumentException.class, () -> other.removeHandle(handle));
+
+            testlist.moveToFront(handle);
+            assertEquals("[D, A, B, C]", testlist.toString());
+
+            other.addLast("E");
+            assertEquals("[E]", other.toString());
+            assertThrows(IllegalArgumentException.class, () -> testlist.concat(testlist));
+        }
+
+        @Test
+        @DisplayName("Splices another list in after a handle")
+        public void splicesAfterHandle()
+        {
+            CircularDoublyLinkedList<String>        testlist, other;
+            CircularDoublyLinkedList.Handle<String> handle;
+
+            testlist = new CircularDoublyLinkedList<>("A");
+            handle   = testlist.addLastHandle("B");
+            testlist.addLast("E");
+            other    = new CircularDoublyLinkedList<>("C", "D");
+
+            testlist.spliceAfter(handle, other);
+
+            assertEquals("[A, B, C, D, E]", testlist.toString());
+            assertEquals("D", testlist.get(3));
+        }
+
+        @Test
+        @DisplayName("Cuts a range out into a new list")
+        public void cutsRange()
+        {
+            CircularDoublyLinkedList<Integer>        testlist, cut;
+            CircularDoublyLinkedList.Handle<Integer> handle;
+
+            testlist = new CircularDoublyLinkedList<>(1, 2);
+            handle   = testlist.addLastHandle(3);
+            testlist.addAll(List.of(4, 5, 6));
+
+            cut = testlist.subListCut(1, 4);
+
+            assertEquals("[1, 5, 6]", testlist.toString());
+            assertEquals("[2, 3, 4]", cut.toString());
+            assertEquals(3, cut.size());
+            assertEquals(3, cut.removeHandle(handle));
+            assertEquals("[]", testlist.subListCut(2, 2).toString());
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.subListCut(2, 1));
+        }
+
+        @Test
+        @DisplayName("Splits the list in two at an index")
+        public void splits()
+        {
+            CircularDoublyLinkedList<Integer> testlist, tail;
+
+            testlist = new CircularDoublyLinkedList<>(1, 2, 3, 4, 5);
+            tail     = testlist.split(3);
+
+            assertEquals("[1, 2, 3]", testlist.toString());
+            assertEquals("[4, 5]", tail.toString());
+            assertEquals(5, tail.peekLast());
+        }
+
+        @Test
+        @DisplayName("Removes every match in one pass and keeps the value index up to date")
+        public void removesIf()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+
+            testlist = new CircularDoublyLinkedList<>(1, 2, 3, 4, 5, 6);
+            testlist.enableValueIndex();
+
+            assertTrue(testlist.removeIf(value -> value % 2 == 0));
+            assertFalse(testlist.removeIf(value -> value > 10));
+
+            assertEquals("[1, 3, 5]", testlist.toString());
+            assertFalse(testlist.contains(4));
+            assertTrue(testlist.contains(5));
+        }
+
+        @Test
+        @DisplayName("A bounded list evicts from the front when a concat overfills it")
+        public void boundedConcat()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+
+            testlist = CircularDoublyLinkedList.bounded(3);
+            testlist.addAll(List.of(1, 2));
+            testlist.concat(new CircularDoublyLinkedList<>(3, 4, 5));
+
+            assertEquals("[3, 4, 5]", testlist.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("rotate and reverse Tests")
+    class rotateReverseTests
+    {
+        @Test
+        @DisplayName("Rotates the same way as Collections.rotate")
+        public void rotatesLikeCollections()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            List<Integer>                     expected;
+
+            for (int distance = -7; distance <= 7; distance++)
+            {
+                testlist = new CircularDoublyLinkedList<>(1, 2, 3, 4, 5);
+                expected = new ArrayList<>(List.of(1, 2, 3, 4, 5));
+
+                testlist.rotate(distance);
+                Collections.rotate(expected, distance);
+
+                assertEquals(expected.toString(), testlist.toString());
+                assertEquals(expected.get(3), testlist.get(3));
+            }
+        }
+
+        @Test
+        @DisplayName("Rotating by -1 is one round-robin step")
+        public void roundRobin()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B", "C");
+
+            testlist.rotate(-1);
+            assertEquals("[B, C, A]", testlist.toString());
+            testlist.rotate(-1);
+            assertEquals("B", testlist.peekLast());
+        }
+
+        @Test
+        @DisplayName("Reversing flips the order seen by every operation")
+        public void reverses()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            Iterator<String>                 iter;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B", "C", "D");
+
+            testlist.reverse();
+
+            assertEquals("[D, C, B, A]", testlist.toString());
+            assertEquals("D", testlist.peekFirst());
+            assertEquals("A", testlist.peekLast());
+            assertEquals("B", testlist.get(2));
+            assertEquals(List.of("D", "C", "B", "A"), testlist.stream().toList());
+
+            iter = testlist.descendingIterator();
+            assertEquals("A", iter.next());
+
+            testlist.addFirst("E");
+            testlist.addAtIndex("X", 2);
+            assertEquals("C", testlist.removeIndex(3));
+            assertEquals("[E, D, X, B, A]", testlist.toString());
+
+            testlist.reverse();
+            assertEquals("[A, B, X, D, E]", testlist.toString());
+            assertEquals("X", testlist.get(2));
+        }
+
+        @Test
+        @DisplayName("Handles, iterators, and rotate still work on a reversed list")
+        public void reversedHandles()
+        {
+            CircularDoublyLinkedList<Integer>        testlist;
+            CircularDoublyLinkedList.Handle<Integer> handle;
+            ListIterator<Integer>                    iter;
+
+            testlist = new CircularDoublyLinkedList<>(1, 2);
+            handle   = testlist.addLastHandle(3);
+            testlist.addLast(4);
+            testlist.reverse();
+
+            testlist.insertAfter(handle, 9);
+            assertEquals("[4, 3, 9, 2, 1]", testlist.toString());
+
+            testlist.moveToBack(handle);
+            assertEquals(3, testlist.removeHandle(handle));
+            assertThrows(IllegalArgumentException.class, () -> testlist.removeHandle(handle));
+
+            for (iter = testlist.listIterator(); iter.hasNext(); )
+            {
+                if (iter.next() == 9)
+                {
+                    iter.remove();
+                }
+            }
+
+            testlist.rotate(1);
+            assertEquals("[1, 4, 2]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Concat works between lists running in different directions")
+        public void concatAcrossDirections()
+        {
+            CircularDoublyLinkedList<Integer> testlist, other, cut;
+
+            testlist = new CircularDoublyLinkedList<>(1, 2);
+            other    = new CircularDoublyLinkedList<>(5, 4, 3);
+            other.reverse();
+
+            testlist.concat(other);
+            assertEquals("[1, 2, 3, 4, 5]", testlist.toString());
+
+            testlist.reverse();
+            cut = testlist.subListCut(1, 3);
+            assertEquals("[4, 3]", cut.toString());
+            assertEquals("[5, 2, 1]", testlist.toString());
+
+            cut.addLast(0);
+            assertEquals("[4, 3, 0]", cut.toString());
+        }
+
+        @Test
+        @DisplayName("Concat works when the list taking the elements is the reversed one")
+        public void concatIntoReversed()
+        {
+            CircularDoublyLinkedList<Integer> testlist, other;
+
+            testlist = new CircularDoublyLinkedList<>(1, 2, 3);
+            other    = new CircularDoublyLinkedList<>(4, 5, 6);
+            testlist.reverse();
+            testlist.enableValueIndex();
+
+            testlist.concat(other);
+            assertEquals("[3, 2, 1, 4, 5, 6]", testlist.toString());
+            assertEquals(6, testlist.size());
+            assertEquals(4, testlist.indexOf(5));
+            assertEquals(6, testlist.getLast());
+
+            testlist.addLast(7);
+            testlist.addFirst(0);
+            assertEquals("[0, 3, 2, 1, 4, 5, 6, 7]", testlist.toString());
+
+            other.addLast(8);
+            assertEquals("[8]", other.toString());
+
+            testlist.mergeSorted(new CircularDoublyLinkedList<>(9), null);
+            assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 9]", testlist.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("toString and appendTo Tests")
+    class appendToTests
+    {
+        @Test
+        @DisplayName("Writes null elements and empty lists")
+        public void nullSafe()
+        {
+            CircularDoublyLinkedList<String> testlist;
+
+            testlist = new CircularDoublyLinkedList<>();
+            assertEquals("[]", testlist.toString());
+
+            testlist.addLast(null);
+            testlist.addLast("A");
+            testlist.addLast(null);
+            assertEquals("[null, A, null]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Cuts the output short with a marker after the limit")
+        public void truncates() throws IOException
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+
+            testlist = new CircularDoublyLinkedList<>(1, 2, 3, 4, 5);
+
+            assertEquals("[1, 2, ...(+3 more)]", testlist.appendTo(new StringBuilder(), 2).toString());
+            assertEquals("[...(+5 more)]", testlist.appendTo(new StringBuilder(), 0).toString());
+            assertEquals("[1, 2, 3, 4, 5]", testlist.appendTo(new StringBuilder(), 5).toString());
+            assertThrows(IllegalArgumentException.class, () -> testlist.appendTo(new StringBuilder(), -1));
+        }
+
+        @Test
+        @DisplayName("toString stops at the default limit")
+        public void toStringLimit()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            String                            text;
+
+            testlist = new CircularDoublyLinkedList<>();
+
+            for (int value = 0; value < CircularDoublyLinkedList.TO_STRING_LIMIT + 25; value++)
+            {
+                testlist.addLast(value);
+            }
+
+            text = testlist.toString();
+
+            assertTrue(text.endsWith(", 999, ...(+25 more)]"));
+        }
+
+        @Test
+        @DisplayName("Appends to a reused buffer and writes everything to a Writer")
+        public void appendsAndWrites() throws IOException
+        {
+            CircularDoublyLinkedList<String> testlist;
+            StringBuilder                    builder;
+            StringWriter                     writer;
+
+            testlist = new CircularDoublyLinkedList<>("A", "B");
+            builder  = new StringBuilder("list=");
+            writer   = new StringWriter();
+
+            testlist.appendTo(builder, 10);
+            testlist.writeTo(writer);
+
+            assertEquals("list=[A, B]", builder.toString());
+            assertEquals("[A, B]", writer.toString());
+        }
+
+        @Test
+        @DisplayName("Doesn't loop forever on a list that holds itself")
+        public void holdsItself()
+        {
+            CircularDoublyLinkedList<Object> testlist;
+
+            testlist = new CircularDoublyLinkedList<>();
+            testlist.addLast(1);
+            testlist.addLast(testlist);
+
+            assertEquals("[1, (this list)]", testlist.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("sort Tests")
+    class sortTests
+    {
+        @Test
+        @DisplayName("Sorts the same way as List.sort, keeping equal elements in order")
+        public void sortsLikeListSort()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            List<String>                     expected;
+            Random                           random;
+
+            random = new Random(7);
+
+            for (int size = 0; size <= 70; size += 7)
+            {
+                testlist = new CircularDoublyLinkedList<>();
+                expected = new ArrayList<>();
+
+                for (int idx = 0; idx < size; idx++)
+                {
+                    testlist.addLast(random.nextInt(10) + "-" + idx);
+                    expected.add(testlist.peekLast());
+                }
+
+                testlist.sort(Comparator.comparing(data -> data.charAt(0)));
+                expected.sort(Comparator.comparing(data -> data.charAt(0)));
+
+                assertEquals(expected, new ArrayList<>(testlist));
+
+                if (size > 0)
+                {
+                    assertEquals(expected.get(size / 2), testlist.get(size / 2));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Sorts a reversed list by natural order and keeps handles valid")
+        public void sortsReversedWithHandles()
+        {
+            CircularDoublyLinkedList<Integer>        testlist;
+            CircularDoublyLinkedList.Handle<Integer> handle;
+
+            testlist = new CircularDoublyLinkedList<>(5, 1, 4);
+            handle   = testlist.addLastHandle(2);
+
+            testlist.reverse();                         // [2, 4, 1, 5]
+            testlist.sort(null);
+
+            assertEquals("[1, 2, 4, 5]", testlist.toString());
+            assertEquals(Integer.valueOf(2), testlist.removeHandle(handle));
+            assertEquals("[1, 4, 5]", testlist.toString());
+            assertEquals(Integer.valueOf(5), testlist.removeLast());
+        }
+
+        @Test
+        @DisplayName("Keeps every element when the comparator throws")
+        public void keepsElementsWhenComparatorThrows()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            List<Integer>                     sorted;
+
+            testlist = new CircularDoublyLinkedList<>(9, 3, 7, 1, 8, 2, 6, 4, 5, 0);
+
+            assertThrows(IllegalStateException.class, () -> testlist.sort((first, second) ->
+            {
+                if (first + second == 10)
+                {
+                    throw new IllegalStateException("no comparing these two");
+                }
+
+                return Integer.compare(first, second);
+            }));
+
+            sorted = new ArrayList<>(testlist);
+            Collections.sort(sorted);
+
+            assertEquals(10, testlist.size());
+            assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), sorted);
+            assertEquals(testlist.peekLast(), testlist.get(9));
+        }
+
+        @Test
+        @DisplayName("Merges two sorted lists, taking this list's element first on ties")
+        public void mergesSorted()
+        {
+            CircularDoublyLinkedList<String> testlist, other;
+            Comparator<String>               byLength;
+
+            byLength = Comparator.comparing(String::length);
+            testlist = new CircularDoublyLinkedList<>("a", "ccc", "eeeee");
+            other    = new CircularDoublyLinkedList<>("GGGGGG", "FFFF", "DDD", "B");
+
+            other.reverse();                            // sorted, but running the other way from testlist
+            testlist.mergeSorted(other, byLength);
+
+            assertEquals("[a, B, ccc, DDD, FFFF, eeeee, GGGGGG]", testlist.toString());
+            assertEquals(0, other.size());
+            assertThrows(IllegalArgumentException.class, () -> testlist.mergeSorted(testlist, byLength));
+        }
+
+        @Test
+        @DisplayName("A full bounded list evicts its smallest elements after merging")
+        public void mergeEvictsSmallest()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            List<Integer>                     evicted;
+
+            evicted  = new ArrayList<>();
+            testlist = CircularDoublyLinkedList.bounded(4, evicted::add);
+
+            testlist.addLast(2);
+            testlist.addLast(6);
+            testlist.addLast(8);
+            testlist.mergeSorted(new CircularDoublyLinkedList<>(1, 5, 9), null);
+
+            assertEquals("[5, 6, 8, 9]", testlist.toString());
+            assertEquals(List.of(1, 2), evicted);
+        }
+    }
 }
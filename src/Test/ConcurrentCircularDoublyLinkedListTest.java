@@ -0,0 +1,375 @@
+package Test;
+
+import Main.ConcurrentCircularDoublyLinkedList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Concurrent Circular Doubly Linked List
+ * @author Julia Reynolds
+ */
+public class ConcurrentCircularDoublyLinkedListTest
+{
+    /**
+     * private static nested element class whose equals waits until it is released, so a test can keep a walk
+     *      holding its locks for as long as it likes
+     */
+    private static final class Stall
+    {
+        private final CountDownLatch entered; // counted down once equals starts waiting
+        private final CountDownLatch release; // what equals waits on
+
+        private Stall(CountDownLatch entered, CountDownLatch release)
+        {
+            this.entered = entered;
+            this.release = release;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            this.entered.countDown();
+
+            try
+            {
+                this.release.await();
+            }
+            catch (InterruptedException exception)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            return this == other;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return System.identityHashCode(this);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "stall";
+        }
+    }
+
+    @Nested
+    @DisplayName("single thread Tests")
+    class singleThreadTests
+    {
+        @Test
+        @DisplayName("Adds at the front, end, and middle")
+        public void addsAtIndex()
+        {
+            ConcurrentCircularDoublyLinkedList<String> testlist;
+
+            testlist = new ConcurrentCircularDoublyLinkedList<>("B", "D");
+
+            testlist.addFirst("A");
+            testlist.addLast("F");
+            testlist.addAtIndex("C", 2);
+            testlist.addAtIndex("E", 4);
+
+            assertEquals("[A, B, C, D, E, F]", testlist.toString());
+            assertEquals(6, testlist.size());
+        }
+
+        @Test
+        @DisplayName("Removes from the ends, by index, and by data")
+        public void removes()
+        {
+            ConcurrentCircularDoublyLinkedList<String> testlist;
+
+            testlist = new ConcurrentCircularDoublyLinkedList<>("A", "B", "C", "D", "E", "F");
+
+            assertEquals("A", testlist.pollFirst());
+            assertEquals("F", testlist.pollLast());
+            assertEquals("C", testlist.removeIndex(1));
+            assertEquals("E", testlist.removeIndex(2));
+            assertTrue(testlist.removeData("D"));
+            assertFalse(testlist.removeData("Z"));
+            assertTrue(testlist.removeData("B"));
+
+            assertEquals("[]", testlist.toString());
+            assertNull(testlist.pollFirst());
+            assertNull(testlist.pollLast());
+        }
+
+        @Test
+        @DisplayName("Peeks and gets without removing")
+        public void peeks()
+        {
+            ConcurrentCircularDoublyLinkedList<String> testlist;
+
+            testlist = new ConcurrentCircularDoublyLinkedList<>("A", "B", "C");
+
+            assertEquals("A", testlist.peekFirst());
+            assertEquals("C", testlist.peekLast());
+            assertEquals("B", testlist.get(1));
+            assertEquals(3, testlist.size());
+        }
+
+        @Test
+        @DisplayName("throws exception when index is out of bounds")
+        public void outOfBounds()
+        {
+            ConcurrentCircularDoublyLinkedList<String> testlist;
+
+            testlist = new ConcurrentCircularDoublyLinkedList<>("A", "B");
+
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.removeIndex(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.addAtIndex("Z", 3));
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.get(2));
+            assertEquals("[A, B]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Iterator keeps going when the list changes")
+        public void weaklyConsistentIterator()
+        {
+            ConcurrentCircularDoublyLinkedList<String> testlist;
+            Iterator<String>                           iter;
+
+            testlist = new ConcurrentCircularDoublyLinkedList<>("A", "B", "C");
+            iter     = testlist.iterator();
+
+            assertEquals("A", iter.next());
+            testlist.removeData("C");
+            testlist.addLast("D");
+
+            assertEquals("B", iter.next());
+            assertEquals("D", iter.next());
+            assertFalse(iter.hasNext());
+        }
+    }
+
+    @Nested
+    @DisplayName("multiple thread Tests")
+    class multipleThreadTests
+    {
+        @Test
+        @DisplayName("Keeps the list whole while threads add and remove at the same time")
+        public void staysConsistent() throws InterruptedException
+        {
+            ConcurrentCircularDoublyLinkedList<Integer> testlist;
+            List<Thread>                                threads;
+            int                                         idx, count;
+
+            testlist = new ConcurrentCircularDoublyLinkedList<>();
+            threads  = new ArrayList<>();
+
+            for (idx = 0; idx < 8; idx++)
+            {
+                threads.add(new Thread(() ->
+                {
+                    ThreadLocalRandom random;
+                    int               step;
+
+                    random = ThreadLocalRandom.current();
+
+                    // every thread adds two elements and removes one per step, so 1000 are left per thread
+                    for (step = 0; step < 1000; step++)
+                    {
+                        testlist.addFirst(step);
+                        testlist.addLast(step);
+
+                        try
+                        {
+                            testlist.addAtIndex(step, random.nextInt(testlist.size() + 1));
+                        }
+                        catch (IndexOutOfBoundsException exception)
+                        {
+                            testlist.addLast(step);   // the list shrank before we got there
+                        }
+
+                        switch (random.nextInt(3))
+                        {
+                            case 0  -> testlist.pollFirst();
+                            case 1  -> testlist.pollLast();
+                            default ->
+                            {
+                                if (!testlist.removeData(step))
+                                {
+                                    testlist.pollFirst();   // other threads already took every copy of step
+                                }
+                            }
+                        }
+
+                        while (true)
+                        {
+                            try
+                            {
+                                testlist.removeIndex(random.nextInt(Math.max(testlist.size(), 1)));
+
+                                break;
+                            }
+                            catch (IndexOutOfBoundsException exception)
+                            {
+                                // the list shrank before we got there, so pick another index
+                            }
+                        }
+                    }
+                }));
+            }
+
+            for (Thread thread : threads)
+            {
+                thread.start();
+            }
+
+            for (Thread thread : threads)
+            {
+                thread.join();
+            }
+
+            count = 0;
+
+            for (Integer data : testlist)
+            {
+                count++;
+            }
+
+            assertEquals(8000, testlist.size());
+            assertEquals(8000, count);
+        }
+    }
+
+    @Nested
+    @DisplayName("contention Tests")
+    class contentionTests
+    {
+        @Test
+        @DisplayName("The back of the list keeps going while the front is locked")
+        public void backDoesNotWaitForFront() throws InterruptedException
+        {
+            ConcurrentCircularDoublyLinkedList<Object> testlist;
+            CountDownLatch                             entered, release;
+            Thread                                     remover, front, back;
+            List<Object>                               polled;
+
+            entered  = new CountDownLatch(1);
+            release  = new CountDownLatch(1);
+            testlist = new ConcurrentCircularDoublyLinkedList<>(new Stall(entered, release), 1, 2, 3);
+            polled   = new ArrayList<>();
+
+            // the search holds the dummy head and the first node while it waits inside Stall.equals
+            remover = new Thread(() -> testlist.removeData("missing"));
+            front   = new Thread(() -> testlist.addFirst(0));
+            back    = new Thread(() ->
+            {
+                testlist.addLast(4);
+                polled.add(testlist.pollLast());
+                polled.add(testlist.pollLast());
+                testlist.addLast(5);
+            });
+
+            remover.start();
+            assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+            front.start();
+            back.start();
+
+            try
+            {
+                back.join(10000);
+
+                assertFalse(back.isAlive());        // every call at the back finished
+                assertTrue(front.isAlive());        // while addFirst is still waiting for the head
+                assertEquals(List.of(4, 3), polled);
+            }
+            finally
+            {
+                release.countDown();
+            }
+
+            remover.join();
+            front.join();
+            back.join();
+
+            assertEquals("[0, stall, 1, 2, 5]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Keeps the links in both directions whole while both ends are busy at once")
+        public void bothEndsAtOnce() throws InterruptedException
+        {
+            ConcurrentCircularDoublyLinkedList<Integer> testlist;
+            List<Thread>                                threads;
+            List<Integer>                               forwards;
+            AtomicInteger                               polled;
+            int                                         idx;
+            Integer                                     data;
+
+            testlist = new ConcurrentCircularDoublyLinkedList<>();
+            threads  = new ArrayList<>();
+            forwards = new ArrayList<>();
+            polled   = new AtomicInteger();
+
+            for (idx = 0; idx < 4; idx++)
+            {
+                final boolean atFront = (idx % 2 == 0);
+
+                threads.add(new Thread(() ->
+                {
+                    for (int step = 0; step < 5000; step++)
+                    {
+                        if (atFront)
+                        {
+                            testlist.addFirst(step);
+                        }
+                        else
+                        {
+                            testlist.addLast(step);
+                        }
+
+                        if (step % 2 == 1 && (atFront ? testlist.pollLast() : testlist.pollFirst()) != null)
+                        {
+                            polled.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+
+            for (Thread thread : threads)
+            {
+                thread.start();
+            }
+
+            for (Thread thread : threads)
+            {
+                thread.join();
+            }
+
+            for (Integer item : testlist)
+            {
+                forwards.add(item);
+            }
+
+            assertEquals(4 * 5000 - polled.get(), testlist.size());
+            assertEquals(testlist.size(), forwards.size());
+
+            // draining from the back follows the prev links, which have to match the next links exactly
+            for (idx = forwards.size() - 1; idx >= 0; idx--)
+            {
+                data = testlist.pollLast();
+                assertSame(forwards.get(idx), data);
+            }
+
+            assertNull(testlist.pollLast());
+            assertEquals(0, testlist.size());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package Test;
+
+import Main.DoubleCircularDoublyLinkedList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for double Circular Doubly Linked List
+ * @author Julia Reynolds
+ */
+public class DoubleCircularDoublyLinkedListTest
+{
+    @Nested
+    @DisplayName("add Tests")
+    class addTests
+    {
+        @Test
+        @DisplayName("Can construct list with values")
+        public void infiniteConstructor()
+        {
+            DoubleCircularDoublyLinkedList testlist;
+
+            testlist = new DoubleCircularDoublyLinkedList(1.5, 2.5, 3.5);
+
+            assertEquals("[1.5, 2.5, 3.5]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Adds at the front, end, and middle")
+        public void addsAtIndex()
+        {
+            DoubleCircularDoublyLinkedList testlist;
+
+            testlist = new DoubleCircularDoublyLinkedList();
+
+            testlist.addLast(2.5);
+            testlist.addFirst(1.5);
+            testlist.addLast(3.5);
+            testlist.addAtIndex(4.5, 1);
+
+            assertEquals("[1.5, 4.5, 2.5, 3.5]", testlist.toString());
+            assertEquals(4, testlist.size());
+        }
+
+        @Test
+        @DisplayName("Grows past its starting capacity")
+        public void grows()
+        {
+            DoubleCircularDoublyLinkedList testlist;
+            int                            idx;
+
+            testlist = new DoubleCircularDoublyLinkedList();
+
+            for (idx = 0; idx < 1000; idx++)
+            {
+                testlist.addLast(idx);
+            }
+
+            assertEquals(1000, testlist.size());
+            assertEquals(999.0, testlist.get(999));
+            assertEquals(500.0, testlist.get(500));
+        }
+    }
+
+    @Nested
+    @DisplayName("remove Tests")
+    class removeTests
+    {
+        @Test
+        @DisplayName("Removes by index and by value")
+        public void removes()
+        {
+            DoubleCircularDoublyLinkedList testlist;
+
+            testlist = new DoubleCircularDoublyLinkedList(1.5, 2.5, 3.5, 4.5);
+
+            assertEquals(3.5, testlist.removeIndex(2));
+            assertTrue(testlist.removeData(1.5));
+            assertFalse(testlist.removeData(1.5));
+            assertEquals("[2.5, 4.5]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Reuses freed slots")
+        public void reusesSlots()
+        {
+            DoubleCircularDoublyLinkedList testlist;
+            int                            idx;
+
+            testlist = new DoubleCircularDoublyLinkedList(1.5, 2.5);
+
+            for (idx = 0; idx < 100; idx++)
+            {
+                testlist.addLast(3.5);
+                testlist.removeIndex(0);
+            }
+
+            assertEquals("[3.5, 3.5]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("throws exception when index is out of bounds")
+        public void outOfBounds()
+        {
+            DoubleCircularDoublyLinkedList testlist;
+
+            testlist = new DoubleCircularDoublyLinkedList(1.5, 2.5);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.removeIndex(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.addAtIndex(1.5, 3));
+        }
+
+        @Test
+        @DisplayName("Finds NaN and tells -0.0 apart from 0.0 when removing by value")
+        public void removesSpecialValues()
+        {
+            DoubleCircularDoublyLinkedList testlist;
+
+            testlist = new DoubleCircularDoublyLinkedList(0.0, Double.NaN, -0.0, Double.NEGATIVE_INFINITY);
+
+            assertTrue(testlist.removeData(Double.NaN));
+            assertTrue(testlist.removeData(-0.0));
+            assertFalse(testlist.removeData(-0.0));
+            assertEquals("[0.0, -Infinity]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Keeps the sign of zero and infinities")
+        public void keepsSpecialValues()
+        {
+            DoubleCircularDoublyLinkedList testlist;
+
+            testlist = new DoubleCircularDoublyLinkedList(-0.0, Double.POSITIVE_INFINITY);
+
+            assertEquals(-0.0, testlist.get(0));               // assertEquals tells -0.0 and 0.0 apart
+            assertEquals(Double.POSITIVE_INFINITY, testlist.set(1, Double.MIN_VALUE));
+            assertEquals(Double.MIN_VALUE, testlist.get(1));
+            assertEquals("[-0.0, 4.9E-324]", testlist.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("iteration Tests")
+    class iterationTests
+    {
+        @Test
+        @DisplayName("Iterates and streams every value in order")
+        public void iterates()
+        {
+            DoubleCircularDoublyLinkedList testlist;
+            PrimitiveIterator.OfDouble     iter;
+
+            testlist = new DoubleCircularDoublyLinkedList(1.5, 2.5, 3.5);
+            iter     = testlist.iterator();
+
+            assertEquals(1.5, iter.nextDouble());
+            assertEquals(2.5, iter.nextDouble());
+            assertEquals(3.5, iter.nextDouble());
+            assertFalse(iter.hasNext());
+            assertEquals(7.5, testlist.stream().sum());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package Test;
+
+import Main.IndexableCircularDoublyLinkedList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Indexable Circular Doubly Linked List
+ * @author Julia Reynolds
+ */
+public class IndexableCircularDoublyLinkedListTest
+{
+    @Nested
+    @DisplayName("Constructor Tests")
+    class constructorTests
+    {
+        @Test
+        @DisplayName("Can create empty list")
+        public void emptyConstructor()
+        {
+            IndexableCircularDoublyLinkedList<String> testlist;
+
+            testlist = new IndexableCircularDoublyLinkedList<>();
+
+            assertEquals("[]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Can construct list with data")
+        public void infiniteConstructor()
+        {
+            IndexableCircularDoublyLinkedList<Integer> testlist;
+
+            testlist = new IndexableCircularDoublyLinkedList<>(1, 3, 4, 6, 8, 0);
+
+            assertEquals("[1, 3, 4, 6, 8, 0]", testlist.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("add and remove Tests")
+    class addRemoveTests
+    {
+        @Test
+        @DisplayName("Adds at the front, end, and middle")
+        public void addsAtIndex()
+        {
+            IndexableCircularDoublyLinkedList<String> testlist;
+
+            testlist = new IndexableCircularDoublyLinkedList<>("B", "D");
+
+            testlist.addFirst("A");
+            testlist.addLast("E");
+            testlist.addAtIndex("C", 2);
+
+            assertEquals("[A, B, C, D, E]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Removes by index and by data")
+        public void removes()
+        {
+            IndexableCircularDoublyLinkedList<String> testlist;
+
+            testlist = new IndexableCircularDoublyLinkedList<>("A", "B", "C", "D");
+
+            assertEquals("C", testlist.removeIndex(2));
+            assertTrue(testlist.removeData("A"));
+            assertFalse(testlist.removeData("Z"));
+            assertEquals("[B, D]", testlist.toString());
+            assertEquals(2, testlist.size());
+        }
+
+        @Test
+        @DisplayName("throws exception when index is out of bounds")
+        public void outOfBounds()
+        {
+            IndexableCircularDoublyLinkedList<String> testlist;
+
+            testlist = new IndexableCircularDoublyLinkedList<>("A", "B", "C", "D");
+
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.removeIndex(4));
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.addAtIndex("Z", 5));
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.get(-1));
+        }
+
+        @Test
+        @DisplayName("Matches an ArrayList across many random operations")
+        public void matchesArrayList()
+        {
+            IndexableCircularDoublyLinkedList<Integer> testlist;
+            List<Integer>                              expected;
+            Random                                     random;
+            int                                        step, index;
+
+            testlist = new IndexableCircularDoublyLinkedList<>();
+            expected = new ArrayList<>();
+            random   = new Random(42);
+
+            // lean towards adding so the lanes grow tall, then lean towards removing so they shrink again
+            for (step = 0; step < 20000; step++)
+            {
+                if (expected.isEmpty() || random.nextInt(10) < (step < 10000 ? 7 : 3))
+                {
+                    index = random.nextInt(expected.size() + 1);
+                    testlist.addAtIndex(step, index);
+                    expected.add(index, step);
+                }
+                else
+                {
+                    index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), testlist.removeIndex(index));
+                }
+            }
+
+            assertEquals(expected.size(), testlist.size());
+            assertEquals(expected, testlist.stream().toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("get, set, and iterator Tests")
+    class accessTests
+    {
+        @Test
+        @DisplayName("Gets and sets by index")
+        public void getsAndSets()
+        {
+            IndexableCircularDoublyLinkedList<Integer> testlist;
+            int                                        idx;
+
+            testlist = new IndexableCircularDoublyLinkedList<>();
+
+            for (idx = 0; idx < 100; idx++)
+            {
+                testlist.addLast(idx);
+            }
+
+            assertEquals(70, testlist.set(70, -70));
+            assertEquals(-70, testlist.get(70));
+            assertEquals(99, testlist.get(99));
+            assertEquals(0, testlist.get(0));
+        }
+
+        @Test
+        @DisplayName("Iterates through every element in order")
+        public void iteratesInOrder()
+        {
+            IndexableCircularDoublyLinkedList<Integer> testlist;
+            Iterator<Integer>                          iter;
+            int                                        idx;
+
+            testlist = new IndexableCircularDoublyLinkedList<>();
+
+            for (idx = 0; idx < 100; idx++)
+            {
+                testlist.addFirst(idx);
+            }
+
+            for (iter = testlist.iterator(), idx = 99; iter.hasNext(); idx--)
+            {
+                assertEquals(idx, iter.next());
+            }
+
+            assertEquals(-1, idx);
+        }
+    }
+}
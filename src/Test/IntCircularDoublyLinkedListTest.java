@@ -0,0 +1,155 @@
+package Test;
+
+import Main.IntCircularDoublyLinkedList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for int Circular Doubly Linked List
+ * @author Julia Reynolds
+ */
+public class IntCircularDoublyLinkedListTest
+{
+    @Nested
+    @DisplayName("add Tests")
+    class addTests
+    {
+        @Test
+        @DisplayName("Can construct list with values")
+        public void infiniteConstructor()
+        {
+            IntCircularDoublyLinkedList testlist;
+
+            testlist = new IntCircularDoublyLinkedList(1, 2, 3);
+
+            assertEquals("[1, 2, 3]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Adds at the front, end, and middle")
+        public void addsAtIndex()
+        {
+            IntCircularDoublyLinkedList testlist;
+
+            testlist = new IntCircularDoublyLinkedList();
+
+            testlist.addLast(2);
+            testlist.addFirst(1);
+            testlist.addLast(3);
+            testlist.addAtIndex(4, 1);
+
+            assertEquals("[1, 4, 2, 3]", testlist.toString());
+            assertEquals(4, testlist.size());
+        }
+
+        @Test
+        @DisplayName("Grows past its starting capacity")
+        public void grows()
+        {
+            IntCircularDoublyLinkedList testlist;
+            int                         idx;
+
+            testlist = new IntCircularDoublyLinkedList();
+
+            for (idx = 0; idx < 1000; idx++)
+            {
+                testlist.addLast(idx);
+            }
+
+            assertEquals(1000, testlist.size());
+            assertEquals(999, testlist.get(999));
+            assertEquals(500, testlist.get(500));
+        }
+    }
+
+    @Nested
+    @DisplayName("remove Tests")
+    class removeTests
+    {
+        @Test
+        @DisplayName("Removes by index and by value")
+        public void removes()
+        {
+            IntCircularDoublyLinkedList testlist;
+
+            testlist = new IntCircularDoublyLinkedList(1, 2, 3, 4);
+
+            assertEquals(3, testlist.removeIndex(2));
+            assertTrue(testlist.removeData(1));
+            assertFalse(testlist.removeData(1));
+            assertEquals("[2, 4]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Reuses freed slots")
+        public void reusesSlots()
+        {
+            IntCircularDoublyLinkedList testlist;
+            int                         idx;
+
+            testlist = new IntCircularDoublyLinkedList(1, 2);
+
+            for (idx = 0; idx < 100; idx++)
+            {
+                testlist.addLast(3);
+                testlist.removeIndex(0);
+            }
+
+            assertEquals("[3, 3]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("throws exception when index is out of bounds")
+        public void outOfBounds()
+        {
+            IntCircularDoublyLinkedList testlist;
+
+            testlist = new IntCircularDoublyLinkedList(1, 2);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.removeIndex(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.addAtIndex(1, 3));
+        }
+
+        @Test
+        @DisplayName("Keeps the smallest and largest int values")
+        public void extremes()
+        {
+            IntCircularDoublyLinkedList testlist;
+
+            testlist = new IntCircularDoublyLinkedList(Integer.MIN_VALUE, 0, Integer.MAX_VALUE);
+
+            assertEquals(Integer.MIN_VALUE, testlist.get(0));
+            assertEquals(Integer.MAX_VALUE, testlist.set(2, -1));
+            assertTrue(testlist.removeData(Integer.MIN_VALUE));
+            assertFalse(testlist.removeData(Integer.MAX_VALUE));
+            assertEquals("[0, -1]", testlist.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("iteration Tests")
+    class iterationTests
+    {
+        @Test
+        @DisplayName("Iterates and streams every value in order")
+        public void iterates()
+        {
+            IntCircularDoublyLinkedList testlist;
+            PrimitiveIterator.OfInt     iter;
+
+            testlist = new IntCircularDoublyLinkedList(1, 2, 3);
+            iter     = testlist.iterator();
+
+            assertEquals(1, iter.nextInt());
+            assertEquals(2, iter.nextInt());
+            assertEquals(3, iter.nextInt());
+            assertFalse(iter.hasNext());
+            assertEquals(6, testlist.stream().sum());
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package Test;
+
+import Main.IntrusiveCircularList;
+import Main.Linkable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Intrusive Circular List
+ * @author Julia Reynolds
+ */
+public class IntrusiveCircularListTest
+{
+    /**
+     * private static nested element class that carries its own links
+     */
+    private static final class Job extends Linkable<Job>
+    {
+        private final String name; // what the job is called
+
+        private Job(String name)
+        {
+            this.name = name;
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.name;
+        }
+    }
+
+    /**
+     * private static nested element class that is equal to any other tag with the same name
+     */
+    private static final class Tag extends Linkable<Tag>
+    {
+        private final String name; // what the tag is called, which is all equals looks at
+
+        private Tag(String name)
+        {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof Tag tag && tag.name.equals(this.name);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.name.hashCode();
+        }
+    }
+
+    @Nested
+    @DisplayName("add and remove Tests")
+    class addRemoveTests
+    {
+        @Test
+        @DisplayName("Adds at either end and at an index")
+        public void adds()
+        {
+            IntrusiveCircularList<Job> testlist;
+
+            testlist = new IntrusiveCircularList<>();
+
+            testlist.addLast(new Job("B"));
+            testlist.addFirst(new Job("A"));
+            testlist.addLast(new Job("D"));
+            testlist.addAtIndex(new Job("C"), 2);
+            testlist.addAtIndex(new Job("E"), 4);
+
+            assertEquals("[A, B, C, D, E]", testlist.toString());
+            assertEquals("C", testlist.get(2).toString());
+            assertEquals(5, testlist.size());
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.addAtIndex(new Job("F"), 6));
+            assertThrows(NullPointerException.class, () -> testlist.addLast(null));
+        }
+
+        @Test
+        @DisplayName("Unlinks an element in O(1) and lets it be added again")
+        public void unlinksAndReuses()
+        {
+            IntrusiveCircularList<Job> testlist, other;
+            Job                        job;
+
+            testlist = new IntrusiveCircularList<>();
+            other    = new IntrusiveCircularList<>();
+            job      = new Job("B");
+
+            testlist.addLast(new Job("A"));
+            testlist.addLast(job);
+            testlist.addLast(new Job("C"));
+
+            assertTrue(testlist.contains(job));
+            assertThrows(IllegalArgumentException.class, () -> other.addLast(job));
+
+            assertTrue(testlist.unlink(job));
+            assertFalse(testlist.unlink(job));
+            assertFalse(testlist.contains(job));
+            assertFalse(job.isLinked());
+            assertEquals("[A, C]", testlist.toString());
+
+            other.addLast(job);
+            assertTrue(other.contains(job));
+            assertFalse(testlist.contains(job));
+            assertFalse(testlist.removeData(job));
+            assertTrue(other.remove(job));
+        }
+
+        @Test
+        @DisplayName("Removes by index and from either end")
+        public void removes()
+        {
+            IntrusiveCircularList<Job> testlist;
+
+            testlist = new IntrusiveCircularList<>();
+
+            for (String name : new String[] {"A", "B", "C", "D", "E"})
+            {
+                testlist.addLast(new Job(name));
+            }
+
+            assertEquals("D", testlist.removeIndex(3).toString());
+            assertEquals("A", testlist.pollFirst().toString());
+            assertEquals("E", testlist.pollLast().toString());
+            assertEquals("[B, C]", testlist.toString());
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.removeIndex(2));
+
+            testlist.clear();
+            assertNull(testlist.pollFirst());
+            assertNull(testlist.peekLast());
+        }
+    }
+
+    @Nested
+    @DisplayName("link Tests")
+    class linkTests
+    {
+        @Test
+        @DisplayName("Inserts next to, moves, and walks from an element")
+        public void usesElementLinks()
+        {
+            IntrusiveCircularList<Job> testlist;
+            Job                        first, second, third;
+
+            testlist = new IntrusiveCircularList<>();
+            first    = new Job("A");
+            second   = new Job("B");
+            third    = new Job("C");
+
+            testlist.addLast(first);
+            testlist.insertAfter(first, third);
+            testlist.insertBefore(third, second);
+
+            assertEquals("[A, B, C]", testlist.toString());
+            assertSame(second, testlist.nextOf(first));
+            assertSame(first, testlist.prevOf(second));
+            assertNull(testlist.nextOf(third));
+            assertNull(testlist.prevOf(first));
+
+            testlist.moveToFront(third);
+            testlist.moveToBack(first);
+
+            assertEquals("[C, B, A]", testlist.toString());
+            assertSame(third, testlist.peekFirst());
+            assertThrows(IllegalArgumentException.class, () -> testlist.moveToFront(new Job("D")));
+        }
+
+        @Test
+        @DisplayName("Iterator removes in place and fails fast")
+        public void iterates()
+        {
+            IntrusiveCircularList<Job> testlist;
+            Iterator<Job>              iterator;
+
+            testlist = new IntrusiveCircularList<>();
+
+            for (String name : new String[] {"A", "B", "C"})
+            {
+                testlist.addLast(new Job(name));
+            }
+
+            iterator = testlist.iterator();
+            iterator.next();
+            iterator.next();
+            iterator.remove();
+
+            assertEquals("[A, C]", testlist.toString());
+            assertThrows(IllegalStateException.class, iterator::remove);
+
+            testlist.addLast(new Job("D"));
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+    }
+
+    @Nested
+    @DisplayName("identity Tests")
+    class identityTests
+    {
+        @Test
+        @DisplayName("contains and remove go by identity, not equals")
+        public void identityNotEquals()
+        {
+            IntrusiveCircularList<Tag> testlist;
+            Tag                        inList, lookalike;
+
+            testlist  = new IntrusiveCircularList<>();
+            inList    = new Tag("urgent");
+            lookalike = new Tag("urgent");
+
+            testlist.addLast(inList);
+
+            assertEquals(inList, lookalike);
+            assertTrue(testlist.contains(inList));
+            assertFalse(testlist.contains(lookalike));
+            assertFalse(testlist.containsAll(List.of(lookalike)));
+            assertFalse(testlist.remove(lookalike));
+            assertEquals(1, testlist.size());
+
+            assertTrue(testlist.removeAll(List.of(lookalike)));   // asks List.of, which goes by equals
+            assertTrue(testlist.isEmpty());
+            assertFalse(inList.isLinked());
+        }
+    }
+}
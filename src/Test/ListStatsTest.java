@@ -0,0 +1,339 @@
+package Test;
+
+import Main.CircularDoublyLinkedList;
+import Main.ListStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Deque;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for List Stats
+ * @author Julia Reynolds
+ */
+public class ListStatsTest
+{
+    @TempDir
+    Path folder;
+
+    @Nested
+    @DisplayName("recording Tests")
+    class recordingTests
+    {
+        @Test
+        @DisplayName("Stats are off until they are turned on")
+        public void offByDefault()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+
+            testlist = new CircularDoublyLinkedList<>(1, 2, 3);
+
+            assertNull(testlist.stats());
+
+            testlist.enableStats(10);
+            assertNotNull(testlist.stats());
+
+            testlist.disableStats();
+            assertNull(testlist.stats());
+            assertThrows(IllegalArgumentException.class, () -> testlist.enableStats(-1));
+        }
+
+        @Test
+        @DisplayName("Counts each operation and the hops it walked")
+        public void countsOperationsAndHops()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            ListStats.Snapshot                snapshot;
+            ListStats                         stats;
+
+            testlist = new CircularDoublyLinkedList<>();
+
+            for (int idx = 0; idx < 100; idx++)
+            {
+                testlist.addLast(idx);
+            }
+
+            stats = testlist.enableStats(1000);
+
+            testlist.addFirst(-1);                  // a lookup 0 hops from the head, then a link
+            testlist.get(50);                       // 50 hops from the new first node
+            testlist.set(51, 0);                    // 1 hop from the last lookup
+            testlist.removeIndex(100);              // 1 hop back from the head, then an unlink
+            testlist.removeData(40);                // found 41 nodes in, then an unlink
+            testlist.removeData(1000);              // not there, so all 99 nodes are walked
+
+            snapshot = stats.snapshot();
+
+            assertEquals(4, snapshot.count(ListStats.Operation.LOOKUP));
+            assertEquals(2, snapshot.count(ListStats.Operation.SEARCH));
+            assertEquals(1, snapshot.count(ListStats.Operation.LINK));
+            assertEquals(2, snapshot.count(ListStats.Operation.UNLINK));
+            assertEquals(50 + 1 + 1, snapshot.totalHops(ListStats.Operation.LOOKUP));
+            assertEquals(50, snapshot.maxHops(ListStats.Operation.LOOKUP));
+            assertEquals(41 + 99, snapshot.totalHops(ListStats.Operation.SEARCH));
+            assertEquals(99, snapshot.maxHops(ListStats.Operation.SEARCH));
+            assertEquals(0, snapshot.totalHops(ListStats.Operation.LINK));
+            assertEquals(0, snapshot.totalHops(ListStats.Operation.UNLINK));
+            assertEquals(101, snapshot.maxSize());
+            assertEquals(0, snapshot.longWalks());
+        }
+
+        @Test
+        @DisplayName("Doesn't record operations that throw")
+        public void skipsFailedOperations()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            ListStats                         stats;
+
+            testlist = new CircularDoublyLinkedList<>(1, 2, 3);
+            stats    = testlist.enableStats(10);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.get(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.removeIndex(-1));
+
+            assertEquals(0, stats.snapshot().count(ListStats.Operation.LOOKUP));
+            assertEquals(0, stats.snapshot().count(ListStats.Operation.UNLINK));
+        }
+
+        @Test
+        @DisplayName("Counts a workload that only uses the Deque methods")
+        public void countsDequeWorkload()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            ListStats.Snapshot                snapshot;
+            Deque<Integer>                    deque;
+            ListStats                         stats;
+
+            testlist = new CircularDoublyLinkedList<>();
+            deque    = testlist;
+            stats    = testlist.enableStats(10);
+
+            for (int idx = 0; idx < 20; idx++)
+            {
+                deque.offerLast(idx);
+            }
+
+            deque.offerFirst(-1);
+            deque.pollFirst();
+            deque.pollLast();
+            deque.peekFirst();                      // peeking doesn't link, unlink, or walk
+            deque.peekLast();
+            deque.removeFirstOccurrence(15);        // found 15 nodes in from the front
+            deque.removeLastOccurrence(2);          // found 15 nodes in from the back
+
+            snapshot = stats.snapshot();
+
+            assertEquals(21, snapshot.count(ListStats.Operation.LINK));
+            assertEquals(4, snapshot.count(ListStats.Operation.UNLINK));
+            assertEquals(2, snapshot.count(ListStats.Operation.SEARCH));
+            assertEquals(0, snapshot.count(ListStats.Operation.LOOKUP));
+            assertEquals(15 + 15, snapshot.totalHops(ListStats.Operation.SEARCH));
+            assertEquals(2, snapshot.longWalks());
+            assertEquals(21, snapshot.maxSize());
+            assertEquals(17, deque.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("hop bound Tests")
+    class hopBoundTests
+    {
+        @Test
+        @DisplayName("A get near either end walks no further than its distance from that end")
+        public void getNearEnds()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            ListStats                         stats;
+            int                               size;
+
+            testlist = new CircularDoublyLinkedList<>();
+            size     = 1000;
+
+            for (int idx = 0; idx < size; idx++)
+            {
+                testlist.addLast(idx);
+            }
+
+            stats = testlist.enableStats(size);
+
+            for (int idx = 0; idx < 5; idx++)
+            {
+                stats.reset();                      // the cursor can only make a lookup shorter
+                testlist.get(idx);
+                assertTrue(stats.snapshot().maxHops(ListStats.Operation.LOOKUP) <= idx);
+
+                stats.reset();
+                testlist.get(size - 1 - idx);       // the dummy head sits one past the last element
+                assertTrue(stats.snapshot().maxHops(ListStats.Operation.LOOKUP) <= idx + 1);
+            }
+
+            stats.reset();
+            testlist.get(size / 2);                 // the middle is as far as a lookup can be from every start
+
+            assertTrue(stats.snapshot().maxHops(ListStats.Operation.LOOKUP) <= size / 2);
+        }
+
+        @Test
+        @DisplayName("Walking the list by index takes one hop per call from the cursor")
+        public void sequentialGets()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            ListStats.Snapshot                snapshot;
+            ListStats                         stats;
+            int                               size;
+
+            testlist = new CircularDoublyLinkedList<>();
+            size     = 1000;
+
+            for (int idx = 0; idx < size; idx++)
+            {
+                testlist.addLast(idx);
+            }
+
+            stats = testlist.enableStats(size);
+
+            for (int idx = 0; idx < size; idx++)
+            {
+                assertEquals(idx, testlist.get(idx));
+            }
+
+            for (int idx = size - 1; idx >= 0; idx--)
+            {
+                assertEquals(idx, testlist.get(idx));
+            }
+
+            snapshot = stats.snapshot();
+
+            assertEquals(2 * size, snapshot.count(ListStats.Operation.LOOKUP));
+            assertEquals(1, snapshot.maxHops(ListStats.Operation.LOOKUP));
+            assertTrue(snapshot.totalHops(ListStats.Operation.LOOKUP) <= 2 * size);
+            assertEquals(0, snapshot.longWalks());
+        }
+    }
+
+    @Nested
+    @DisplayName("snapshot Tests")
+    class snapshotTests
+    {
+        @Test
+        @DisplayName("Puts hops in power of two buckets and reads percentiles from the top of each bucket")
+        public void bucketsAndPercentiles()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            ListStats.Snapshot                snapshot;
+            ListStats                         stats;
+            long[]                            histogram;
+
+            testlist = new CircularDoublyLinkedList<>();
+
+            for (int idx = 0; idx < 1000; idx++)
+            {
+                testlist.addLast(idx);
+            }
+
+            stats = testlist.enableStats(1000);
+
+            for (int idx = 0; idx < 9; idx++)
+            {
+                testlist.get(0);                    // 0 hops, after the first call from the cursor
+            }
+
+            testlist.get(300);                      // 300 hops, which is in bucket 9 (256 to 511)
+
+            snapshot  = stats.snapshot();
+            histogram = snapshot.hopHistogram(ListStats.Operation.LOOKUP);
+
+            assertEquals(9, histogram[0]);
+            assertEquals(1, histogram[9]);
+            assertEquals(0, snapshot.hopPercentile(ListStats.Operation.LOOKUP, 50));
+            assertEquals(0, snapshot.hopPercentile(ListStats.Operation.LOOKUP, 90));
+            assertEquals(511, snapshot.hopPercentile(ListStats.Operation.LOOKUP, 99));
+            assertEquals(511, snapshot.hopPercentile(ListStats.Operation.LOOKUP, 100));
+            assertTrue(snapshot.latencyPercentile(ListStats.Operation.LOOKUP, 50)
+                       <= snapshot.latencyPercentile(ListStats.Operation.LOOKUP, 100));
+            assertEquals(0, snapshot.hopPercentile(ListStats.Operation.SEARCH, 99));
+            assertThrows(IllegalArgumentException.class, () -> snapshot.hopPercentile(ListStats.Operation.LOOKUP, 101));
+        }
+
+        @Test
+        @DisplayName("A snapshot doesn't change when the list keeps recording, and reset starts over")
+        public void snapshotIsACopy()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            ListStats.Snapshot                before;
+            ListStats                         stats;
+
+            testlist = new CircularDoublyLinkedList<>(1, 2, 3);
+            stats    = testlist.enableStats(10);
+
+            testlist.get(1);
+            before = stats.snapshot();
+            testlist.get(2);
+
+            assertEquals(1, before.count(ListStats.Operation.LOOKUP));
+            assertEquals(2, stats.snapshot().count(ListStats.Operation.LOOKUP));
+            assertTrue(before.toString().contains("LOOKUP={count=1"));
+
+            stats.reset();
+
+            assertEquals(0, stats.snapshot().count(ListStats.Operation.LOOKUP));
+            assertEquals(0, stats.snapshot().maxSize());
+        }
+    }
+
+    @Nested
+    @DisplayName("Flight Recorder Tests")
+    class flightRecorderTests
+    {
+        @Test
+        @DisplayName("Sends walks over the threshold to Flight Recorder")
+        public void emitsLongWalkEvents() throws IOException
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            List<RecordedEvent>               events;
+            Path                              file;
+
+            testlist = new CircularDoublyLinkedList<>();
+            file     = folder.resolve("walks.jfr");
+
+            for (int idx = 0; idx < 200; idx++)
+            {
+                testlist.addLast(idx);
+            }
+
+            testlist.enableStats(50);
+
+            try (Recording recording = new Recording())
+            {
+                recording.enable("Main.LongWalk");
+                recording.start();
+
+                testlist.get(10);                   // short enough to leave out
+                testlist.get(100);                  // 90 hops from the last lookup
+                testlist.removeData(-5);            // not there, so all 200 nodes are walked
+
+                recording.stop();
+                recording.dump(file);
+            }
+
+            events = RecordingFile.readAllEvents(file);
+
+            assertEquals(2, events.size());
+            assertEquals("LOOKUP", events.get(0).getString("operation"));
+            assertEquals(90, events.get(0).getLong("hops"));
+            assertEquals("SEARCH", events.get(1).getString("operation"));
+            assertEquals(200, events.get(1).getLong("hops"));
+            assertEquals(2, testlist.stats().snapshot().longWalks());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package Test;
+
+import Main.LongCircularDoublyLinkedList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for long Circular Doubly Linked List
+ * @author Julia Reynolds
+ */
+public class LongCircularDoublyLinkedListTest
+{
+    @Nested
+    @DisplayName("add Tests")
+    class addTests
+    {
+        @Test
+        @DisplayName("Can construct list with values")
+        public void infiniteConstructor()
+        {
+            LongCircularDoublyLinkedList testlist;
+
+            testlist = new LongCircularDoublyLinkedList(1L, 2L, 3L);
+
+            assertEquals("[1, 2, 3]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Adds at the front, end, and middle")
+        public void addsAtIndex()
+        {
+            LongCircularDoublyLinkedList testlist;
+
+            testlist = new LongCircularDoublyLinkedList();
+
+            testlist.addLast(2L);
+            testlist.addFirst(1L);
+            testlist.addLast(3L);
+            testlist.addAtIndex(4L, 1);
+
+            assertEquals("[1, 4, 2, 3]", testlist.toString());
+            assertEquals(4, testlist.size());
+        }
+
+        @Test
+        @DisplayName("Grows past its starting capacity")
+        public void grows()
+        {
+            LongCircularDoublyLinkedList testlist;
+            int                          idx;
+
+            testlist = new LongCircularDoublyLinkedList();
+
+            for (idx = 0; idx < 1000; idx++)
+            {
+                testlist.addLast(idx);
+            }
+
+            assertEquals(1000, testlist.size());
+            assertEquals(999L, testlist.get(999));
+            assertEquals(500L, testlist.get(500));
+        }
+    }
+
+    @Nested
+    @DisplayName("remove Tests")
+    class removeTests
+    {
+        @Test
+        @DisplayName("Removes by index and by value")
+        public void removes()
+        {
+            LongCircularDoublyLinkedList testlist;
+
+            testlist = new LongCircularDoublyLinkedList(1L, 2L, 3L, 4L);
+
+            assertEquals(3L, testlist.removeIndex(2));
+            assertTrue(testlist.removeData(1L));
+            assertFalse(testlist.removeData(1L));
+            assertEquals("[2, 4]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Reuses freed slots")
+        public void reusesSlots()
+        {
+            LongCircularDoublyLinkedList testlist;
+            int                          idx;
+
+            testlist = new LongCircularDoublyLinkedList(1L, 2L);
+
+            for (idx = 0; idx < 100; idx++)
+            {
+                testlist.addLast(3L);
+                testlist.removeIndex(0);
+            }
+
+            assertEquals("[3, 3]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("throws exception when index is out of bounds")
+        public void outOfBounds()
+        {
+            LongCircularDoublyLinkedList testlist;
+
+            testlist = new LongCircularDoublyLinkedList(1L, 2L);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.removeIndex(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.addAtIndex(1L, 3));
+        }
+
+        @Test
+        @DisplayName("Keeps values that don't fit in an int")
+        public void beyondIntRange()
+        {
+            LongCircularDoublyLinkedList testlist;
+
+            testlist = new LongCircularDoublyLinkedList(0L, 1L << 32, Long.MIN_VALUE, Long.MAX_VALUE);
+
+            assertTrue(testlist.removeData(1L << 32));         // would match 0 if the value were cut to an int
+            assertEquals(Long.MIN_VALUE, testlist.get(1));
+            assertEquals(Long.MAX_VALUE, testlist.get(2));
+            assertEquals("[0, -9223372036854775808, 9223372036854775807]", testlist.toString());
+            assertEquals(-1L, testlist.stream().sum());
+        }
+    }
+
+    @Nested
+    @DisplayName("iteration Tests")
+    class iterationTests
+    {
+        @Test
+        @DisplayName("Iterates and streams every value in order")
+        public void iterates()
+        {
+            LongCircularDoublyLinkedList testlist;
+            PrimitiveIterator.OfLong     iter;
+
+            testlist = new LongCircularDoublyLinkedList(1L, 2L, 3L);
+            iter     = testlist.iterator();
+
+            assertEquals(1L, iter.nextLong());
+            assertEquals(2L, iter.nextLong());
+            assertEquals(3L, iter.nextLong());
+            assertFalse(iter.hasNext());
+            assertEquals(6L, testlist.stream().sum());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package Test;
+
+import Main.LruCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for LRU Cache
+ * @author Julia Reynolds
+ */
+public class LruCacheTest
+{
+    @Nested
+    @DisplayName("get and put Tests")
+    class getPutTests
+    {
+        @Test
+        @DisplayName("Stores and finds values")
+        public void storesValues()
+        {
+            LruCache<String, Integer> cache;
+
+            cache = new LruCache<>(3);
+
+            assertNull(cache.put("A", 1));
+            assertNull(cache.put("B", 2));
+            assertEquals(1, cache.put("A", 10));
+
+            assertEquals(10, cache.get("A"));
+            assertEquals(2, cache.get("B"));
+            assertNull(cache.get("Z"));
+            assertEquals(2, cache.size());
+        }
+
+        @Test
+        @DisplayName("Keeps entries in order of use")
+        public void ordersByUse()
+        {
+            LruCache<String, Integer> cache;
+
+            cache = new LruCache<>(3);
+
+            cache.put("A", 1);
+            cache.put("B", 2);
+            cache.put("C", 3);
+            cache.get("A");
+
+            assertEquals("{A=1, C=3, B=2}", cache.toString());
+        }
+
+        @Test
+        @DisplayName("Removes entries")
+        public void removesEntries()
+        {
+            LruCache<String, Integer> cache;
+
+            cache = new LruCache<>(3);
+
+            cache.put("A", 1);
+            cache.put("B", 2);
+
+            assertEquals(1, cache.remove("A"));
+            assertNull(cache.remove("A"));
+            assertFalse(cache.containsKey("A"));
+            assertEquals(1, cache.size());
+        }
+
+        @Test
+        @DisplayName("throws exception when capacity is less than 1")
+        public void badCapacity()
+        {
+            assertThrows(IllegalArgumentException.class, () -> new LruCache<String, Integer>(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("eviction Tests")
+    class evictionTests
+    {
+        @Test
+        @DisplayName("Evicts the least recently used entry and tells the listener")
+        public void evictsLeastRecent()
+        {
+            LruCache<String, Integer> cache;
+            List<String>              evicted;
+
+            evicted = new ArrayList<>();
+            cache   = new LruCache<>(2, (key, value) -> evicted.add(key + "=" + value));
+
+            cache.put("A", 1);
+            cache.put("B", 2);
+            cache.get("A");
+            cache.put("C", 3);
+
+            assertEquals(List.of("B=2"), evicted);
+            assertFalse(cache.containsKey("B"));
+            assertEquals("{C=3, A=1}", cache.toString());
+        }
+
+        @Test
+        @DisplayName("Counts hits, misses, and evictions")
+        public void countsStats()
+        {
+            LruCache<Integer, Integer> cache;
+            int                        idx;
+
+            cache = new LruCache<>(10);
+
+            for (idx = 0; idx < 15; idx++)
+            {
+                cache.put(idx, idx);
+            }
+
+            cache.get(14);
+            cache.get(0);
+
+            assertEquals(1, cache.hitCount());
+            assertEquals(1, cache.missCount());
+            assertEquals(5, cache.evictionCount());
+            assertEquals(10, cache.size());
+        }
+    }
+}
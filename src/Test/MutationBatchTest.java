@@ -0,0 +1,336 @@
+package Test;
+
+import Main.CircularDoublyLinkedList;
+import Main.MutationBatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Mutation Batch
+ * @author Julia Reynolds
+ */
+public class MutationBatchTest
+{
+    @Nested
+    @DisplayName("recording Tests")
+    class recordingTests
+    {
+        @Test
+        @DisplayName("Counts every recorded edit and empties on clear")
+        public void sizeAndClear()
+        {
+            MutationBatch<String> batch;
+
+            batch = new MutationBatch<>();
+
+            assertTrue(batch.isEmpty());
+
+            batch.addLast("a");
+            batch.addAtIndex("b", 3);
+            batch.removeIndex(0);
+
+            assertEquals(3, batch.size());
+            assertFalse(batch.isEmpty());
+
+            batch.clear();
+
+            assertEquals(0, batch.size());
+            assertTrue(batch.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Throws exception on a negative index")
+        public void negativeIndex()
+        {
+            MutationBatch<String> batch;
+
+            batch = new MutationBatch<>();
+
+            assertThrows(IndexOutOfBoundsException.class, () -> batch.addAtIndex("a", -1));
+            assertThrows(IndexOutOfBoundsException.class, () -> batch.removeIndex(-1));
+            assertTrue(batch.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("apply Tests")
+    class applyTests
+    {
+        @Test
+        @DisplayName("Indexes refer to the list as it was before the batch")
+        public void snapshotIndexes()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            MutationBatch<String>            batch;
+
+            testlist = new CircularDoublyLinkedList<>("a", "b", "c", "d");
+            batch    = new MutationBatch<>();
+
+            batch.removeIndex(3);
+            batch.addAtIndex("x", 1);
+            batch.removeIndex(1);
+            batch.addLast("z");
+            batch.addAtIndex("y", 1);
+            batch.addAtIndex("w", 4);
+            batch.removeIndex(0);
+
+            testlist.apply(batch);
+
+            assertEquals("[x, y, c, w, z]", testlist.toString());
+            assertEquals(5, testlist.size());
+            assertEquals("w", testlist.get(3));
+            assertEquals("z", testlist.getLast());
+        }
+
+        @Test
+        @DisplayName("Gives the same list as applying random edits one at a time")
+        public void matchesOneAtATime()
+        {
+            CircularDoublyLinkedList<Integer> testlist;
+            MutationBatch<Integer>            batch;
+            List<List<Integer>>               addsAt;
+            List<Integer>                     expected, appends;
+            boolean[]                         removed;
+            Random                            random;
+            int                               size, index;
+
+            random = new Random(25);
+
+            for (int round = 0; round < 50; round++)
+            {
+                size     = random.nextInt(40);
+                testlist = new CircularDoublyLinkedList<>();
+                batch    = new MutationBatch<>();
+                addsAt   = new ArrayList<>();
+                appends  = new ArrayList<>();
+                removed  = new boolean[size];
+                expected = new ArrayList<>();
+
+                for (int idx = 0; idx <= size; idx++)
+                {
+                    if (idx < size)
+                    {
+                        testlist.addLast(idx);
+                    }
+
+                    addsAt.add(new ArrayList<>());
+                }
+
+                for (int edit = 0; edit < 30; edit++)
+                {
+                    index = random.nextInt(size + 1);
+
+                    switch (random.nextInt(3))
+                    {
+                        case 0:
+                            batch.addLast(1000 + edit);
+                            appends.add(1000 + edit);
+                            break;
+                        case 1:
+                            batch.addAtIndex(1000 + edit, index);
+                            addsAt.get(index).add(1000 + edit);
+                            break;
+                        default:
+                            if (index < size && !removed[index])
+                            {
+                                batch.removeIndex(index);
+                                removed[index] = true;
+                            }
+                    }
+                }
+
+                // the adds at each index go right before the element that was there, and appends go last
+                for (int idx = 0; idx <= size; idx++)
+                {
+                    expected.addAll(addsAt.get(idx));
+
+                    if (idx < size && !removed[idx])
+                    {
+                        expected.add(idx);
+                    }
+                }
+
+                expected.addAll(appends);
+
+                testlist.apply(batch);
+
+                assertEquals(expected, new ArrayList<>(testlist));
+                assertEquals(expected.size(), testlist.size());
+
+                if (!expected.isEmpty())
+                {
+                    assertEquals(expected.get(expected.size() / 2), testlist.get(expected.size() / 2));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Throws exception without changing the list if an index is out of bounds")
+        public void outOfBounds()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            MutationBatch<String>            batch;
+
+            testlist = new CircularDoublyLinkedList<>("a", "b", "c");
+            batch    = new MutationBatch<>();
+
+            batch.removeIndex(0);
+            batch.addLast("d");
+            batch.addAtIndex("x", 3);
+            batch.removeIndex(3);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.apply(batch));
+            assertEquals("[a, b, c]", testlist.toString());
+
+            batch.clear();
+            batch.addAtIndex("x", 4);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.apply(batch));
+            assertEquals("[a, b, c]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Throws exception without changing the list if an index is removed twice")
+        public void removedTwice()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            MutationBatch<String>            batch;
+
+            testlist = new CircularDoublyLinkedList<>("a", "b", "c");
+            batch    = new MutationBatch<>();
+
+            batch.removeIndex(1);
+            batch.addAtIndex("x", 1);
+            batch.removeIndex(1);
+
+            assertThrows(IllegalArgumentException.class, () -> testlist.apply(batch));
+            assertEquals("[a, b, c]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Applies to an empty list and with an empty batch")
+        public void emptyListAndBatch()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            MutationBatch<String>            batch;
+
+            testlist = new CircularDoublyLinkedList<>();
+            batch    = new MutationBatch<>();
+
+            testlist.apply(batch);
+
+            assertEquals("[]", testlist.toString());
+
+            batch.addAtIndex("b", 0);
+            batch.addLast("c");
+            batch.addAtIndex("a", 0);
+
+            testlist.apply(batch);
+
+            assertEquals("[b, a, c]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Can be applied again to another list")
+        public void reuse()
+        {
+            CircularDoublyLinkedList<String> first, second;
+            MutationBatch<String>            batch;
+
+            first  = new CircularDoublyLinkedList<>("a", "b", "c");
+            second = new CircularDoublyLinkedList<>("d", "e", "f");
+            batch  = new MutationBatch<>();
+
+            batch.addAtIndex("x", 2);
+            batch.removeIndex(0);
+
+            first.apply(batch);
+            second.apply(batch);
+
+            assertEquals("[b, x, c]", first.toString());
+            assertEquals("[e, x, f]", second.toString());
+        }
+
+        @Test
+        @DisplayName("Works on a reversed list")
+        public void reversedList()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            MutationBatch<String>            batch;
+
+            testlist = new CircularDoublyLinkedList<>("a", "b", "c", "d");
+            batch    = new MutationBatch<>();
+
+            testlist.reverse();
+
+            batch.removeIndex(1);
+            batch.addAtIndex("x", 3);
+            batch.addLast("y");
+
+            testlist.apply(batch);
+
+            assertEquals("[d, b, x, a, y]", testlist.toString());
+            assertEquals("a", testlist.get(3));
+        }
+
+        @Test
+        @DisplayName("A bounded list evicts from the front once the whole batch is in")
+        public void boundedEvicts()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            MutationBatch<String>            batch;
+            List<String>                     evicted;
+
+            evicted  = new ArrayList<>();
+            testlist = CircularDoublyLinkedList.bounded(3, evicted::add);
+            batch    = new MutationBatch<>();
+
+            testlist.addLast("a");
+            testlist.addLast("b");
+            testlist.addLast("c");
+
+            batch.addLast("d");
+            batch.addLast("e");
+            batch.addAtIndex("x", 2);
+            batch.removeIndex(2);
+
+            testlist.apply(batch);
+
+            assertEquals("[x, d, e]", testlist.toString());
+            assertEquals(List.of("a", "b"), evicted);
+        }
+
+        @Test
+        @DisplayName("Keeps the value index up to date")
+        public void valueIndex()
+        {
+            CircularDoublyLinkedList<String> testlist;
+            MutationBatch<String>            batch;
+
+            testlist = new CircularDoublyLinkedList<>("a", "b", "c");
+            batch    = new MutationBatch<>();
+
+            testlist.enableValueIndex();
+
+            batch.removeIndex(1);
+            batch.addAtIndex("x", 0);
+            batch.addLast("y");
+
+            testlist.apply(batch);
+
+            assertFalse(testlist.contains("b"));
+            assertTrue(testlist.contains("x"));
+            assertEquals(0, testlist.indexOf("x"));
+            assertEquals(3, testlist.indexOf("y"));
+            assertTrue(testlist.removeData("a"));
+            assertEquals("[x, c, y]", testlist.toString());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package Test;
+
+import Main.ElementCodecs;
+import Main.OffHeapCircularDoublyLinkedList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Off Heap Circular Doubly Linked List
+ * @author Julia Reynolds
+ */
+public class OffHeapCircularDoublyLinkedListTest
+{
+    @Nested
+    @DisplayName("add and remove Tests")
+    class addRemoveTests
+    {
+        @Test
+        @DisplayName("Adds at the front, end, and middle")
+        public void addsAtIndex()
+        {
+            OffHeapCircularDoublyLinkedList<Integer> testlist;
+
+            testlist = new OffHeapCircularDoublyLinkedList<>(ElementCodecs.INTEGER);
+
+            testlist.addLast(2);
+            testlist.addLast(4);
+            testlist.addFirst(1);
+            testlist.addLast(5);
+            testlist.addAtIndex(3, 2);
+
+            assertEquals("[1, 2, 3, 4, 5]", testlist.toString());
+            assertEquals(5, testlist.size());
+        }
+
+        @Test
+        @DisplayName("Removes by index and by data, and replaces data")
+        public void removesAndSets()
+        {
+            OffHeapCircularDoublyLinkedList<Long> testlist;
+
+            testlist = new OffHeapCircularDoublyLinkedList<>(ElementCodecs.LONG);
+
+            for (long value = 1; value <= 4; value++)
+            {
+                testlist.addLast(value);
+            }
+
+            assertEquals(3L, testlist.removeIndex(2));
+            assertTrue(testlist.removeData(1L));
+            assertFalse(testlist.removeData(9L));
+            assertEquals(2L, testlist.set(0, 7L));
+            assertTrue(testlist.contains(7L));
+            assertEquals("[7, 4]", testlist.toString());
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.get(2));
+        }
+
+        @Test
+        @DisplayName("Matches an ArrayList across many random operations over several pages")
+        public void matchesArrayList()
+        {
+            OffHeapCircularDoublyLinkedList<Double> testlist;
+            List<Double>                            expected;
+            Random                                  random;
+            int                                     step, index;
+
+            testlist = new OffHeapCircularDoublyLinkedList<>(ElementCodecs.DOUBLE);
+            expected = new ArrayList<>();
+            random   = new Random(11);
+
+            for (step = 0; step < 30000; step++)
+            {
+                if (expected.isEmpty() || random.nextInt(3) > 0)
+                {
+                    index = random.nextInt(expected.size() + 1);
+                    testlist.addAtIndex(step / 2.0, index);
+                    expected.add(index, step / 2.0);
+                }
+                else
+                {
+                    index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), testlist.removeIndex(index));
+                }
+            }
+
+            assertEquals(expected, testlist.stream().toList());
+            assertTrue(testlist.offHeapBytes() > 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("iterator and close Tests")
+    class iteratorCloseTests
+    {
+        @Test
+        @DisplayName("Iterator removes elements while going through the list")
+        public void iteratorRemoves()
+        {
+            OffHeapCircularDoublyLinkedList<Integer> testlist;
+            Iterator<Integer>                        iter;
+
+            testlist = new OffHeapCircularDoublyLinkedList<>(ElementCodecs.INTEGER);
+
+            for (int value = 1; value <= 6; value++)
+            {
+                testlist.addLast(value);
+            }
+
+            for (iter = testlist.iterator(); iter.hasNext(); )
+            {
+                if (iter.next() % 2 == 0)
+                {
+                    iter.remove();
+                }
+            }
+
+            assertEquals("[1, 3, 5]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Throws exception when used after close")
+        public void closed()
+        {
+            OffHeapCircularDoublyLinkedList<Integer> testlist;
+
+            testlist = new OffHeapCircularDoublyLinkedList<>(ElementCodecs.INTEGER);
+
+            try (testlist)
+            {
+                testlist.addLast(1);
+            }
+
+            assertEquals(0, testlist.offHeapBytes());
+            assertThrows(IllegalStateException.class, () -> testlist.addLast(2));
+            assertThrows(IllegalStateException.class, () -> testlist.get(0));
+        }
+
+        @Test
+        @DisplayName("Throws exception for codecs that aren't fixed width and for null")
+        public void rejectsBadInput()
+        {
+            OffHeapCircularDoublyLinkedList<Integer> testlist;
+
+            testlist = new OffHeapCircularDoublyLinkedList<>(ElementCodecs.INTEGER);
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> new OffHeapCircularDoublyLinkedList<>(ElementCodecs.STRING));
+            assertThrows(NullPointerException.class, () -> testlist.addLast(null));
+            assertEquals(0, testlist.size());
+        }
+    }
+}
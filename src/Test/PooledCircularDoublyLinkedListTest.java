@@ -0,0 +1,134 @@
+package Test;
+
+import Main.PooledCircularDoublyLinkedList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Pooled Circular Doubly Linked List
+ * @author Julia Reynolds
+ */
+public class PooledCircularDoublyLinkedListTest
+{
+    @Nested
+    @DisplayName("add and remove Tests")
+    class addRemoveTests
+    {
+        @Test
+        @DisplayName("Can construct list with data")
+        public void infiniteConstructor()
+        {
+            PooledCircularDoublyLinkedList<Integer> testlist;
+
+            testlist = new PooledCircularDoublyLinkedList<>(1, 3, 4, 6, 8, 0);
+
+            assertEquals("[1, 3, 4, 6, 8, 0]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Adds at the front, end, and middle")
+        public void addsAtIndex()
+        {
+            PooledCircularDoublyLinkedList<String> testlist;
+
+            testlist = new PooledCircularDoublyLinkedList<>("B", "D");
+
+            testlist.addFirst("A");
+            testlist.addLast("E");
+            testlist.addAtIndex("C", 2);
+
+            assertEquals("[A, B, C, D, E]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Removes by index and by data")
+        public void removes()
+        {
+            PooledCircularDoublyLinkedList<String> testlist;
+
+            testlist = new PooledCircularDoublyLinkedList<>("A", "B", "C", "D");
+
+            assertEquals("C", testlist.removeIndex(2));
+            assertTrue(testlist.removeData("A"));
+            assertFalse(testlist.removeData("Z"));
+            assertEquals("[B, D]", testlist.toString());
+            assertEquals(2, testlist.size());
+        }
+
+        @Test
+        @DisplayName("throws exception when index is out of bounds")
+        public void outOfBounds()
+        {
+            PooledCircularDoublyLinkedList<String> testlist;
+
+            testlist = new PooledCircularDoublyLinkedList<>("A", "B");
+
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.removeIndex(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.get(-1));
+        }
+
+        @Test
+        @DisplayName("Matches an ArrayList across many random operations")
+        public void matchesArrayList()
+        {
+            PooledCircularDoublyLinkedList<Integer> testlist;
+            List<Integer>                           expected;
+            Random                                  random;
+            int                                     step, index;
+
+            testlist = new PooledCircularDoublyLinkedList<>();
+            expected = new ArrayList<>();
+            random   = new Random(7);
+
+            for (step = 0; step < 5000; step++)
+            {
+                if (expected.isEmpty() || random.nextBoolean())
+                {
+                    index = random.nextInt(expected.size() + 1);
+                    testlist.addAtIndex(step, index);
+                    expected.add(index, step);
+                }
+                else
+                {
+                    index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), testlist.removeIndex(index));
+                }
+            }
+
+            assertEquals(expected, testlist.stream().toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("iterator Tests")
+    class iteratorTests
+    {
+        @Test
+        @DisplayName("Iterator removes elements while going through the list")
+        public void iteratorRemoves()
+        {
+            PooledCircularDoublyLinkedList<Integer> testlist;
+            Iterator<Integer>                       iter;
+
+            testlist = new PooledCircularDoublyLinkedList<>(1, 2, 3, 4, 5, 6);
+
+            for (iter = testlist.iterator(); iter.hasNext(); )
+            {
+                if (iter.next() % 2 == 0)
+                {
+                    iter.remove();
+                }
+            }
+
+            assertEquals("[1, 3, 5]", testlist.toString());
+        }
+    }
+}
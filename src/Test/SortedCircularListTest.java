@@ -0,0 +1,131 @@
+package Test;
+
+import Main.SortedCircularList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Sorted Circular List
+ * @author Julia Reynolds
+ */
+public class SortedCircularListTest
+{
+    @Nested
+    @DisplayName("addSorted Tests")
+    class addSortedTests
+    {
+        @Test
+        @DisplayName("Keeps random adds in sorted order")
+        public void keepsOrder()
+        {
+            SortedCircularList<Integer> testlist;
+            List<Integer>               expected;
+            Random                      random;
+
+            testlist = new SortedCircularList<>();
+            expected = new ArrayList<>();
+            random   = new Random(11);
+
+            for (int idx = 0; idx < 500; idx++)
+            {
+                expected.add(random.nextInt(100));
+                testlist.addSorted(expected.get(idx));
+            }
+
+            expected.sort(null);
+
+            assertEquals(expected, new ArrayList<>(testlist));
+            assertEquals(expected.get(250), testlist.get(250));
+            assertEquals(0, testlist.first());
+            assertEquals(99, testlist.last());
+        }
+
+        @Test
+        @DisplayName("Adds elements that compare equal after the ones already there")
+        public void stableForEqualElements()
+        {
+            SortedCircularList<String> testlist;
+
+            testlist = new SortedCircularList<>(Comparator.comparing(String::length));
+
+            testlist.addSorted("bb");
+            testlist.addSorted("a");
+            testlist.addSorted("cc");
+            testlist.addSorted("ddd");
+            testlist.add("ee");
+            testlist.addSorted("f");
+
+            assertEquals("[a, f, bb, cc, ee, ddd]", testlist.toString());
+        }
+
+        @Test
+        @DisplayName("Sorts the data given to the constructor")
+        public void sortsConstructorData()
+        {
+            SortedCircularList<Integer> testlist;
+
+            testlist = new SortedCircularList<>(Comparator.reverseOrder(), List.of(3, 9, 1, 7));
+
+            assertEquals("[9, 7, 3, 1]", testlist.toString());
+
+            testlist.addSorted(5);
+            assertEquals("[9, 7, 5, 3, 1]", testlist.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("remove and merge Tests")
+    class removeMergeTests
+    {
+        @Test
+        @DisplayName("Removes by index, value, either end, and through the iterator")
+        public void removes()
+        {
+            SortedCircularList<Integer> testlist;
+            Iterator<Integer>           iterator;
+
+            testlist = new SortedCircularList<>(null, List.of(5, 3, 8, 1, 9, 4));
+
+            assertEquals(3, testlist.removeIndex(1));
+            assertTrue(testlist.removeData(8));
+            assertFalse(testlist.removeData(8));
+            assertEquals(1, testlist.pollFirst());
+            assertEquals(9, testlist.pollLast());
+
+            iterator = testlist.iterator();
+            iterator.next();
+            iterator.remove();
+
+            assertEquals("[5]", testlist.toString());
+            assertTrue(testlist.contains(5));
+        }
+
+        @Test
+        @DisplayName("Merges another sorted list and leaves it empty")
+        public void merges()
+        {
+            SortedCircularList<Integer> testlist, other;
+
+            testlist = new SortedCircularList<>(null, List.of(1, 4, 6, 10));
+            other    = new SortedCircularList<>(null, List.of(2, 3, 7, 11, 12));
+
+            testlist.mergeSorted(other);
+
+            assertEquals("[1, 2, 3, 4, 6, 7, 10, 11, 12]", testlist.toString());
+            assertEquals(0, other.size());
+
+            testlist.addSorted(5);
+            assertEquals(5, testlist.get(4));
+            assertThrows(IllegalArgumentException.class, () -> testlist.mergeSorted(testlist));
+        }
+    }
+}
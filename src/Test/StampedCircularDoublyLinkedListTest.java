@@ -0,0 +1,218 @@
+package Test;
+
+import Main.MutationBatch;
+import Main.StampedCircularDoublyLinkedList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Stamped Circular Doubly Linked List
+ * @author Julia Reynolds
+ */
+public class StampedCircularDoublyLinkedListTest
+{
+    @Nested
+    @DisplayName("read and write Tests")
+    class readWriteTests
+    {
+        @Test
+        @DisplayName("Reads see every write")
+        public void readsSeeWrites()
+        {
+            StampedCircularDoublyLinkedList<String> testlist;
+
+            testlist = new StampedCircularDoublyLinkedList<>("B", "D");
+
+            testlist.addFirst("A");
+            testlist.addLast("E");
+            testlist.addAtIndex("C", 2);
+            assertEquals("[A, B, C, D, E]", testlist.toString());
+
+            assertEquals("C", testlist.removeIndex(2));
+            assertTrue(testlist.removeData("E"));
+            assertEquals("A", testlist.set(0, "Z"));
+
+            assertEquals("Z", testlist.get(0));
+            assertEquals("D", testlist.get(2));
+            assertTrue(testlist.contains("B"));
+            assertEquals(3, testlist.size());
+        }
+
+        @Test
+        @DisplayName("throws exception when index is out of bounds")
+        public void outOfBounds()
+        {
+            StampedCircularDoublyLinkedList<String> testlist;
+
+            testlist = new StampedCircularDoublyLinkedList<>("A", "B");
+
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.get(2));
+            testlist.toString();
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.get(2));
+        }
+
+        @Test
+        @DisplayName("Gets every index from either end without a snapshot")
+        public void getsWithoutSnapshot()
+        {
+            StampedCircularDoublyLinkedList<Integer> testlist;
+
+            testlist = new StampedCircularDoublyLinkedList<>();
+
+            for (int idx = 0; idx < 9; idx++)
+            {
+                testlist.addLast(idx);
+            }
+
+            for (int idx = 0; idx < 9; idx++)
+            {
+                testlist.set(idx, idx * 10);    // every write throws the snapshot away
+                assertEquals(idx * 10, testlist.get(idx));
+                assertEquals((8 - idx <= idx) ? (8 - idx) * 10 : 8 - idx, testlist.get(8 - idx));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("snapshot Tests")
+    class snapshotTests
+    {
+        @Test
+        @DisplayName("Snapshot does not change when the list does")
+        public void snapshotIsFrozen()
+        {
+            StampedCircularDoublyLinkedList<String> testlist;
+            List<String>                            snapshot;
+
+            testlist = new StampedCircularDoublyLinkedList<>("A", "B");
+            snapshot = testlist.snapshot();
+
+            testlist.addLast("C");
+
+            assertEquals(List.of("A", "B"), snapshot);
+            assertEquals(List.of("A", "B", "C"), testlist.snapshot());
+            assertThrows(UnsupportedOperationException.class, () -> snapshot.add("Z"));
+        }
+
+        @Test
+        @DisplayName("Snapshot is shared until the list changes")
+        public void snapshotIsShared()
+        {
+            StampedCircularDoublyLinkedList<String> testlist;
+
+            testlist = new StampedCircularDoublyLinkedList<>("A", "B");
+
+            assertSame(testlist.snapshot(), testlist.snapshot());
+            testlist.removeData("Z");
+            assertEquals(List.of("A", "B"), testlist.snapshot());
+        }
+
+        @Test
+        @DisplayName("Readers always see a whole list while a writer is busy")
+        public void readersSeeWholeList() throws InterruptedException
+        {
+            StampedCircularDoublyLinkedList<Integer> testlist;
+            AtomicBoolean                            failed;
+            List<Thread>                             readers;
+            int                                      idx;
+
+            testlist = new StampedCircularDoublyLinkedList<>(0, 1, 2, 3);
+            failed   = new AtomicBoolean(false);
+            readers  = new ArrayList<>();
+
+            for (idx = 0; idx < 4; idx++)
+            {
+                readers.add(new Thread(() ->
+                {
+                    int step, count;
+
+                    // the writer adds one element before taking one away, so there are always 4 or 5 elements
+                    for (step = 0; step < 2000; step++)
+                    {
+                        count = 0;
+
+                        for (Integer data : testlist)
+                        {
+                            count += (data == null) ? 100 : 1;
+                        }
+
+                        if ((count != 4 && count != 5) || testlist.get(step % 4) == null)
+                        {
+                            failed.set(true);
+                        }
+                    }
+                }));
+            }
+
+            readers.forEach(Thread::start);
+
+            for (idx = 0; idx < 2000; idx++)
+            {
+                testlist.addLast(idx);
+                testlist.removeIndex(0);
+            }
+
+            for (Thread reader : readers)
+            {
+                reader.join();
+            }
+
+            assertFalse(failed.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("apply Tests")
+    class applyTests
+    {
+        @Test
+        @DisplayName("Applies a whole batch and refreshes the snapshot")
+        public void appliesBatch()
+        {
+            StampedCircularDoublyLinkedList<String> testlist;
+            MutationBatch<String>                   batch;
+            List<String>                            snapshot;
+
+            testlist = new StampedCircularDoublyLinkedList<>("A", "B", "C");
+            batch    = new MutationBatch<>();
+            snapshot = testlist.snapshot();
+
+            batch.addAtIndex("X", 1);
+            batch.removeIndex(2);
+            batch.addLast("D");
+
+            testlist.apply(batch);
+
+            assertEquals(List.of("A", "B", "C"), snapshot);
+            assertEquals(List.of("A", "X", "B", "D"), testlist.snapshot());
+            assertEquals(4, testlist.size());
+        }
+
+        @Test
+        @DisplayName("A bad batch leaves the list and its snapshot alone")
+        public void badBatch()
+        {
+            StampedCircularDoublyLinkedList<String> testlist;
+            MutationBatch<String>                   batch;
+            List<String>                            snapshot;
+
+            testlist = new StampedCircularDoublyLinkedList<>("A", "B");
+            batch    = new MutationBatch<>();
+            snapshot = testlist.snapshot();
+
+            batch.addLast("C");
+            batch.removeIndex(2);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> testlist.apply(batch));
+            assertSame(snapshot, testlist.snapshot());
+            assertEquals(2, testlist.size());
+        }
+    }
+}